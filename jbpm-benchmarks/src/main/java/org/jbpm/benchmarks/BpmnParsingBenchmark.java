@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.drools.io.ByteArrayResource;
+import org.jbpm.bpmn2.xml.BPMNDISemanticModule;
+import org.jbpm.bpmn2.xml.BPMNExtensionsSemanticModule;
+import org.jbpm.bpmn2.xml.BPMNSemanticModule;
+import org.jbpm.compiler.xml.XmlProcessReader;
+import org.jbpm.compiler.xml.core.SemanticModules;
+import org.kie.api.io.Resource;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnProcessCompiler;
+import org.kie.kogito.process.bpmn2.ProcessDefinitionCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and compilation of the BPMN test resources of jbpm-bpmn2. The directory is taken from the
+ * <code>jbpm.benchmarks.bpmn.dir</code> system property; resources that cannot be compiled on their own
+ * (missing imports, rules or Java types) are skipped during setup.
+ * <p>
+ * <code>compileWithColdCache</code> and <code>compileWithWarmCache</code> compare application startup with an empty
+ * and with a filled {@link ProcessDefinitionCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BpmnParsingBenchmark {
+
+    public static final String BPMN_DIR_PROPERTY = "jbpm.benchmarks.bpmn.dir";
+
+    private List<String> sources;
+    private SemanticModules modules;
+    private Path warmCacheDirectory;
+
+    @Setup
+    public void setup() throws IOException {
+        Path dir = Paths.get(System.getProperty(BPMN_DIR_PROPERTY, "../jbpm-bpmn2/src/test/resources"));
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(p -> p.toString().endsWith(".bpmn2") || p.toString().endsWith(".bpmn")).sorted().collect(Collectors.toList());
+        }
+        sources = new ArrayList<>();
+        BpmnProcessCompiler compiler = new BpmnProcessCompiler();
+        for (Path file : files) {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            try {
+                compiler.from(null, resource(content));
+                sources.add(content);
+            } catch (RuntimeException e) {
+                // not compilable without its companion resources
+            }
+        }
+        if (sources.isEmpty()) {
+            throw new IllegalStateException("No BPMN resources found in " + dir.toAbsolutePath());
+        }
+        modules = new SemanticModules();
+        modules.addSemanticModule(new BPMNSemanticModule());
+        modules.addSemanticModule(new BPMNExtensionsSemanticModule());
+        modules.addSemanticModule(new BPMNDISemanticModule());
+
+        warmCacheDirectory = Files.createTempDirectory("jbpm-benchmarks-cache");
+        cachingCompiler(warmCacheDirectory).from(null, cachedResources());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        delete(warmCacheDirectory);
+    }
+
+    /**
+     * An empty cache directory for every invocation, so every resource is parsed and written to the cache.
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        private Path directory;
+
+        @Setup(Level.Invocation)
+        public void setup() throws IOException {
+            directory = Files.createTempDirectory("jbpm-benchmarks-cache");
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        for (String source : sources) {
+            XmlProcessReader reader = new XmlProcessReader(modules, Thread.currentThread().getContextClassLoader());
+            blackhole.consume(reader.read(new StringReader(source)));
+        }
+    }
+
+    @Benchmark
+    public List<BpmnProcess> compile() {
+        return new BpmnProcessCompiler().from(null, resources());
+    }
+
+    @Benchmark
+    public List<BpmnProcess> compileParallel() {
+        BpmnProcessCompiler compiler = new BpmnProcessCompiler();
+        compiler.setParallelParsing(true);
+        return compiler.from(null, resources());
+    }
+
+    @Benchmark
+    public List<BpmnProcess> compileWithColdCache(ColdCache cache) {
+        return cachingCompiler(cache.directory).from(null, cachedResources());
+    }
+
+    @Benchmark
+    public List<BpmnProcess> compileWithWarmCache() {
+        return cachingCompiler(warmCacheDirectory).from(null, cachedResources());
+    }
+
+    private static BpmnProcessCompiler cachingCompiler(Path cacheDirectory) {
+        BpmnProcessCompiler compiler = new BpmnProcessCompiler();
+        compiler.setDefinitionCache(new ProcessDefinitionCache(cacheDirectory));
+        return compiler;
+    }
+
+    /**
+     * Resources with a source path, only those are cached.
+     */
+    private Resource[] cachedResources() {
+        Resource[] resources = resources();
+        for (int i = 0; i < resources.length; i++) {
+            ((ByteArrayResource) resources[i]).setSourcePath("benchmark/process-" + i + ".bpmn2");
+        }
+        return resources;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(directory)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private Resource[] resources() {
+        Resource[] resources = new Resource[sources.size()];
+        for (int i = 0; i < resources.length; i++) {
+            resources[i] = resource(sources.get(i));
+        }
+        return resources;
+    }
+
+    private static Resource resource(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
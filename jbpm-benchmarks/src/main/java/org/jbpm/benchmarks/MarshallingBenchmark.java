@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Protobuf marshalling and unmarshalling of an active process instance waiting on a work item, with a small
+ * or a large variable payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarshallingBenchmark {
+
+    @Param({ "small", "large" })
+    public String payload;
+
+    private BpmnProcess process;
+    private ProcessInstance<BpmnVariables> instance;
+    private ProcessInstanceMarshallerService marshaller;
+    private byte[] marshalled;
+
+    @Setup
+    public void setup() {
+        process = ProcessFixtures.activate(ProcessFixtures.workItem());
+        marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+        instance = process.createInstance(BpmnVariables.create().set("payload", payload(payload)));
+        instance.start();
+        marshalled = marshaller.marshallProcessInstance(instance);
+    }
+
+    @Benchmark
+    public byte[] marshall() {
+        return marshaller.marshallProcessInstance(instance);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshall() {
+        return marshaller.unmarshallProcessInstance(marshalled, process);
+    }
+
+    private static Object payload(String size) {
+        int elements = "large".equals(size) ? 10_000 : 10;
+        List<String> values = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            values.add("value-" + i);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Start to end execution of processes that complete without waiting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessExecutionBenchmark {
+
+    @Param({ "10", "100" })
+    public int size;
+
+    private BpmnProcess straightThrough;
+    private BpmnProcess gatewayHeavy;
+    private BpmnProcess multiInstance;
+    private List<Integer> items;
+
+    @Setup
+    public void setup() {
+        straightThrough = ProcessFixtures.activate(ProcessFixtures.straightThrough(size));
+        gatewayHeavy = ProcessFixtures.activate(ProcessFixtures.gatewayHeavy(size / 10, 4));
+        multiInstance = ProcessFixtures.activate(ProcessFixtures.multiInstance());
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+        }
+    }
+
+    @Benchmark
+    public int straightThrough() {
+        return start(straightThrough, BpmnVariables.create());
+    }
+
+    @Benchmark
+    public int gatewayHeavy() {
+        return start(gatewayHeavy, BpmnVariables.create().set("flag", Boolean.TRUE));
+    }
+
+    @Benchmark
+    public int multiInstance() {
+        return start(multiInstance, BpmnVariables.create().set("items", items));
+    }
+
+    private static int start(BpmnProcess process, BpmnVariables variables) {
+        ProcessInstance<BpmnVariables> instance = process.createInstance(variables);
+        instance.start();
+        return instance.status();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.benchmarks;
+
+import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.factory.ForEachNodeFactory;
+import org.jbpm.workflow.core.node.Join;
+import org.jbpm.workflow.core.node.Split;
+import org.kie.kogito.StaticApplication;
+import org.kie.kogito.StaticConfig;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.kie.kogito.process.ProcessConfig;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnProcesses;
+import org.kie.kogito.process.impl.CachedWorkItemHandlerConfig;
+import org.kie.kogito.process.impl.DefaultProcessEventListenerConfig;
+import org.kie.kogito.process.impl.StaticProcessConfig;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+
+/**
+ * Process definitions used by the benchmarks, built through {@link RuleFlowProcessFactory}.
+ */
+public final class ProcessFixtures {
+
+    public static final String WORK_ITEM_NAME = "Benchmark";
+    public static final String SIGNAL_NAME = "go";
+
+    /**
+     * start -> <code>actions</code> script nodes -> end
+     */
+    public static RuleFlowProcess straightThrough(int actions) {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("straightThrough");
+        factory.name("Straight through").packageName("org.jbpm.benchmarks").dynamic(false).version("1.0");
+        factory.variable("counter", new ObjectDataType(Integer.class.getName()));
+        factory.startNode(1).name("Start").done();
+        long previous = 1;
+        for (int i = 0; i < actions; i++) {
+            long id = 100 + i;
+            factory.actionNode(id).name("Action " + i).action(kcontext -> {
+                Integer counter = (Integer) kcontext.getVariable("counter");
+                kcontext.setVariable("counter", counter == null ? 1 : counter + 1);
+            }).done();
+            factory.connection(previous, id, "_" + previous + "-_" + id);
+            previous = id;
+        }
+        factory.endNode(2).name("End").terminate(false).done();
+        factory.connection(previous, 2, "_" + previous + "-_2");
+        return factory.validate().getProcess();
+    }
+
+    /**
+     * start -> <code>gateways</code> times (parallel split into <code>branches</code> script nodes, parallel join,
+     * exclusive split with two guarded paths, exclusive join) -> end
+     */
+    public static RuleFlowProcess gatewayHeavy(int gateways, int branches) {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("gatewayHeavy");
+        factory.name("Gateway heavy").packageName("org.jbpm.benchmarks").dynamic(false).version("1.0");
+        factory.variable("flag", new ObjectDataType(Boolean.class.getName()));
+        factory.startNode(1).name("Start").done();
+        long previous = 1;
+        long id = 100;
+        for (int g = 0; g < gateways; g++) {
+            long split = id++;
+            long join = id++;
+            factory.splitNode(split).name("Parallel split " + g).type(Split.TYPE_AND).done();
+            factory.joinNode(join).name("Parallel join " + g).type(Join.TYPE_AND).done();
+            connect(factory, previous, split);
+            for (int b = 0; b < branches; b++) {
+                long branch = id++;
+                factory.actionNode(branch).name("Branch " + g + "." + b).action(kcontext -> {
+                }).done();
+                connect(factory, split, branch);
+                connect(factory, branch, join);
+            }
+
+            long xorSplit = id++;
+            long left = id++;
+            long right = id++;
+            long xorJoin = id++;
+            factory.splitNode(xorSplit).name("Exclusive split " + g).type(Split.TYPE_XOR)
+                    .constraint(left, connectionId(xorSplit, left), "DROOLS_DEFAULT", "java",
+                            kcontext -> Boolean.TRUE.equals(kcontext.getVariable("flag")), 1)
+                    .constraint(right, connectionId(xorSplit, right), "DROOLS_DEFAULT", "java",
+                            kcontext -> !Boolean.TRUE.equals(kcontext.getVariable("flag")), 2)
+                    .done();
+            factory.actionNode(left).name("Left " + g).action(kcontext -> {
+            }).done();
+            factory.actionNode(right).name("Right " + g).action(kcontext -> {
+            }).done();
+            factory.joinNode(xorJoin).name("Exclusive join " + g).type(Join.TYPE_XOR).done();
+            connect(factory, join, xorSplit);
+            connect(factory, xorSplit, left);
+            connect(factory, xorSplit, right);
+            connect(factory, left, xorJoin);
+            connect(factory, right, xorJoin);
+            previous = xorJoin;
+        }
+        factory.endNode(2).name("End").terminate(false).done();
+        connect(factory, previous, 2);
+        return factory.validate().getProcess();
+    }
+
+    /**
+     * start -> multi instance sub process running one script node per element of <code>items</code> -> end
+     */
+    public static RuleFlowProcess multiInstance() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("multiInstance");
+        factory.name("Multi instance").packageName("org.jbpm.benchmarks").dynamic(false).version("1.0");
+        factory.variable("items", new ObjectDataType("java.util.List"));
+        factory.startNode(1).name("Start").done();
+        ForEachNodeFactory<RuleFlowProcessFactory> forEach = factory.forEachNode(3);
+        forEach.metaData("UniqueId", "_3");
+        forEach.collectionExpression("items");
+        forEach.variable("item", new ObjectDataType(Object.class.getName()));
+        forEach.actionNode(4).action(kcontext -> kcontext.getVariable("item")).done();
+        forEach.linkIncomingConnections(4);
+        forEach.linkOutgoingConnections(4);
+        forEach.done();
+        factory.endNode(2).name("End").terminate(false).done();
+        connect(factory, 1, 3);
+        connect(factory, 3, 2);
+        return factory.validate().getProcess();
+    }
+
+    /**
+     * start -> intermediate catch event waiting for {@link #SIGNAL_NAME} -> end
+     */
+    public static RuleFlowProcess waitForSignal() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("waitForSignal");
+        factory.name("Wait for signal").packageName("org.jbpm.benchmarks").dynamic(false).version("1.0");
+        factory.variable("payload", new ObjectDataType(Object.class.getName()));
+        factory.startNode(1).name("Start").done();
+        factory.eventNode(3).name("Wait").eventType(SIGNAL_NAME).variableName("payload").done();
+        factory.endNode(2).name("End").terminate(false).done();
+        connect(factory, 1, 3);
+        connect(factory, 3, 2);
+        return factory.validate().getProcess();
+    }
+
+    /**
+     * start -> work item node {@link #WORK_ITEM_NAME} -> end, the instance keeps <code>payload</code> as variable
+     */
+    public static RuleFlowProcess workItem() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("workItem");
+        factory.name("Work item").packageName("org.jbpm.benchmarks").dynamic(false).version("1.0");
+        factory.variable("payload", new ObjectDataType(Object.class.getName()));
+        factory.startNode(1).name("Start").done();
+        factory.workItemNode(3).name("Task").workName(WORK_ITEM_NAME).done();
+        factory.endNode(2).name("End").terminate(false).done();
+        connect(factory, 1, 3);
+        connect(factory, 3, 2);
+        return factory.validate().getProcess();
+    }
+
+    public static BpmnProcess activate(RuleFlowProcess process) {
+        CachedWorkItemHandlerConfig handlers = new CachedWorkItemHandlerConfig();
+        handlers.register(WORK_ITEM_NAME, new WaitingWorkItemHandler());
+        ProcessConfig config = new StaticProcessConfig(handlers, new DefaultProcessEventListenerConfig(),
+                new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()));
+        StaticApplication application = new StaticApplication(new StaticConfig(null, config), new BpmnProcesses());
+        BpmnProcess bpmnProcess = new BpmnProcess(process, config, application);
+        bpmnProcess.activate();
+        return bpmnProcess;
+    }
+
+    private static void connect(RuleFlowProcessFactory factory, long from, long to) {
+        factory.connection(from, to, connectionId(from, to));
+    }
+
+    private static String connectionId(long from, long to) {
+        return "_" + from + "-_" + to;
+    }
+
+    /**
+     * Keeps the work item active until it is completed by the benchmark.
+     */
+    private static class WaitingWorkItemHandler implements KogitoWorkItemHandler {
+
+        @Override
+        public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            // completed by the benchmark
+        }
+
+        @Override
+        public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            // nothing to release
+        }
+    }
+
+    private ProcessFixtures() {
+        // It is not allowed to create instances of util classes.
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.bpmn2.rule;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbpm.process.core.datatype.impl.coverter.CloneHelper;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Bounded, least recently used memo of decision outputs of a single DMN model.
+ * <p>
+ * Entries are keyed by the evaluated decision and a SHA-256 fingerprint of the resolved inputs, serialized to JSON
+ * with map entries ordered by key so that equal inputs always produce the same key regardless of map ordering.
+ * <p>
+ * Outputs are deep copied when stored and again on every hit, so that process instances never share mutable
+ * decision results. Maps, collections and arrays are copied recursively, any other value through {@link CloneHelper}.
+ */
+class DecisionResultMemo {
+
+    private static final ObjectMapper CANONICAL_MAPPER = ObjectMapperFactory.get().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final Map<String, Map<String, Object>> results;
+
+    DecisionResultMemo(int maxEntries) {
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the key of the given inputs or <code>null</code> when they cannot be fingerprinted, in which case
+     * the result must not be memoized.
+     */
+    static String key(String decision, Map<String, Object> inputs) {
+        try {
+            String canonical = CANONICAL_MAPPER.writeValueAsString(inputs);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            if (decision != null) {
+                sb.append(decision).append(':');
+            }
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (JsonProcessingException e) {
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Map<String, Object> get(String key) {
+        Map<String, Object> outputs;
+        synchronized (this) {
+            outputs = results.get(key);
+        }
+        return outputs == null ? null : copyOf(outputs);
+    }
+
+    void put(String key, Map<String, Object> outputs) {
+        Map<String, Object> copy = copyOf(outputs);
+        synchronized (this) {
+            results.put(key, copy);
+        }
+    }
+
+    synchronized int size() {
+        return results.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T deepCopy(T value) {
+        Object copy;
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), deepCopy(entry.getValue()));
+            }
+            copy = map;
+        } else if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            for (Object item : (List<?>) value) {
+                list.add(deepCopy(item));
+            }
+            copy = list;
+        } else if (value instanceof Set) {
+            copy = copyInto(new LinkedHashSet<>(), (Set<?>) value);
+        } else if (value instanceof Collection) {
+            copy = copyInto(new ArrayList<>(), (Collection<?>) value);
+        } else if (value instanceof Object[]) {
+            Object[] array = ((Object[]) value).clone();
+            for (int i = 0; i < array.length; i++) {
+                array[i] = deepCopy(array[i]);
+            }
+            copy = array;
+        } else if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+        } else {
+            copy = CloneHelper.get().clone(value);
+        }
+        return (T) copy;
+    }
+
+    private static Collection<Object> copyInto(Collection<Object> target, Collection<?> source) {
+        for (Object item : source) {
+            target.add(deepCopy(item));
+        }
+        return target;
+    }
+
+    private static Map<String, Object> copyOf(Map<String, Object> outputs) {
+        Map<String, Object> copy = new HashMap<>();
+        for (Map.Entry<String, Object> entry : outputs.entrySet()) {
+            copy.put(entry.getKey(), deepCopy(entry.getValue()));
+        }
+        return copy;
+    }
+}
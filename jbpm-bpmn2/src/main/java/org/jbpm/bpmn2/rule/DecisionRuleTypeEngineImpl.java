@@ -16,8 +16,12 @@
 
 package org.jbpm.bpmn2.rule;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jbpm.process.core.transformation.JsonResolver;
@@ -33,14 +37,59 @@ import org.kie.kogito.decision.DecisionModel;
 import org.kie.kogito.dmn.DmnDecisionModel;
 import org.kie.kogito.dmn.rest.DMNJSONUtils;
 
+/**
+ * Evaluates DMN decisions of business rule tasks.
+ * <p>
+ * Results can be memoized per DMN model, which assumes that a decision only depends on its inputs. Models relying on
+ * anything else, such as the current date through <code>now()</code> or <code>today()</code>, would be served stale
+ * results and must be excluded, either with the <code>org.jbpm.decision.memo.excluded</code> system property (a
+ * comma separated list of model names) or through the constructor.
+ */
 public class DecisionRuleTypeEngineImpl implements DecisionRuleTypeEngine {
 
+    private static final String MEMO_SIZE_PROPERTY = "org.jbpm.decision.memo.size";
+    private static final String MEMO_EXCLUDED_PROPERTY = "org.jbpm.decision.memo.excluded";
+    private static final int DEFAULT_MEMO_SIZE = Integer.parseInt(System.getProperty(MEMO_SIZE_PROPERTY, "0"));
+    private static final Set<String> DEFAULT_MEMO_EXCLUDED = Arrays.stream(System.getProperty(MEMO_EXCLUDED_PROPERTY, "").split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+
     private final JsonResolver jsonResolver = new JsonResolver();
 
+    private final int memoSize;
+    private final Set<String> memoExcludedModels;
+    private final Map<String, DecisionResultMemo> memos = new ConcurrentHashMap<>();
+
+    public DecisionRuleTypeEngineImpl() {
+        this(DEFAULT_MEMO_SIZE, DEFAULT_MEMO_EXCLUDED);
+    }
+
+    /**
+     * @param memoSize maximum number of memoized results kept per DMN model, <code>0</code> disables memoization
+     */
+    public DecisionRuleTypeEngineImpl(int memoSize) {
+        this(memoSize, Collections.emptySet());
+    }
+
+    /**
+     * @param memoSize maximum number of memoized results kept per DMN model, <code>0</code> disables memoization
+     * @param memoExcludedModels names of the DMN models that are always evaluated, e.g. because they use the
+     *        current date or time
+     */
+    public DecisionRuleTypeEngineImpl(int memoSize, Set<String> memoExcludedModels) {
+        this.memoSize = memoSize;
+        this.memoExcludedModels = Set.copyOf(memoExcludedModels);
+    }
+
     @Override
     public void evaluate(RuleSetNodeInstance rsni, String inputNamespace, String inputModel, String decision) {
         String namespace = rsni.resolveExpression(inputNamespace);
         String model = rsni.resolveExpression(inputModel);
+        String decisionName = decision == null ? null : rsni.resolveExpression(decision);
+        if (decisionName != null && decisionName.isBlank()) {
+            decisionName = null;
+        }
 
         DecisionModel modelInstance =
                 Optional.ofNullable(rsni.getRuleSetNode().getDecisionModel())
@@ -51,8 +100,28 @@ public class DecisionRuleTypeEngineImpl implements DecisionRuleTypeEngine {
                         .get();
 
         //Input Binding
-        DMNContext context = DMNJSONUtils.ctx(modelInstance, jsonResolver.resolveAll(getInputs(rsni)));
-        DMNResult dmnResult = modelInstance.evaluateAll(context);
+        Map<String, Object> inputs = jsonResolver.resolveAll(getInputs(rsni));
+        DecisionResultMemo memo = memoSize > 0 && !memoExcludedModels.contains(model) ? memos.computeIfAbsent(namespace + '#' + model, k -> new DecisionResultMemo(memoSize)) : null;
+        String memoKey = memo != null ? DecisionResultMemo.key(decisionName, inputs) : null;
+        Map<String, Object> outputSet = memoKey != null ? memo.get(memoKey) : null;
+        if (outputSet == null) {
+            outputSet = evaluate(modelInstance, DMNJSONUtils.ctx(modelInstance, inputs), decisionName);
+            if (memoKey != null) {
+                memo.put(memoKey, outputSet);
+            }
+        }
+        //Output Binding
+        NodeIoHelper.processOutputs(rsni, outputSet::get, rsni::getVariable);
+
+        rsni.triggerCompleted();
+    }
+
+    /**
+     * Evaluates the named decision together with the decisions it requires, or the whole model when no decision
+     * is given.
+     */
+    private static Map<String, Object> evaluate(DecisionModel modelInstance, DMNContext context, String decisionName) {
+        DMNResult dmnResult = decisionName != null ? modelInstance.evaluateDecisionByName(context, decisionName) : modelInstance.evaluateAll(context);
         if (dmnResult.hasErrors()) {
             String errors = dmnResult.getMessages(DMNMessage.Severity.ERROR).stream()
                     .map(Object::toString)
@@ -60,10 +129,6 @@ public class DecisionRuleTypeEngineImpl implements DecisionRuleTypeEngine {
 
             throw new RuntimeException("DMN result errors:: " + errors);
         }
-        //Output Binding
-        Map<String, Object> outputSet = dmnResult.getContext().getAll();
-        NodeIoHelper.processOutputs(rsni, outputSet::get, rsni::getVariable);
-
-        rsni.triggerCompleted();
+        return dmnResult.getContext().getAll();
     }
 }
@@ -15,8 +15,13 @@
  */
 package org.kie.kogito.process.bpmn2;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import org.jbpm.bpmn2.xml.BPMNDISemanticModule;
@@ -24,6 +29,7 @@ import org.jbpm.bpmn2.xml.BPMNExtensionsSemanticModule;
 import org.jbpm.bpmn2.xml.BPMNSemanticModule;
 import org.jbpm.compiler.xml.SemanticModule;
 import org.jbpm.compiler.xml.XmlProcessReader;
+import org.jbpm.compiler.xml.core.ExtensibleXmlParser;
 import org.jbpm.compiler.xml.core.SemanticModules;
 import org.jbpm.workflow.core.WorkflowProcess;
 import org.kie.api.definition.process.Node;
@@ -38,6 +44,12 @@ public class BpmnProcessCompiler {
 
     private final SemanticModules bpmnSemanticModules;
 
+    private boolean parallelParsing;
+
+    private ForkJoinPool parsingPool;
+
+    private ProcessDefinitionCache definitionCache;
+
     public BpmnProcessCompiler(SemanticModule... modules) {
         this.bpmnSemanticModules = new SemanticModules();
 
@@ -57,19 +69,67 @@ public class BpmnProcessCompiler {
         return bpmnSemanticModules;
     }
 
+    /**
+     * Enables parsing of independent resources in parallel on the given pool. Every resource is read
+     * by its own {@link XmlProcessReader}, the resulting processes are merged in resource order.
+     * <p>
+     * This differs from sequential parsing without a definition cache, where all resources share a single reader
+     * and its {@link org.jbpm.compiler.xml.ProcessBuildData}: there every resource sees the processes and meta data
+     * built from the resources read before it, and the returned list repeats the processes of a resource once for
+     * every resource read after it. In parallel mode, as with a definition cache, resources are read in isolation
+     * and every process is returned once.
+     * <p>
+     * The threads of the given pool outlive the call, so they drop their cached XML parsers after every resource.
+     * Without a pool, a dedicated one is created for every call and shut down afterwards.
+     */
+    public void setParallelParsing(boolean parallelParsing, ForkJoinPool parsingPool) {
+        this.parallelParsing = parallelParsing;
+        this.parsingPool = Objects.requireNonNull(parsingPool);
+    }
+
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
+    public boolean isParallelParsing() {
+        return parallelParsing;
+    }
+
+    /**
+     * Sets the binary cache used to skip XML parsing of resources that did not change since they were last read.
+     */
+    public void setDefinitionCache(ProcessDefinitionCache definitionCache) {
+        this.definitionCache = definitionCache;
+    }
+
+    public ProcessDefinitionCache getDefinitionCache() {
+        return definitionCache;
+    }
+
     public List<BpmnProcess> from(ProcessConfig config, Resource... resources) {
         try {
             BpmnProcesses bpmnProcesses = new BpmnProcesses();
             StaticApplication application = new StaticApplication(new StaticConfig(null, config), bpmnProcesses);
 
-            List<Process> processes = new ArrayList<>();
-            XmlProcessReader xmlReader = new XmlProcessReader(
-                    getSemanticModules(),
-                    Thread.currentThread().getContextClassLoader());
-            configureProcessReader(xmlReader, config);
-
-            for (Resource resource : resources) {
-                processes.addAll(xmlReader.read(resource.getReader()));
+            List<Process> processes;
+            if (parallelParsing && resources.length > 1) {
+                processes = parseInParallel(config, resources);
+            } else if (definitionCache != null) {
+                processes = new ArrayList<>();
+                ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                for (Resource resource : resources) {
+                    processes.addAll(parse(config, classLoader, resource));
+                }
+            } else {
+                processes = new ArrayList<>();
+                XmlProcessReader xmlReader = new XmlProcessReader(
+                        getSemanticModules(),
+                        Thread.currentThread().getContextClassLoader());
+                configureProcessReader(xmlReader, config);
+
+                for (Resource resource : resources) {
+                    processes.addAll(xmlReader.read(resource.getReader()));
+                }
             }
             List<BpmnProcess> bpmnProcessesList = processes.stream()
                     .map(p -> create(p, config, application))
@@ -89,10 +149,64 @@ public class BpmnProcessCompiler {
         }
     }
 
+    private List<Process> parseInParallel(ProcessConfig config, Resource... resources) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        boolean sharedPool = parsingPool != null;
+        ForkJoinPool pool = sharedPool ? parsingPool : new ForkJoinPool(Math.min(resources.length, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<ForkJoinTask<List<Process>>> tasks = new ArrayList<>(resources.length);
+            for (Resource resource : resources) {
+                tasks.add(pool.submit(() -> {
+                    try {
+                        return parse(config, classLoader, resource);
+                    } finally {
+                        if (sharedPool) {
+                            ExtensibleXmlParser.releaseThreadParsers();
+                        }
+                    }
+                }));
+            }
+            List<Process> processes = new ArrayList<>();
+            for (ForkJoinTask<List<Process>> task : tasks) {
+                processes.addAll(task.join());
+            }
+            return processes;
+        } finally {
+            if (!sharedPool) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private List<Process> parse(ProcessConfig config, ClassLoader classLoader, Resource resource) throws Exception {
+        if (definitionCache != null) {
+            return definitionCache.load(resource, readerFingerprint(config), content -> newProcessReader(config, classLoader).read(new ByteArrayInputStream(content)));
+        }
+        return newProcessReader(config, classLoader).read(resource.getReader());
+    }
+
+    private XmlProcessReader newProcessReader(ProcessConfig config, ClassLoader classLoader) {
+        XmlProcessReader xmlReader = new XmlProcessReader(getSemanticModules(), classLoader);
+        configureProcessReader(xmlReader, config);
+        return xmlReader;
+    }
+
     protected void configureProcessReader(XmlProcessReader xmlReader, ProcessConfig config) {
 
     }
 
+    /**
+     * Identifies the reader setup definitions are parsed with, cached definitions of another setup are parsed again.
+     * Covers the compiler class and the semantic modules; subclasses whose {@link #configureProcessReader} depends on
+     * the given config should add that configuration.
+     */
+    protected String readerFingerprint(ProcessConfig config) {
+        return getSemanticModules().modules.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> e.getKey() + "=" + e.getValue().getClass().getName())
+                .collect(Collectors.joining(",", getClass().getName() + "[", "]"));
+    }
+
     protected BpmnProcess create(Process process, ProcessConfig config, Application application) {
         return config == null ? new BpmnProcess(process) : new BpmnProcess(process, config, application);
     }
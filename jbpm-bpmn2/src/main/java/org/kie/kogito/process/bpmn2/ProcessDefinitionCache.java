@@ -0,0 +1,311 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.bpmn2;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
+import org.kie.api.definition.process.Process;
+import org.kie.api.io.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary cache of parsed process definitions.
+ * <p>
+ * Every cached resource is stored as a single file holding a key, the SHA-256 checksum of the serialized process
+ * graph (nodes, connections, contexts and actions) and the graph itself. The key is the SHA-256 hash of the BPMN
+ * source, the engine version and the fingerprint of the reader configuration the graph was parsed with, so upgrading
+ * the engine or changing the semantic modules invalidates the cache. When the key matches the one in the cache file
+ * and the graph is intact, the graph is read back directly and XML parsing is skipped. A missing, stale, corrupted or
+ * unreadable cache file falls back to parsing and is rewritten afterwards.
+ * <p>
+ * The checksum detects truncated or corrupted files, it does not protect against tampering: whoever can write the
+ * cache directory controls the deserialized graph, which is why the directory is created private to its owner.
+ * <p>
+ * Cache files live in a dedicated directory, by default <code>.kogito/process-definitions</code> below the user home,
+ * and are named after the hash of the resource source path; source trees are never written to. Resources without a
+ * source path are never cached. Only classes matching {@link #ALLOWED_CLASSES} (or the patterns given to the
+ * constructor) are deserialized, anything else makes the cache file be ignored.
+ */
+public class ProcessDefinitionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessDefinitionCache.class);
+
+    public static final String CACHE_FILE_EXTENSION = ".kpd";
+
+    /**
+     * Serial filter patterns of the classes a process graph is made of.
+     */
+    public static final String ALLOWED_CLASSES = "java.lang.*;java.util.*;java.time.*;java.math.*;"
+            + "org.jbpm.**;org.kie.**;org.drools.**;";
+
+    private static final int FORMAT_VERSION = 3;
+
+    private static final String ENGINE_VERSION = engineVersion();
+
+    private static final int MAX_DEPTH = 1000;
+
+    private final Path cacheDirectory;
+
+    private final ObjectInputFilter filter;
+
+    /**
+     * Creates a cache that stores definitions below the <code>.kogito/process-definitions</code> directory of the
+     * user home.
+     */
+    public ProcessDefinitionCache() {
+        this(Paths.get(System.getProperty("user.home"), ".kogito", "process-definitions"));
+    }
+
+    public ProcessDefinitionCache(Path cacheDirectory) {
+        this(cacheDirectory, "");
+    }
+
+    /**
+     * Creates a cache that also deserializes the classes matching the given {@link ObjectInputFilter} patterns,
+     * for definitions carrying meta data of application types.
+     */
+    public ProcessDefinitionCache(Path cacheDirectory, String allowedClasses) {
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory);
+        this.filter = ObjectInputFilter.Config.createFilter(ALLOWED_CLASSES + allowedClasses + ";maxdepth=" + MAX_DEPTH + ";!*");
+    }
+
+    @FunctionalInterface
+    public interface DefinitionParser {
+        List<Process> parse(byte[] content) throws Exception;
+    }
+
+    public List<Process> load(Resource resource, DefinitionParser parser) throws Exception {
+        return load(resource, "", parser);
+    }
+
+    /**
+     * Loads the definitions of the given resource, parsing it only when no cache entry exists for the same content,
+     * engine version and reader fingerprint.
+     *
+     * @param readerFingerprint identifies the reader configuration the parser applies, e.g. its semantic modules
+     */
+    public List<Process> load(Resource resource, String readerFingerprint, DefinitionParser parser) throws Exception {
+        byte[] content = readContent(resource);
+        String hash = key(content, readerFingerprint);
+        Path cacheFile = cacheFile(resource);
+        if (cacheFile != null) {
+            List<Process> cached = readCache(cacheFile, hash);
+            if (cached != null) {
+                logger.debug("Loaded process definitions of {} from cache {}", resource.getSourcePath(), cacheFile);
+                return cached;
+            }
+        }
+        List<Process> processes = parser.parse(content);
+        if (cacheFile != null) {
+            writeCache(cacheFile, hash, processes);
+        }
+        return processes;
+    }
+
+    protected Path cacheFile(Resource resource) {
+        String sourcePath = resource.getSourcePath();
+        if (sourcePath == null) {
+            return null;
+        }
+        return cacheDirectory.resolve(hash(sourcePath.getBytes(StandardCharsets.UTF_8)) + CACHE_FILE_EXTENSION);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Process> readCache(Path cacheFile, String hash) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(cacheFile))) {
+            if (in.readInt() != FORMAT_VERSION || !hash.equals(in.readUTF())) {
+                return null;
+            }
+            String payloadHash = in.readUTF();
+            byte[] payload = in.readAllBytes();
+            if (!payloadHash.equals(hash(payload))) {
+                logger.warn("Ignoring corrupted process definition cache {}", cacheFile);
+                return null;
+            }
+            try (ObjectInputStream objects = new ClassLoaderObjectInputStream(new ByteArrayInputStream(payload), Thread.currentThread().getContextClassLoader())) {
+                objects.setObjectInputFilter(filter);
+                return (List<Process>) objects.readObject();
+            }
+        } catch (Exception e) {
+            logger.debug("Ignoring unreadable process definition cache {} due to {}", cacheFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(Path cacheFile, String hash, List<Process> processes) {
+        Path tmpFile = null;
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new ObjectOutputStream(payload)) {
+                objects.writeObject(new ArrayList<>(processes));
+            }
+            byte[] bytes = payload.toByteArray();
+            Path parent = cacheFile.toAbsolutePath().getParent();
+            createDirectories(parent);
+            tmpFile = Files.createTempFile(parent, cacheFile.getFileName().toString(), ".tmp");
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmpFile));
+                    DataOutputStream out = new DataOutputStream(os)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(hash);
+                out.writeUTF(hash(bytes));
+                out.write(bytes);
+            }
+            try {
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // definitions holding non serializable meta data are simply not cached
+            logger.debug("Unable to write process definition cache {} due to {}", cacheFile, e.getMessage());
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException ex) {
+                    logger.debug("Unable to delete temporary cache file {}", tmpFile);
+                }
+            }
+        }
+    }
+
+    private static void createDirectories(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            // cache files are trusted input, so keep them private to the owner
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private static byte[] readContent(Resource resource) throws IOException {
+        try (InputStream is = resource.getInputStream()) {
+            return is.readAllBytes();
+        }
+    }
+
+    static String key(byte[] content, String readerFingerprint) {
+        MessageDigest digest = sha256();
+        digest.update(content);
+        digest.update((byte) 0);
+        digest.update(ENGINE_VERSION.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(readerFingerprint.getBytes(StandardCharsets.UTF_8));
+        return hex(digest.digest());
+    }
+
+    static String hash(byte[] content) {
+        return hex(sha256().digest(content));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] digest) {
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The release version of the engine; snapshots and unpackaged builds change without a version bump, so for them
+     * the build time of the parser and of the process graph classes is added.
+     */
+    static String engineVersion() {
+        String version = BpmnProcessCompiler.class.getPackage().getImplementationVersion();
+        if (version != null && !version.endsWith("-SNAPSHOT")) {
+            return version;
+        }
+        return version + "@" + lastModified(BpmnProcessCompiler.class) + "/" + lastModified(WorkflowProcessImpl.class);
+    }
+
+    private static long lastModified(Class<?> type) {
+        URL url = type.getResource(type.getSimpleName() + ".class");
+        if (url == null) {
+            return 0L;
+        }
+        try {
+            URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            return connection.getLastModified();
+        } catch (IOException e) {
+            logger.debug("Unable to read the build time of {} due to {}", type.getName(), e.getMessage());
+            return 0L;
+        }
+    }
+
+    private static class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // fall back to the default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
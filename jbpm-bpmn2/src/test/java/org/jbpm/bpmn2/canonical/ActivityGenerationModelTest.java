@@ -40,6 +40,9 @@ import org.jbpm.compiler.canonical.ProcessMetaData;
 import org.jbpm.compiler.canonical.ProcessToExecModelGenerator;
 import org.jbpm.compiler.canonical.UserTaskModelMetaData;
 import org.jbpm.process.instance.impl.demo.SystemOutWorkItemHandler;
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.factory.CompositeContextNodeFactory;
+import org.jbpm.ruleflow.core.validation.ProcessFingerprint;
 import org.junit.jupiter.api.Test;
 import org.kie.api.definition.process.Process;
 import org.kie.api.definition.process.WorkflowProcess;
@@ -67,6 +70,14 @@ import org.kie.memorycompiler.CompilationResult;
 import org.kie.memorycompiler.JavaCompiler;
 import org.kie.memorycompiler.JavaCompilerFactory;
 import org.kie.memorycompiler.JavaConfiguration;
+import org.slf4j.LoggerFactory;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -98,6 +109,76 @@ public class ActivityGenerationModelTest extends JbpmBpmn2TestCase {
         assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
     }
 
+    @Test
+    public void testGeneratedProcessSkipsRuntimeValidation() throws Exception {
+        BpmnProcess process = BpmnProcess.from(new ClassPathResource("BPMN2-MinimalProcess.bpmn2")).get(0);
+
+        ProcessMetaData metaData = ProcessToExecModelGenerator.INSTANCE.generate((WorkflowProcess) process.get());
+        String content = metaData.getGeneratedClassModel().toString();
+        assertThat(content).contains("validate(\"" + ProcessFingerprint.of((WorkflowProcess) process.get()) + "\")");
+        Map<String, String> classData = Collections.singletonMap("com.sample.MinimalProcess", content);
+
+        ch.qos.logback.classic.Logger factoryLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(RuleFlowProcessFactory.class);
+        Level level = factoryLogger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        factoryLogger.setLevel(Level.DEBUG);
+        factoryLogger.addAppender(appender);
+        try {
+            ProcessInstance<BpmnVariables> processInstance = createProcesses(classData, Collections.emptyMap()).get("Minimal").createInstance();
+            processInstance.start();
+            assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .containsExactly("Skipping validation of process Minimal, validated at build time");
+
+            appender.list.clear();
+            System.setProperty(RuleFlowProcessFactory.STRICT_VALIDATION_PROPERTY, "true");
+            createProcesses(classData, Collections.emptyMap());
+            assertThat(appender.list).isEmpty();
+        } finally {
+            System.clearProperty(RuleFlowProcessFactory.STRICT_VALIDATION_PROPERTY);
+            factoryLogger.detachAppender(appender);
+            factoryLogger.setLevel(level);
+        }
+    }
+
+    @Test
+    public void testLargeProcessIsSplitAndCompiles() throws Exception {
+        // a single sub process generating far more code than fits in one method
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("LargeProcess");
+        factory.name("LargeProcess").packageName("com.sample").version("1.0")
+                .startNode(1).name("start").done();
+        CompositeContextNodeFactory<RuleFlowProcessFactory> subProcess = factory.compositeContextNode(2).name("sub");
+        subProcess.startNode(10).name("sub start").done();
+        long last = 10;
+        for (long id = 11; id < 311; id++) {
+            subProcess.actionNode(id).name("action" + id).action("java", "System.out.println(\"action\");").done()
+                    .connection(id - 1, id);
+            last = id;
+        }
+        subProcess.endNode(last + 1).name("sub end").done()
+                .connection(last, last + 1)
+                .done()
+                .endNode(3).name("end").done()
+                .connection(1, 2)
+                .connection(2, 3);
+
+        ProcessMetaData metaData = ProcessToExecModelGenerator.INSTANCE.generate(factory.validate().getProcess());
+        CompilationUnit compilationUnit = metaData.getGeneratedClassModel();
+        MethodDeclaration processMethod = compilationUnit.findFirst(MethodDeclaration.class, method -> method.getNameAsString().equals("process")).orElseThrow();
+        // helpers are declared within process(), so they are kept wherever its body is copied to
+        assertThat(compilationUnit.findAll(MethodDeclaration.class)).hasSizeGreaterThan(3)
+                .allSatisfy(method -> assertThat(method.isDescendantOf(processMethod) || method == processMethod).isTrue());
+
+        Map<String, BpmnProcess> processes = createProcesses(Collections.singletonMap("com.sample.LargeProcessProcess", compilationUnit.toString()), Collections.emptyMap());
+
+        WorkflowProcess process = (WorkflowProcess) processes.get("LargeProcess").get();
+        assertThat(((org.kie.api.definition.process.NodeContainer) process.getNode(2)).getNodes()).hasSize(302);
+        ProcessInstance<BpmnVariables> processInstance = processes.get("LargeProcess").createInstance();
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+    }
+
     @Test
     public void testProcessEmptyScript() throws Exception {
         BpmnProcess process = BpmnProcess.from(new ClassPathResource("BPMN2-ProcessEmptyScript.bpmn2")).get(0);
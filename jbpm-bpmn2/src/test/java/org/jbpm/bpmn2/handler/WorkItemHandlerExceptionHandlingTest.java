@@ -15,19 +15,26 @@
  */
 package org.jbpm.bpmn2.handler;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.drools.kiesession.session.ProcessRuntimeFactory;
 import org.jbpm.bpmn2.JbpmBpmn2TestCase;
 import org.jbpm.bpmn2.objects.TestWorkItemHandler;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.ProcessRuntimeFactoryServiceImpl;
+import org.jbpm.workflow.instance.WorkflowRuntimeException;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
+import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kie.api.runtime.process.ProcessRuntime;
+import org.kie.api.runtime.process.ProcessWorkItemHandlerException;
 import org.kie.api.runtime.process.ProcessWorkItemHandlerException.HandlingStrategy;
 import org.kie.api.runtime.process.WorkflowProcessInstance;
 import org.kie.kogito.Application;
@@ -36,14 +43,20 @@ import org.kie.kogito.correlation.CompositeCorrelation;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.impl.AbstractProcess;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
+import org.kie.kogito.process.workitems.impl.FixedDelayRetryPolicy;
+import org.kie.kogito.timer.TimerInstance;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.jbpm.process.core.context.variable.VariableScope.VARIABLE_STRICT_ENABLED_PROPERTY;
+import static org.jbpm.workflow.instance.node.TimerNodeInstance.TIMER_TRIGGERED_EVENT;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -282,4 +295,50 @@ public class WorkItemHandlerExceptionHandlingTest extends JbpmBpmn2TestCase {
         assertProcessVarValue(processInstance, "isChecked", "true");
 
     }
+
+    @Test
+    public void testErrornousHandlerWithStrategyRetryScheduledByPolicy() throws Exception {
+
+        kruntime = createKogitoProcessRuntime("handler/BPMN2-UserTaskWithBooleanOutput.bpmn2", "handler/BPMN2-ScriptTask.bpmn2");
+
+        List<Map<String, Object>> executedParameters = new ArrayList<>();
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Human Task", new KogitoWorkItemHandler() {
+            @Override
+            public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+                executedParameters.add(new HashMap<>(workItem.getParameters()));
+                throw new ProcessWorkItemHandlerException("ScriptTask", HandlingStrategy.RETRY, new RuntimeException("On purpose"), 5);
+            }
+
+            @Override
+            public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            }
+        });
+        // long enough for the jobs service never to fire on its own, the test fires the retry jobs itself
+        ((InternalKogitoWorkItemManager) kruntime.getKogitoWorkItemManager()).registerRetryPolicy("Human Task", new FixedDelayRetryPolicy(TimeUnit.HOURS.toMillis(1), 2));
+        Map<String, Object> params = new HashMap<>();
+        params.put("isChecked", false);
+        KogitoProcessInstance processInstance = kruntime.startProcess("com.sample.boolean", params);
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_ACTIVE);
+
+        WorkItemNodeInstance nodeInstance = ((WorkflowProcessInstanceImpl) processInstance).getNodeInstances().stream()
+                .filter(WorkItemNodeInstance.class::isInstance)
+                .map(WorkItemNodeInstance.class::cast)
+                .findFirst()
+                .orElseThrow();
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            assertThat(nodeInstance.getRetryAttempt()).isEqualTo(attempt);
+            assertThat(nodeInstance.getRetryJobId()).isNotNull();
+            assertThat(nodeInstance.getTimerInstances()).contains(nodeInstance.getRetryJobId());
+
+            TimerInstance timer = new TimerInstance();
+            timer.setId(nodeInstance.getRetryJobId());
+            processInstance.signalEvent(TIMER_TRIGGERED_EVENT, timer);
+        }
+
+        assertThat(executedParameters).hasSize(3)
+                .allSatisfy(parameters -> assertThat(parameters).doesNotContainKeys("RetryAttempt", "RetryJobId"));
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_ERROR);
+        assertThat(((WorkflowProcessInstanceImpl) processInstance).getErrorCause())
+                .hasValueSatisfying(error -> assertThat(error).isInstanceOf(WorkflowRuntimeException.class).hasMessageContaining("exhausted after 2 attempts"));
+    }
 }
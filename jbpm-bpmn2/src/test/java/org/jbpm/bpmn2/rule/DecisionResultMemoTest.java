@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.bpmn2.rule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DecisionResultMemoTest {
+
+    @Test
+    void testKeyIgnoresInputOrdering() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("age", 16);
+        first.put("yearsOfService", 1);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("yearsOfService", 1);
+        second.put("age", 16);
+
+        assertThat(DecisionResultMemo.key("Total Vacation Days", first)).isEqualTo(DecisionResultMemo.key("Total Vacation Days", second));
+        assertThat(DecisionResultMemo.key("Total Vacation Days", first)).isNotEqualTo(DecisionResultMemo.key(null, first));
+        assertThat(DecisionResultMemo.key(null, first)).isNotEqualTo(DecisionResultMemo.key(null, Map.of("age", 17, "yearsOfService", 1)));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        DecisionResultMemo memo = new DecisionResultMemo(2);
+        memo.put("a", Map.of("result", 1));
+        memo.put("b", Map.of("result", 2));
+        assertThat(memo.get("a")).containsEntry("result", 1);
+        memo.put("c", Map.of("result", 3));
+
+        assertThat(memo.size()).isEqualTo(2);
+        assertThat(memo.get("b")).isNull();
+        assertThat(memo.get("a")).isNotNull();
+        assertThat(memo.get("c")).isNotNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testResultsAreDeepCopied() {
+        List<Object> days = new ArrayList<>(List.of(1, 2));
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("days", days);
+        Map<String, Object> outputs = new HashMap<>();
+        outputs.put("vacation", nested);
+
+        DecisionResultMemo memo = new DecisionResultMemo(1);
+        memo.put("a", outputs);
+        days.add(3);
+        nested.put("extra", true);
+
+        Map<String, Object> hit = memo.get("a");
+        assertThat((Map<String, Object>) hit.get("vacation")).containsOnlyKeys("days");
+        assertThat((List<Object>) ((Map<String, Object>) hit.get("vacation")).get("days")).containsExactly(1, 2);
+
+        ((List<Object>) ((Map<String, Object>) hit.get("vacation")).get("days")).clear();
+        hit.put("other", 1);
+        assertThat(memo.get("a")).containsOnlyKeys("vacation");
+        assertThat((List<Object>) ((Map<String, Object>) memo.get("a").get("vacation")).get("days")).containsExactly(1, 2);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.bpmn2;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.drools.io.ClassPathResource;
+import org.jbpm.workflow.core.WorkflowProcess;
+import org.junit.jupiter.api.Test;
+import org.kie.api.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BpmnProcessCompilerTest {
+
+    private static Resource[] resources() {
+        return new Resource[] {
+                new ClassPathResource("BPMN2-UserTask.bpmn2"),
+                new ClassPathResource("BPMN2-ExclusiveSplit.bpmn2"),
+                new ClassPathResource("BPMN2-ParallelSplit.bpmn2") };
+    }
+
+    @Test
+    void testParallelParsingMatchesSequentialParsing() {
+        List<BpmnProcess> sequential = new BpmnProcessCompiler().from(null, resources());
+
+        BpmnProcessCompiler compiler = new BpmnProcessCompiler();
+        compiler.setParallelParsing(true);
+        List<BpmnProcess> parallel = compiler.from(null, resources());
+
+        // sequential parsing shares one reader, so earlier processes are repeated for every later resource
+        assertThat(parallel.stream().map(BpmnProcess::id))
+                .containsExactlyElementsOf(sequential.stream().map(BpmnProcess::id).distinct().collect(Collectors.toList()));
+        assertSameDefinitions(parallel, sequential);
+    }
+
+    @Test
+    void testParallelParsingOnGivenPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BpmnProcessCompiler compiler = new BpmnProcessCompiler();
+            compiler.setParallelParsing(true, pool);
+            List<BpmnProcess> first = compiler.from(null, resources());
+            List<BpmnProcess> second = compiler.from(null, resources());
+
+            assertThat(first).hasSize(3);
+            assertSameDefinitions(second, first);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameDefinitions(List<BpmnProcess> actual, List<BpmnProcess> expected) {
+        Map<String, BpmnProcess> expectedById = expected.stream().collect(Collectors.toMap(BpmnProcess::id, Function.identity(), (a, b) -> a));
+        for (BpmnProcess process : actual) {
+            BpmnProcess other = expectedById.get(process.id());
+            assertThat(other).isNotNull();
+            assertThat(process.name()).isEqualTo(other.name());
+            assertThat(process.version()).isEqualTo(other.version());
+            assertThat(((WorkflowProcess) process.get()).getNodesRecursively())
+                    .hasSameSizeAs(((WorkflowProcess) other.get()).getNodesRecursively());
+        }
+    }
+}
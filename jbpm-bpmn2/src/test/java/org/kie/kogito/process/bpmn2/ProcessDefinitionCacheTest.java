@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.bpmn2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.drools.io.ClassPathResource;
+import org.jbpm.bpmn2.objects.TestWorkItemHandler;
+import org.jbpm.compiler.xml.XmlProcessReader;
+import org.jbpm.process.core.timer.Timer;
+import org.jbpm.workflow.core.WorkflowProcess;
+import org.jbpm.workflow.core.node.StateBasedNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.api.io.Resource;
+import org.kie.kogito.jobs.JobsService;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.kie.kogito.process.ProcessConfig;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.impl.CachedWorkItemHandlerConfig;
+import org.kie.kogito.process.impl.DefaultProcessEventListenerConfig;
+import org.kie.kogito.process.impl.Sig;
+import org.kie.kogito.process.impl.StaticProcessConfig;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.timer.TimerInstance;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProcessDefinitionCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private static class FixedFileCache extends ProcessDefinitionCache {
+
+        private final Path cacheFile;
+
+        FixedFileCache(Path cacheFile) {
+            this.cacheFile = cacheFile;
+        }
+
+        @Override
+        protected Path cacheFile(Resource resource) {
+            return cacheFile;
+        }
+    }
+
+    @Test
+    void testWarmLoadSkipsParsing() {
+        Path cacheFile = cacheDir.resolve("BPMN2-UserTask.bpmn2" + ProcessDefinitionCache.CACHE_FILE_EXTENSION);
+        CountingCompiler compiler = new CountingCompiler();
+        compiler.setDefinitionCache(new FixedFileCache(cacheFile));
+
+        List<BpmnProcess> cold = compiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"));
+        assertThat(compiler.readers.get()).isEqualTo(1);
+        assertThat(cacheFile).exists();
+
+        List<BpmnProcess> warm = compiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"));
+        assertThat(compiler.readers.get()).isEqualTo(1);
+        assertThat(warm).hasSameSizeAs(cold);
+        assertThat(warm.get(0).id()).isEqualTo(cold.get(0).id());
+        assertThat(((WorkflowProcess) warm.get(0).get()).getNodesRecursively())
+                .hasSameSizeAs(((WorkflowProcess) cold.get(0).get()).getNodesRecursively());
+    }
+
+    @Test
+    void testStaleCacheIsIgnored() throws Exception {
+        Path cacheFile = cacheDir.resolve("stale" + ProcessDefinitionCache.CACHE_FILE_EXTENSION);
+        Files.write(cacheFile, new byte[] { 0, 0, 0, 1, 0, 1, 'x' });
+        CountingCompiler compiler = new CountingCompiler();
+        compiler.setDefinitionCache(new FixedFileCache(cacheFile));
+
+        List<BpmnProcess> processes = compiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"));
+        assertThat(processes).hasSize(1);
+        assertThat(compiler.readers.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testCorruptedPayloadIsIgnored() throws Exception {
+        Path cacheFile = cacheDir.resolve("corrupted" + ProcessDefinitionCache.CACHE_FILE_EXTENSION);
+        CountingCompiler compiler = new CountingCompiler();
+        compiler.setDefinitionCache(new FixedFileCache(cacheFile));
+        compiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"));
+
+        byte[] content = Files.readAllBytes(cacheFile);
+        content[content.length - 1] ^= 1;
+        Files.write(cacheFile, content);
+
+        assertThat(compiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"))).hasSize(1);
+        assertThat(compiler.readers.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testOtherReaderSetupParsesAgain() {
+        Path cacheFile = cacheDir.resolve("BPMN2-UserTask.bpmn2" + ProcessDefinitionCache.CACHE_FILE_EXTENSION);
+        CountingCompiler compiler = new CountingCompiler();
+        compiler.setDefinitionCache(new FixedFileCache(cacheFile));
+        compiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"));
+        assertThat(compiler.readers.get()).isEqualTo(1);
+
+        CountingCompiler otherCompiler = new CountingCompiler() {
+            @Override
+            protected String readerFingerprint(ProcessConfig config) {
+                return super.readerFingerprint(config) + "+custom";
+            }
+        };
+        otherCompiler.setDefinitionCache(new FixedFileCache(cacheFile));
+        assertThat(otherCompiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"))).hasSize(1);
+        assertThat(otherCompiler.readers.get()).isEqualTo(1);
+
+        otherCompiler.from(null, new ClassPathResource("BPMN2-UserTask.bpmn2"));
+        assertThat(otherCompiler.readers.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testCacheFilesLiveInCacheDirectory() {
+        Path source = cacheDir.resolve("sources").resolve("BPMN2-UserTask.bpmn2").toAbsolutePath();
+        Resource resource = mock(Resource.class);
+        when(resource.getSourcePath()).thenReturn(source.toString());
+        Path directory = cacheDir.resolve("cache");
+
+        Path cacheFile = new ProcessDefinitionCache(directory).cacheFile(resource);
+        assertThat(cacheFile.getParent()).isEqualTo(directory);
+        assertThat(cacheFile.getFileName().toString()).endsWith(ProcessDefinitionCache.CACHE_FILE_EXTENSION);
+    }
+
+    @Test
+    void testCachedTimerBoundaryProcessRuns() {
+        Path cacheFile = cacheDir.resolve("BPMN2-TimerBoundaryEventDurationNoScript.bpmn2" + ProcessDefinitionCache.CACHE_FILE_EXTENSION);
+        JobsService jobsService = mock(JobsService.class);
+        when(jobsService.scheduleProcessInstanceJob(any())).thenAnswer(invocation -> invocation.<ProcessInstanceJobDescription> getArgument(0).id());
+        ProcessConfig config = new StaticProcessConfig(new CachedWorkItemHandlerConfig().register("MyTask", new TestWorkItemHandler()),
+                new DefaultProcessEventListenerConfig(), new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), jobsService, null);
+        CountingCompiler compiler = new CountingCompiler();
+        compiler.setDefinitionCache(new FixedFileCache(cacheFile));
+
+        List<BpmnProcess> cold = compiler.from(config, new ClassPathResource("BPMN2-TimerBoundaryEventDurationNoScript.bpmn2"));
+        List<BpmnProcess> warm = compiler.from(config, new ClassPathResource("BPMN2-TimerBoundaryEventDurationNoScript.bpmn2"));
+        assertThat(compiler.readers.get()).isEqualTo(1);
+        assertThat(timerDelays(warm.get(0))).isNotEmpty().isEqualTo(timerDelays(cold.get(0)));
+
+        ProcessInstance<BpmnVariables> processInstance = warm.get(0).createInstance();
+        ZonedDateTime started = ZonedDateTime.now();
+        processInstance.start();
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_ACTIVE);
+
+        ArgumentCaptor<ProcessInstanceJobDescription> job = ArgumentCaptor.forClass(ProcessInstanceJobDescription.class);
+        verify(jobsService).scheduleProcessInstanceJob(job.capture());
+        assertThat(job.getValue().expirationTime().get()).isBetween(started.plusNanos(400_000_000L), ZonedDateTime.now().plusNanos(500_000_000L));
+
+        TimerInstance timer = new TimerInstance();
+        timer.setId(job.getValue().id());
+        processInstance.send(Sig.of("timerTriggered", timer));
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_COMPLETED);
+    }
+
+    private static List<String> timerDelays(BpmnProcess process) {
+        return ((WorkflowProcess) process.get()).getNodesByType(StateBasedNode.class).stream()
+                .filter(node -> node.getTimers() != null)
+                .flatMap(node -> node.getTimers().keySet().stream())
+                .map(Timer::getDelay)
+                .collect(Collectors.toList());
+    }
+
+    private static class CountingCompiler extends BpmnProcessCompiler {
+
+        private final AtomicInteger readers = new AtomicInteger();
+
+        @Override
+        protected void configureProcessReader(XmlProcessReader xmlReader, ProcessConfig config) {
+            readers.incrementAndGet();
+        }
+    }
+}
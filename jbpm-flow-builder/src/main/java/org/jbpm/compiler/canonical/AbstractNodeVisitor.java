@@ -16,13 +16,21 @@
 package org.jbpm.compiler.canonical;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.lang.model.SourceVersion;
+
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.variable.Mappable;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.core.transformation.MVELDataTransformer;
 import org.jbpm.process.instance.impl.actions.ProduceEventAction;
 import org.jbpm.process.instance.impl.actions.SignalProcessInstanceAction;
 import org.jbpm.ruleflow.core.Metadata;
@@ -36,6 +44,8 @@ import org.jbpm.workflow.core.node.StartNode;
 import org.jbpm.workflow.core.node.Transformation;
 import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.Parameter;
@@ -70,6 +80,12 @@ import static org.jbpm.ruleflow.core.factory.NodeFactory.METHOD_NAME;
 
 public abstract class AbstractNodeVisitor<T extends Node> extends AbstractVisitor {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProcessToExecModelGenerator.class);
+
+    private static final String TRANSFORMATION_PARAMS = "params";
+
+    private MVELToJavaTranslator mvelTranslator = new MVELToJavaTranslator(AbstractNodeVisitor.class.getClassLoader());
+
     protected abstract String getNodeKey();
 
     public void visitNode(T node, BlockStmt body, VariableScope variableScope, ProcessMetaData metadata) {
@@ -185,7 +201,7 @@ public abstract class AbstractNodeVisitor<T extends Node> extends AbstractVisito
         DataDefinition targetExpr = dataAssociation.getTarget();
         Transformation transformation = dataAssociation.getTransformation();
         List<Assignment> assignments = dataAssociation.getAssignments();
-        return toDataAssociation(toDataDef(sourceExpr), toDataDef(targetExpr), toAssignmentExpr(assignments), toTransformation(transformation));
+        return toDataAssociation(toDataDef(sourceExpr), toDataDef(targetExpr), toAssignmentExpr(assignments), toTransformation(sourceExpr, transformation));
     }
 
     private Expression toAssignmentExpr(List<Assignment> assignments) {
@@ -205,7 +221,7 @@ public abstract class AbstractNodeVisitor<T extends Node> extends AbstractVisito
         return new MethodCallExpr(null, "java.util.Arrays.asList", NodeList.nodeList(expressions));
     }
 
-    protected Expression toTransformation(Transformation transformation) {
+    protected Expression toTransformation(List<DataDefinition> sources, Transformation transformation) {
         if (transformation == null) {
             return new NullLiteralExpr();
         }
@@ -213,8 +229,63 @@ public abstract class AbstractNodeVisitor<T extends Node> extends AbstractVisito
         Expression expression = new StringLiteralExpr(transformation.getExpression());
         Expression source = new StringLiteralExpr(transformation.getSource());
         ClassOrInterfaceType clazz = new ClassOrInterfaceType(null, "org.jbpm.workflow.core.node.Transformation");
-        return new ObjectCreationExpr(null, clazz, NodeList.nodeList(lang, expression, source));
+        NodeList<Expression> arguments = NodeList.nodeList(lang, expression, source);
+        if (MVELDataTransformer.LANGUAGE.equals(transformation.getLanguage())) {
+            toTransformationFunction(sources, transformation.getExpression()).ifPresent(arguments::add);
+        }
+        return new ObjectCreationExpr(null, clazz, arguments);
+
+    }
+
+    private Optional<Expression> toTransformationFunction(List<DataDefinition> sources, String expression) {
+        Map<String, String> sourceTypes = new HashMap<>();
+        for (DataDefinition source : sources) {
+            if (!TRANSFORMATION_PARAMS.equals(source.getLabel()) && SourceVersion.isName(source.getLabel()) && mvelTranslator.isKnownType(source.getType())) {
+                sourceTypes.put(source.getLabel(), source.getType());
+            }
+        }
+        Optional<BlockStmt> translated = mvelTranslator.translateReturnValue(expression, sourceTypes);
+        if (!translated.isPresent()) {
+            logger.warn("Transformation \"{}\" cannot be translated to Java, it will be interpreted by MVEL at runtime", expression);
+            return Optional.empty();
+        }
+        BlockStmt functionBody = new BlockStmt();
+        sourceTypes.forEach((label, type) -> {
+            ClassOrInterfaceType sourceType = parseClassOrInterfaceType(type);
+            functionBody.addStatement(new AssignExpr(new VariableDeclarationExpr(sourceType, label),
+                    new CastExpr(sourceType.clone(), new MethodCallExpr(new NameExpr(TRANSFORMATION_PARAMS), "get", NodeList.nodeList(new StringLiteralExpr(label)))),
+                    AssignExpr.Operator.ASSIGN));
+        });
+        translated.get().getStatements().forEach(functionBody::addStatement);
+        return Optional.of(new LambdaExpr(new Parameter(new UnknownType(), TRANSFORMATION_PARAMS), functionBody));
+    }
+
+    protected MVELToJavaTranslator getMVELTranslator() {
+        return mvelTranslator;
+    }
+
+    public void setMVELTranslator(MVELToJavaTranslator mvelTranslator) {
+        this.mvelTranslator = mvelTranslator;
+    }
 
+    /**
+     * Returns the imports of the process the given node belongs to.
+     */
+    protected static Set<String> getImports(Node node) {
+        Object container = node;
+        while (container instanceof org.jbpm.workflow.core.Node) {
+            container = ((org.jbpm.workflow.core.Node) container).getParentContainer();
+        }
+        Set<String> imports = container instanceof org.jbpm.process.core.Process ? ((org.jbpm.process.core.Process) container).getImports() : null;
+        return imports != null ? imports : Collections.emptySet();
+    }
+
+    protected static Map<String, String> getVariableTypes(VariableScope variableScope) {
+        Map<String, String> variableTypes = new HashMap<>();
+        for (Variable variable : variableScope.getVariables()) {
+            variableTypes.put(variable.getSanitizedName(), variable.getType().getStringType());
+        }
+        return variableTypes;
     }
 
     protected Expression toDataAssociation(Expression sourceExprs, Expression target, Expression transformation, Expression assignments) {
@@ -21,20 +21,28 @@ import java.util.Optional;
 import org.jbpm.process.core.context.exception.CompensationScope;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.instance.impl.MVELInterpretedAction;
 import org.jbpm.process.instance.impl.actions.ProcessInstanceCompensationAction;
 import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.ruleflow.core.factory.ActionNodeFactory;
 import org.jbpm.workflow.core.DroolsAction;
 import org.jbpm.workflow.core.impl.DroolsConsequenceAction;
 import org.jbpm.workflow.core.node.ActionNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.LambdaExpr;
 import com.github.javaparser.ast.expr.LongLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.type.UnknownType;
 
+import static com.github.javaparser.StaticJavaParser.parseClassOrInterfaceType;
 import static org.jbpm.ruleflow.core.Metadata.CUSTOM_SCOPE;
 import static org.jbpm.ruleflow.core.Metadata.EVENT_TYPE;
 import static org.jbpm.ruleflow.core.Metadata.EVENT_TYPE_SIGNAL;
@@ -46,6 +54,10 @@ import static org.jbpm.ruleflow.core.factory.ActionNodeFactory.METHOD_ACTION;
 
 public class ActionNodeVisitor extends AbstractNodeVisitor<ActionNode> {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProcessToExecModelGenerator.class);
+
+    private static final String MVEL_DIALECT = "mvel";
+
     private static final String INTERMEDIATE_COMPENSATION_TYPE = "IntermediateThrowEvent-None";
 
     @Override
@@ -79,26 +91,39 @@ public class ActionNodeVisitor extends AbstractNodeVisitor<ActionNode> {
             if (consequence == null || consequence.trim().isEmpty()) {
                 throw new IllegalStateException("Action node " + node.getId() + " name " + node.getName() + " has no action defined");
             }
-            BlockStmt actionBody = new BlockStmt();
-            List<Variable> variables = variableScope.getVariables();
-            variables.stream()
-                    .filter(v -> consequence.contains(v.getName()))
-                    .map(ActionNodeVisitor::makeAssignment)
-                    .forEach(actionBody::addStatement);
-
-            BlockStmt blockStmt = StaticJavaParser.parseBlock("{" + consequence + "}");
-            blockStmt.getStatements().forEach(actionBody::addStatement);
-
-            LambdaExpr lambda = new LambdaExpr(
-                    new Parameter(new UnknownType(), KCONTEXT_VAR), // (kcontext) ->
-                    actionBody);
-            body.addStatement(getFactoryMethod(getNodeId(node), METHOD_ACTION, lambda));
+            body.addStatement(getFactoryMethod(getNodeId(node), METHOD_ACTION, buildConsequenceAction(node, consequence, variableScope)));
         }
         addNodeMappings(node, body, getNodeId(node));
         visitMetaData(node.getMetaData(), body, getNodeId(node));
         body.addStatement(getDoneMethod(getNodeId(node)));
     }
 
+    private Expression buildConsequenceAction(ActionNode node, String consequence, VariableScope variableScope) {
+        Optional<BlockStmt> script;
+        if (MVEL_DIALECT.equals(((DroolsConsequenceAction) node.getAction()).getDialect())) {
+            script = getMVELTranslator().translateScript(consequence, getVariableTypes(variableScope), getImports(node));
+            if (!script.isPresent()) {
+                logger.warn("Script of node {} name {} cannot be translated to Java, it will be interpreted by MVEL at runtime", node.getId(), node.getName());
+                return new ObjectCreationExpr(null, parseClassOrInterfaceType(MVELInterpretedAction.class.getCanonicalName()),
+                        NodeList.nodeList(new StringLiteralExpr().setString(consequence)));
+            }
+        } else {
+            script = Optional.of(StaticJavaParser.parseBlock("{" + consequence + "}"));
+        }
+        BlockStmt actionBody = new BlockStmt();
+        List<Variable> variables = variableScope.getVariables();
+        variables.stream()
+                .filter(v -> consequence.contains(v.getName()))
+                .map(ActionNodeVisitor::makeAssignment)
+                .forEach(actionBody::addStatement);
+
+        script.get().getStatements().forEach(actionBody::addStatement);
+
+        return new LambdaExpr(
+                new Parameter(new UnknownType(), KCONTEXT_VAR), // (kcontext) ->
+                actionBody);
+    }
+
     private boolean isIntermediateCompensation(ActionNode node) {
         return INTERMEDIATE_COMPENSATION_TYPE.equals(node.getMetaData(Metadata.NODE_TYPE));
     }
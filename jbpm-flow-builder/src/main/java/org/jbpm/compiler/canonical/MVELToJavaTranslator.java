@@ -0,0 +1,728 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.compiler.canonical;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
+
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.CharLiteralExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.InstanceOfExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.TextBlockLiteralExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+
+import static org.drools.util.StringUtils.ucFirst;
+
+/**
+ * Translates the subset of MVEL shared with Java into Java code, so MVEL scripts, constraints and data
+ * transformations are generated as plain lambdas instead of being interpreted at runtime.
+ * <p>
+ * The supported subset is Java compatible statements and expressions referring to process variables, locals,
+ * <code>kcontext</code> and classes that can be loaded, simple class names being resolved with the process imports
+ * and qualified. Property navigation on a variable whose type can be loaded is translated to getter and setter calls,
+ * and <code>==</code> / <code>!=</code> to value equality between objects and to null safe comparisons against
+ * literals, as MVEL evaluates them. Operators are only translated when the types of their operands are known and Java
+ * treats them as MVEL does, MVEL coercing strings, dates or numbers of different classes where Java does not. Anything
+ * else (inline collections, MVEL only operators and keywords, functions, unknown identifiers, ...) is reported as
+ * unsupported, so the caller keeps interpreting it.
+ */
+public class MVELToJavaTranslator {
+
+    private static final String KCONTEXT = "kcontext";
+
+    private static final Set<String> PRIMITIVE_TYPES = new HashSet<>(Arrays.asList("boolean", "byte", "char", "short", "int", "long", "float", "double"));
+
+    private static final Map<String, Class<?>> PRIMITIVE_CLASSES = new HashMap<>();
+
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = new HashMap<>();
+
+    private static final Set<Class<?>> NUMERIC_TYPES = new HashSet<>(Arrays.asList(byte.class, short.class, char.class, int.class, long.class, float.class, double.class));
+
+    static {
+        for (Class<?> type : Arrays.asList(boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class)) {
+            PRIMITIVE_CLASSES.put(type.getName(), type);
+        }
+        BOXED_TYPES.put(Boolean.class, boolean.class);
+        BOXED_TYPES.put(Byte.class, byte.class);
+        BOXED_TYPES.put(Character.class, char.class);
+        BOXED_TYPES.put(Short.class, short.class);
+        BOXED_TYPES.put(Integer.class, int.class);
+        BOXED_TYPES.put(Long.class, long.class);
+        BOXED_TYPES.put(Float.class, float.class);
+        BOXED_TYPES.put(Double.class, double.class);
+    }
+
+    private final ClassLoader classLoader;
+
+    public MVELToJavaTranslator(ClassLoader classLoader) {
+        this.classLoader = classLoader != null ? classLoader : MVELToJavaTranslator.class.getClassLoader();
+    }
+
+    /**
+     * Returns whether the given type can be loaded and is more specific than {@link Object}, so generated code
+     * declaring it compiles whatever the expression does with the value.
+     */
+    public boolean isKnownType(String type) {
+        Class<?> clazz = loadClass(type);
+        return clazz != null && clazz != Object.class;
+    }
+
+    /**
+     * Translates a script, given the types of the variables it can refer to.
+     */
+    public Optional<BlockStmt> translateScript(String script, Map<String, String> variableTypes) {
+        return translateScript(script, variableTypes, Collections.emptySet());
+    }
+
+    /**
+     * Translates a script, given the types of the variables it can refer to and the imports of the process, used to
+     * resolve simple class names.
+     */
+    public Optional<BlockStmt> translateScript(String script, Map<String, String> variableTypes, Collection<String> imports) {
+        return parseBlock(script).filter(block -> translate(block, variableTypes, imports));
+    }
+
+    /**
+     * Translates a constraint, either a single expression or a script ending with a return statement, into a
+     * block returning its value.
+     */
+    public Optional<BlockStmt> translateReturnValue(String expression, Map<String, String> variableTypes) {
+        return translateReturnValue(expression, variableTypes, Collections.emptySet());
+    }
+
+    /**
+     * Same as {@link #translateReturnValue(String, Map)}, resolving simple class names with the given imports.
+     */
+    public Optional<BlockStmt> translateReturnValue(String expression, Map<String, String> variableTypes, Collection<String> imports) {
+        Optional<BlockStmt> block = parseExpression(expression).map(expr -> new BlockStmt(NodeList.nodeList(new ReturnStmt(expr))));
+        if (!block.isPresent()) {
+            block = parseBlock(expression).filter(b -> !b.isEmpty() && b.getStatement(b.getStatements().size() - 1).isReturnStmt());
+        }
+        return block.filter(b -> translate(b, variableTypes, imports));
+    }
+
+    private static Optional<Expression> parseExpression(String expression) {
+        String trimmed = expression.trim();
+        while (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        try {
+            return Optional.of(StaticJavaParser.parseExpression(trimmed));
+        } catch (ParseProblemException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<BlockStmt> parseBlock(String script) {
+        try {
+            return Optional.of(StaticJavaParser.parseBlock("{" + script + "}"));
+        } catch (ParseProblemException e) {
+            // MVEL does not require the last statement to be terminated
+            try {
+                return Optional.of(StaticJavaParser.parseBlock("{" + script + ";}"));
+            } catch (ParseProblemException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private boolean translate(BlockStmt block, Map<String, String> variableTypes, Collection<String> imports) {
+        if (!block.findAll(CharLiteralExpr.class).isEmpty()
+                || !block.findAll(MethodCallExpr.class, call -> !call.getScope().isPresent()).isEmpty()) {
+            // single quotes delimit strings in MVEL, calls without scope are MVEL functions
+            return false;
+        }
+        Map<String, Type> locals = new HashMap<>();
+        block.findAll(VariableDeclarator.class).forEach(v -> locals.put(v.getNameAsString(), v.getType()));
+        block.findAll(Parameter.class).forEach(p -> locals.put(p.getNameAsString(), p.getType()));
+
+        Map<NameExpr, String> classNames = new IdentityHashMap<>();
+        Map<ClassOrInterfaceType, String> classTypes = new IdentityHashMap<>();
+        for (ClassOrInterfaceType type : block.findAll(ClassOrInterfaceType.class, t -> !t.getScope().isPresent())) {
+            if (!resolveType(type, imports, classTypes)) {
+                return false;
+            }
+        }
+        Map<Expression, Class<?>> propertyTypes = new IdentityHashMap<>();
+        for (FieldAccessExpr fieldAccess : block.findAll(FieldAccessExpr.class, f -> !f.getParentNode().filter(FieldAccessExpr.class::isInstance).isPresent())) {
+            if (!translateFieldAccess(fieldAccess, variableTypes, locals.keySet(), imports, classNames, propertyTypes)) {
+                return false;
+            }
+        }
+        for (NameExpr name : block.findAll(NameExpr.class)) {
+            if (!classNames.containsKey(name) && !isKnownName(name, variableTypes, locals.keySet(), imports, classNames)) {
+                return false;
+            }
+        }
+        // generated classes do not declare the process imports
+        classNames.forEach((name, className) -> {
+            if (!className.equals(name.getNameAsString())) {
+                name.replace(StaticJavaParser.parseExpression(className));
+            }
+        });
+        classTypes.forEach((type, packageName) -> type.setScope(StaticJavaParser.parseClassOrInterfaceType(packageName)));
+
+        // MVEL coerces operands Java does not accept, those expressions are left to the interpreter
+        ExpressionTypes types = new ExpressionTypes(variableTypes, locals, propertyTypes);
+        if (!block.findAll(BinaryExpr.class, b -> !isEquality(b)).stream().allMatch(types::accepts)
+                || !block.findAll(UnaryExpr.class).stream().allMatch(types::accepts)) {
+            return false;
+        }
+        List<BinaryExpr> comparisons = new ArrayList<>(block.findAll(BinaryExpr.class, MVELToJavaTranslator::isEquality));
+        // operand types are taken before any comparison is rewritten
+        Map<BinaryExpr, Class<?>[]> operandTypes = new IdentityHashMap<>();
+        comparisons.forEach(comparison -> operandTypes.put(comparison, new Class<?>[] { types.of(comparison.getLeft()), types.of(comparison.getRight()) }));
+        // innermost comparisons first, so outer ones are rewritten with their translated operands
+        Collections.reverse(comparisons);
+        for (BinaryExpr comparison : comparisons) {
+            if (!translateEquality(comparison, operandTypes.get(comparison), variableTypes, locals, propertyTypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEquality(BinaryExpr expression) {
+        return expression.getOperator() == BinaryExpr.Operator.EQUALS || expression.getOperator() == BinaryExpr.Operator.NOT_EQUALS;
+    }
+
+    private boolean resolveType(ClassOrInterfaceType root, Collection<String> imports, Map<ClassOrInterfaceType, String> classTypes) {
+        ClassOrInterfaceType type = root;
+        for (Optional<ClassOrInterfaceType> outer = scopedType(type); outer.isPresent(); outer = scopedType(type)) {
+            type = outer.get();
+        }
+        if (type != root && loadClass(type.getNameWithScope()) != null) {
+            // fully qualified class name
+            return true;
+        }
+        String className = resolveClassName(root.getNameAsString(), imports);
+        if (className == null) {
+            return false;
+        }
+        int packageEnd = className.lastIndexOf('.');
+        if (packageEnd > 0) {
+            classTypes.put(root, className.substring(0, packageEnd));
+        }
+        return true;
+    }
+
+    private static Optional<ClassOrInterfaceType> scopedType(ClassOrInterfaceType scope) {
+        return scope.getParentNode()
+                .filter(ClassOrInterfaceType.class::isInstance)
+                .map(ClassOrInterfaceType.class::cast)
+                .filter(type -> type.getScope().filter(s -> s == scope).isPresent());
+    }
+
+    private boolean translateFieldAccess(FieldAccessExpr fieldAccess, Map<String, String> variableTypes, Set<String> locals, Collection<String> imports,
+            Map<NameExpr, String> classNames, Map<Expression, Class<?>> propertyTypes) {
+        List<String> properties = new ArrayList<>();
+        Expression scope = fieldAccess;
+        while (scope instanceof FieldAccessExpr) {
+            properties.add(0, ((FieldAccessExpr) scope).getNameAsString());
+            scope = ((FieldAccessExpr) scope).getScope();
+        }
+        if (!(scope instanceof NameExpr)) {
+            // property of a computed value, its type is not known
+            return false;
+        }
+        String root = ((NameExpr) scope).getNameAsString();
+        if (locals.contains(root)) {
+            return false;
+        }
+        if (!variableTypes.containsKey(root) && !KCONTEXT.equals(root)) {
+            // static member of a class or fully qualified class name
+            String className = resolveClassName(root, imports);
+            StringBuilder qualifiedName = new StringBuilder(root);
+            for (int i = 0; className == null && i < properties.size(); i++) {
+                qualifiedName.append('.').append(properties.get(i));
+                if (loadClass(qualifiedName.toString()) != null) {
+                    className = root;
+                }
+            }
+            if (className == null) {
+                return false;
+            }
+            classNames.put((NameExpr) scope, className);
+            return true;
+        }
+        Class<?> type = loadClass(KCONTEXT.equals(root) ? KogitoProcessContext.class.getName() : variableTypes.get(root));
+        Expression translated = new NameExpr(root);
+        for (int i = 0; i < properties.size(); i++) {
+            if (type == null) {
+                return false;
+            }
+            String property = properties.get(i);
+            Method setter = i == properties.size() - 1 && isAssignmentTarget(fieldAccess) ? findSetter(type, property) : null;
+            if (setter != null) {
+                AssignExpr assign = (AssignExpr) fieldAccess.getParentNode().get();
+                Expression value = assign.getValue();
+                assign.replace(new MethodCallExpr(translated, setter.getName(), NodeList.nodeList(value)));
+                return true;
+            }
+            Method getter = findGetter(type, property);
+            if (getter != null) {
+                translated = new MethodCallExpr(translated, getter.getName());
+                type = getter.getReturnType();
+            } else {
+                Field field = findField(type, property);
+                if (field == null) {
+                    return false;
+                }
+                translated = new FieldAccessExpr(translated, property);
+                type = field.getType();
+            }
+        }
+        if (!(translated instanceof FieldAccessExpr) && fieldAccess.getParentNode().filter(AssignExpr.class::isInstance)
+                .map(AssignExpr.class::cast).filter(a -> a.getTarget() == fieldAccess).isPresent()) {
+            // compound assignments and assignments used as values have no setter equivalent
+            return false;
+        }
+        propertyTypes.put(translated, type);
+        fieldAccess.replace(translated);
+        return true;
+    }
+
+    private static boolean isAssignmentTarget(FieldAccessExpr fieldAccess) {
+        return fieldAccess.getParentNode()
+                .filter(AssignExpr.class::isInstance)
+                .map(AssignExpr.class::cast)
+                .filter(assign -> assign.getTarget() == fieldAccess && assign.getOperator() == AssignExpr.Operator.ASSIGN)
+                .filter(assign -> assign.getParentNode().filter(ExpressionStmt.class::isInstance).isPresent())
+                .isPresent();
+    }
+
+    private boolean isKnownName(NameExpr name, Map<String, String> variableTypes, Set<String> locals, Collection<String> imports, Map<NameExpr, String> classNames) {
+        String identifier = name.getNameAsString();
+        if (KCONTEXT.equals(identifier) || variableTypes.containsKey(identifier) || locals.contains(identifier)) {
+            return true;
+        }
+        String className = resolveClassName(identifier, imports);
+        if (className == null) {
+            return false;
+        }
+        classNames.put(name, className);
+        return true;
+    }
+
+    /**
+     * Returns the fully qualified name of the class with the given simple name, looked up in the imports first, then in
+     * <code>java.lang</code> and the default package, or <code>null</code> if there is no such class.
+     */
+    private String resolveClassName(String name, Collection<String> imports) {
+        for (String imported : imports) {
+            String candidate = null;
+            if (imported.endsWith(".*")) {
+                candidate = imported.substring(0, imported.length() - 1) + name;
+            } else if (imported.endsWith("." + name)) {
+                candidate = imported;
+            }
+            if (candidate != null && loadClass(candidate) != null) {
+                return candidate;
+            }
+        }
+        Class<?> clazz = loadClass(name);
+        return clazz != null ? clazz.getName() : null;
+    }
+
+    private static boolean translateEquality(BinaryExpr comparison, Class<?>[] operandTypes, Map<String, String> variableTypes, Map<String, Type> locals,
+            Map<Expression, Class<?>> propertyTypes) {
+        Expression left = comparison.getLeft();
+        Expression right = comparison.getRight();
+        if (left instanceof NullLiteralExpr || right instanceof NullLiteralExpr) {
+            // primitives cannot be compared to null in Java
+            Class<?> other = left instanceof NullLiteralExpr ? operandTypes[1] : operandTypes[0];
+            return other == null || !other.isPrimitive();
+        }
+        boolean leftLiteral = isPrimitiveLiteral(left);
+        if (!leftLiteral && !isPrimitiveLiteral(right)) {
+            return translateObjectEquality(comparison, operandTypes[0], operandTypes[1]);
+        }
+        Expression operand = leftLiteral ? right : left;
+        Class<?> operandType = leftLiteral ? operandTypes[1] : operandTypes[0];
+        Class<?> literalType = leftLiteral ? operandTypes[0] : operandTypes[1];
+        if (operandType == null || !(isNumeric(operandType) && isNumeric(literalType) || isBoolean(operandType) && isBoolean(literalType))) {
+            // MVEL coerces the value to the type of the literal
+            return false;
+        }
+        if (isPrimitiveLiteral(operand) || (propertyTypes.containsKey(operand) && propertyTypes.get(operand).isPrimitive())) {
+            return true;
+        }
+        if (!(operand instanceof NameExpr)) {
+            return false;
+        }
+        String name = ((NameExpr) operand).getNameAsString();
+        Type localType = locals.get(name);
+        if (localType != null ? localType.isPrimitiveType() : PRIMITIVE_TYPES.contains(variableTypes.get(name))) {
+            return true;
+        }
+        if (localType != null && !localType.isClassOrInterfaceType()) {
+            // inferred type, it may or may not be boxed
+            return false;
+        }
+        // a boxed value compared to a literal is not unboxed by MVEL, null is just not equal to it
+        boolean equals = comparison.getOperator() == BinaryExpr.Operator.EQUALS;
+        Expression nullCheck = new BinaryExpr(operand.clone(), new NullLiteralExpr(), equals ? BinaryExpr.Operator.NOT_EQUALS : BinaryExpr.Operator.EQUALS);
+        comparison.replace(new EnclosedExpr(new BinaryExpr(nullCheck, comparison.clone(), equals ? BinaryExpr.Operator.AND : BinaryExpr.Operator.OR)));
+        return true;
+    }
+
+    /**
+     * Translates a comparison of two non literal values. MVEL compares numbers by value whatever their class and
+     * coerces unrelated types, so only values of the same number class or of related non numeric types become
+     * {@link Objects#equals(Object, Object)}; two primitives keep the Java comparison.
+     */
+    private static boolean translateObjectEquality(BinaryExpr comparison, Class<?> leftType, Class<?> rightType) {
+        if (leftType == null || rightType == null) {
+            return false;
+        }
+        if (leftType.isPrimitive() || rightType.isPrimitive()) {
+            return leftType.isPrimitive() && rightType.isPrimitive()
+                    && (isNumeric(leftType) && isNumeric(rightType) || isBoolean(leftType) && isBoolean(rightType));
+        }
+        boolean sameFinalType = leftType == rightType && Modifier.isFinal(leftType.getModifiers());
+        if (!sameFinalType && (mayHoldNumber(leftType) && mayHoldNumber(rightType)
+                || !leftType.isAssignableFrom(rightType) && !rightType.isAssignableFrom(leftType))) {
+            return false;
+        }
+        Expression equals = new MethodCallExpr(new NameExpr(Objects.class.getCanonicalName()), "equals",
+                NodeList.nodeList(comparison.getLeft().clone(), comparison.getRight().clone()));
+        comparison.replace(comparison.getOperator() == BinaryExpr.Operator.EQUALS ? equals
+                : new UnaryExpr(equals, UnaryExpr.Operator.LOGICAL_COMPLEMENT));
+        return true;
+    }
+
+    private static boolean mayHoldNumber(Class<?> type) {
+        return Number.class.isAssignableFrom(type) || type.isAssignableFrom(Number.class) || type.isAssignableFrom(Integer.class);
+    }
+
+    private static boolean isPrimitiveLiteral(Expression expression) {
+        if (expression instanceof UnaryExpr) {
+            return isPrimitiveLiteral(((UnaryExpr) expression).getExpression());
+        }
+        return expression instanceof BooleanLiteralExpr || expression instanceof IntegerLiteralExpr
+                || expression instanceof LongLiteralExpr || expression instanceof DoubleLiteralExpr;
+    }
+
+    private Class<?> loadClass(String type) {
+        if (type == null) {
+            return null;
+        }
+        int generics = type.indexOf('<');
+        String className = (generics < 0 ? type : type.substring(0, generics)).trim();
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            if (className.indexOf('.') < 0) {
+                return loadClass("java.lang." + className);
+            }
+            return null;
+        }
+    }
+
+    private static Method findGetter(Class<?> type, String property) {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+                    && (method.getName().equals("get" + ucFirst(property))
+                            || (method.getName().equals("is" + ucFirst(property)) && isBoolean(method.getReturnType())))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Method findSetter(Class<?> type, String property) {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers()) && method.getName().equals("set" + ucFirst(property))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(Class<?> type, String property) {
+        try {
+            Field field = type.getField(property);
+            return Modifier.isStatic(field.getModifiers()) ? null : field;
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBoolean(Class<?> type) {
+        return type == boolean.class || type == Boolean.class;
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        return NUMERIC_TYPES.contains(unbox(type));
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        Class<?> unboxed = unbox(type);
+        return unboxed == byte.class || unboxed == short.class || unboxed == char.class || unboxed == int.class || unboxed == long.class;
+    }
+
+    private static Class<?> unbox(Class<?> type) {
+        return BOXED_TYPES.getOrDefault(type, type);
+    }
+
+    /**
+     * Type of the result of a Java numeric operation on the given operand types.
+     */
+    private static Class<?> promote(Class<?> left, Class<?> right) {
+        for (Class<?> type : Arrays.asList(double.class, float.class, long.class)) {
+            if (unbox(left) == type || unbox(right) == type) {
+                return type;
+            }
+        }
+        return int.class;
+    }
+
+    /**
+     * Static types of translated expressions, as far as they can be told from the declared types of variables and
+     * locals, literals and the accessors used for property navigation.
+     */
+    private final class ExpressionTypes {
+
+        private final Map<String, String> variableTypes;
+        private final Map<String, Type> locals;
+        private final Map<Expression, Class<?>> propertyTypes;
+
+        private ExpressionTypes(Map<String, String> variableTypes, Map<String, Type> locals, Map<Expression, Class<?>> propertyTypes) {
+            this.variableTypes = variableTypes;
+            this.locals = locals;
+            this.propertyTypes = propertyTypes;
+        }
+
+        /**
+         * Returns whether Java accepts the operand types of the given operator the way MVEL does.
+         */
+        boolean accepts(Expression expression) {
+            if (expression instanceof UnaryExpr) {
+                UnaryExpr unary = (UnaryExpr) expression;
+                Class<?> type = of(unary.getExpression());
+                if (type == null) {
+                    return false;
+                }
+                switch (unary.getOperator()) {
+                    case LOGICAL_COMPLEMENT:
+                        return isBoolean(type);
+                    case BITWISE_COMPLEMENT:
+                        return isIntegral(type);
+                    default:
+                        return isNumeric(type);
+                }
+            }
+            BinaryExpr binary = (BinaryExpr) expression;
+            Class<?> left = of(binary.getLeft());
+            Class<?> right = of(binary.getRight());
+            if (binary.getOperator() == BinaryExpr.Operator.PLUS && (left == String.class || right == String.class)) {
+                return true;
+            }
+            if (left == null || right == null) {
+                return false;
+            }
+            switch (binary.getOperator()) {
+                case AND:
+                case OR:
+                    return isBoolean(left) && isBoolean(right);
+                case BINARY_AND:
+                case BINARY_OR:
+                case XOR:
+                    return isBoolean(left) && isBoolean(right) || isIntegral(left) && isIntegral(right);
+                case LEFT_SHIFT:
+                case SIGNED_RIGHT_SHIFT:
+                case UNSIGNED_RIGHT_SHIFT:
+                    return isIntegral(left) && isIntegral(right);
+                default:
+                    // relational and arithmetic operators, MVEL also applies them to strings, dates and big numbers
+                    return isNumeric(left) && isNumeric(right);
+            }
+        }
+
+        Class<?> of(Expression expression) {
+            if (propertyTypes.containsKey(expression)) {
+                return propertyTypes.get(expression);
+            }
+            if (expression instanceof EnclosedExpr) {
+                return of(((EnclosedExpr) expression).getInner());
+            }
+            if (expression instanceof NameExpr) {
+                return ofName(((NameExpr) expression).getNameAsString());
+            }
+            if (expression instanceof StringLiteralExpr || expression instanceof TextBlockLiteralExpr) {
+                return String.class;
+            }
+            if (expression instanceof BooleanLiteralExpr || expression instanceof InstanceOfExpr) {
+                return boolean.class;
+            }
+            if (expression instanceof IntegerLiteralExpr) {
+                return int.class;
+            }
+            if (expression instanceof LongLiteralExpr) {
+                return long.class;
+            }
+            if (expression instanceof DoubleLiteralExpr) {
+                String value = ((DoubleLiteralExpr) expression).getValue();
+                return value.endsWith("f") || value.endsWith("F") ? float.class : double.class;
+            }
+            if (expression instanceof CharLiteralExpr) {
+                return char.class;
+            }
+            if (expression instanceof CastExpr) {
+                return typeNamed(((CastExpr) expression).getType().asString());
+            }
+            if (expression instanceof ObjectCreationExpr) {
+                return typeNamed(((ObjectCreationExpr) expression).getType().asString());
+            }
+            if (expression instanceof AssignExpr) {
+                return of(((AssignExpr) expression).getTarget());
+            }
+            if (expression instanceof MethodCallExpr) {
+                return ofMethodCall((MethodCallExpr) expression);
+            }
+            if (expression instanceof UnaryExpr) {
+                UnaryExpr unary = (UnaryExpr) expression;
+                Class<?> type = of(unary.getExpression());
+                switch (unary.getOperator()) {
+                    case LOGICAL_COMPLEMENT:
+                        return type == null ? null : boolean.class;
+                    case PLUS:
+                    case MINUS:
+                    case BITWISE_COMPLEMENT:
+                        return type == null ? null : promote(type, int.class);
+                    default:
+                        // increments and decrements
+                        return type;
+                }
+            }
+            if (expression instanceof BinaryExpr) {
+                return ofBinary((BinaryExpr) expression);
+            }
+            return null;
+        }
+
+        private Class<?> ofName(String name) {
+            if (KCONTEXT.equals(name)) {
+                return KogitoProcessContext.class;
+            }
+            Type localType = locals.get(name);
+            if (localType != null) {
+                return localType.isVarType() ? null : typeNamed(localType.asString());
+            }
+            return variableTypes.containsKey(name) ? typeNamed(variableTypes.get(name)) : null;
+        }
+
+        private Class<?> ofMethodCall(MethodCallExpr call) {
+            Expression scope = call.getScope().orElse(null);
+            if (scope == null) {
+                return null;
+            }
+            Class<?> scopeType = of(scope);
+            boolean staticCall = false;
+            if (scopeType == null && (scope instanceof FieldAccessExpr || scope instanceof NameExpr && ofName(scope.toString()) == null)) {
+                // class names are qualified at this point
+                scopeType = loadClass(scope.toString());
+                staticCall = true;
+            }
+            if (scopeType == null || scopeType.isPrimitive()) {
+                return null;
+            }
+            Class<?> returnType = null;
+            for (Method method : scopeType.getMethods()) {
+                if (method.getName().equals(call.getNameAsString()) && method.getParameterCount() == call.getArguments().size()
+                        && (!staticCall || Modifier.isStatic(method.getModifiers()))) {
+                    if (returnType != null && returnType != method.getReturnType()) {
+                        // overloads with different results
+                        return null;
+                    }
+                    returnType = method.getReturnType();
+                }
+            }
+            return returnType;
+        }
+
+        private Class<?> ofBinary(BinaryExpr binary) {
+            switch (binary.getOperator()) {
+                case OR:
+                case AND:
+                case EQUALS:
+                case NOT_EQUALS:
+                case LESS:
+                case GREATER:
+                case LESS_EQUALS:
+                case GREATER_EQUALS:
+                    return boolean.class;
+                default:
+                    Class<?> left = of(binary.getLeft());
+                    Class<?> right = of(binary.getRight());
+                    if (binary.getOperator() == BinaryExpr.Operator.PLUS && (left == String.class || right == String.class)) {
+                        return String.class;
+                    }
+                    if (left == null || right == null) {
+                        return null;
+                    }
+                    if (isBoolean(left) && isBoolean(right)) {
+                        return boolean.class;
+                    }
+                    return promote(left, right);
+            }
+        }
+
+        private Class<?> typeNamed(String type) {
+            Class<?> primitive = PRIMITIVE_CLASSES.get(type);
+            return primitive != null ? primitive : loadClass(type);
+        }
+    }
+}
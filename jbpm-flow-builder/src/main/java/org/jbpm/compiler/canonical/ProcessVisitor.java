@@ -16,12 +16,15 @@
 package org.jbpm.compiler.canonical;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jbpm.compiler.canonical.descriptors.ExpressionUtils;
@@ -34,6 +37,8 @@ import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.instance.impl.actions.SignalProcessInstanceAction;
 import org.jbpm.ruleflow.core.RuleFlowProcess;
 import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.validation.ProcessFingerprint;
+import org.jbpm.ruleflow.core.validation.RuleFlowProcessValidator;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.NodeContainer;
 import org.jbpm.workflow.core.impl.ConnectionImpl;
@@ -64,20 +69,30 @@ import org.kie.api.definition.process.Process;
 import org.kie.api.definition.process.WorkflowProcess;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
 
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.AssignExpr;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LambdaExpr;
 import com.github.javaparser.ast.expr.LongLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.LocalClassDeclarationStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
 
+import static org.drools.util.StringUtils.ucFirst;
 import static org.jbpm.ruleflow.core.Metadata.ASSOCIATION;
 import static org.jbpm.ruleflow.core.Metadata.UNIQUE_ID;
 import static org.jbpm.ruleflow.core.RuleFlowNodeContainerFactory.METHOD_ASSOCIATION;
@@ -97,6 +112,22 @@ public class ProcessVisitor extends AbstractVisitor {
 
     public static final String DEFAULT_VERSION = "1.0";
 
+    /**
+     * Upper bound of the estimated bytecode size of a single generated method. HotSpot does not compile methods
+     * larger than 8000 bytes of bytecode, so bigger definitions are split into helper methods well below that limit.
+     */
+    static final int MAX_METHOD_SIZE = 4000;
+
+    /**
+     * Bytecode size assumed for every expression; loads, constants and invocations take at most three bytes, the
+     * remaining byte covers stores, casts and stack handling.
+     */
+    private static final int EXPRESSION_SIZE = 4;
+
+    static final String PROCESS_NODES_METHOD = "processNodes";
+
+    static final String PROCESS_CONNECTIONS_METHOD = "processConnections";
+
     private Map<Class<?>, AbstractNodeVisitor<? extends org.kie.api.definition.process.Node>> nodesVisitors = new HashMap<>();
 
     public ProcessVisitor(ClassLoader contextClassLoader) {
@@ -121,6 +152,8 @@ public class ProcessVisitor extends AbstractVisitor {
         this.nodesVisitors.put(StateNode.class, new StateNodeVisitor(nodesVisitors));
         this.nodesVisitors.put(CatchLinkNode.class, new CatchLinkNodeVisitor());
         this.nodesVisitors.put(ThrowLinkNode.class, new ThrowLinkNodeVisitor());
+        MVELToJavaTranslator mvelTranslator = new MVELToJavaTranslator(contextClassLoader);
+        this.nodesVisitors.values().forEach(visitor -> visitor.setMVELTranslator(mvelTranslator));
     }
 
     public void visitProcess(WorkflowProcess process, MethodDeclaration processMethod, ProcessMetaData metadata) {
@@ -171,17 +204,169 @@ public class ProcessVisitor extends AbstractVisitor {
         for (org.kie.api.definition.process.Node procNode : process.getNodes()) {
             processNodes.add((Node) procNode);
         }
-        visitNodes(processNodes, body, variableScope, metadata);
-        //exception scope
-        visitExceptionScope(process, body);
-        visitConnections(process.getNodes(), body);
+        List<BlockStmt> nodeBlocks = new ArrayList<>();
+        for (Node node : processNodes) {
+            BlockStmt nodeBlock = new BlockStmt();
+            visitNodes(List.of(node), nodeBlock, variableScope, metadata);
+            nodeBlocks.add(nodeBlock);
+        }
+        BlockStmt exceptionScope = new BlockStmt();
+        visitExceptionScope(process, exceptionScope);
+        BlockStmt connections = new BlockStmt();
+        visitConnections(process.getNodes(), connections);
+        int size = estimatedSize(body) + estimatedSize(exceptionScope) + estimatedSize(connections)
+                + nodeBlocks.stream().mapToInt(ProcessVisitor::estimatedSize).sum();
+        if (size <= MAX_METHOD_SIZE) {
+            nodeBlocks.forEach(nodeBlock -> moveStatements(nodeBlock, body));
+            //exception scope
+            moveStatements(exceptionScope, body);
+            moveStatements(connections, body);
+        } else {
+            // sub container exception handlers refer to the container local variable, so they stay with it
+            for (int i = 0; i < processNodes.size(); i++) {
+                visitSubExceptionScope(new org.kie.api.definition.process.Node[] { processNodes.get(i) }, nodeBlocks.get(i));
+            }
+            addHelperMethods(PROCESS_NODES_METHOD, nodeBlocks, body);
+            visitContextExceptionScope(((org.jbpm.process.core.Process) process).getDefaultContext(ExceptionScope.EXCEPTION_SCOPE), body);
+            addHelperMethods(PROCESS_CONNECTIONS_METHOD,
+                    connections.getStatements().stream().map(statement -> new BlockStmt(NodeList.nodeList(statement))).collect(Collectors.toList()), body);
+        }
 
-        body.addStatement(getFactoryMethod(FACTORY_FIELD_NAME, METHOD_VALIDATE));
+        String validatedFingerprint = validatedFingerprint(process);
+        body.addStatement(validatedFingerprint == null ? getFactoryMethod(FACTORY_FIELD_NAME, METHOD_VALIDATE)
+                : getFactoryMethod(FACTORY_FIELD_NAME, METHOD_VALIDATE, new StringLiteralExpr(validatedFingerprint)));
 
         MethodCallExpr getProcessMethod = new MethodCallExpr(new NameExpr(FACTORY_FIELD_NAME), "getProcess");
         body.addStatement(new ReturnStmt(getProcessMethod));
     }
 
+    private static void moveStatements(BlockStmt from, BlockStmt to) {
+        new ArrayList<>(from.getStatements()).forEach(to::addStatement);
+    }
+
+    /**
+     * Estimates the bytecode size of the given statements. Lambda bodies are compiled into methods of their own and
+     * only count for the call site.
+     */
+    static int estimatedSize(BlockStmt block) {
+        return block.getStatements().stream().mapToInt(ProcessVisitor::statementSize).sum();
+    }
+
+    private static int statementSize(Statement statement) {
+        return expressions(statement) * EXPRESSION_SIZE + 1;
+    }
+
+    private static int expressions(com.github.javaparser.ast.Node node) {
+        int count = node instanceof Expression ? 1 : 0;
+        if (!(node instanceof LambdaExpr)) {
+            for (com.github.javaparser.ast.Node child : node.getChildNodes()) {
+                count += expressions(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves the given blocks into as few helper methods as possible, each below {@link #MAX_METHOD_SIZE}; blocks
+     * larger than that are split. The helpers are methods of a local class declared in the body, so they travel with
+     * the process method wherever it is copied to and see the same members it does. The body calls the first helper
+     * and every helper calls the next one, handing over the local variables declared so far that are still in use.
+     * Helpers are named after the given prefix and their position, so the generated code is deterministic.
+     */
+    private static void addHelperMethods(String prefix, List<BlockStmt> blocks, BlockStmt body) {
+        // room is kept in every helper for the call to the next one
+        int capacity = MAX_METHOD_SIZE - EXPRESSION_SIZE * 8;
+        List<List<Statement>> chunks = new ArrayList<>();
+        List<Statement> chunk = null;
+        int chunkSize = 0;
+        for (BlockStmt block : blocks) {
+            int blockSize = estimatedSize(block);
+            if (chunk != null && blockSize <= capacity && chunkSize + blockSize > capacity) {
+                // start a new helper rather than splitting a block that fits into one
+                chunk = null;
+            }
+            for (Statement statement : new ArrayList<>(block.getStatements())) {
+                int statementSize = statementSize(statement);
+                if (chunk == null || chunkSize + statementSize > capacity) {
+                    chunk = new ArrayList<>();
+                    chunks.add(chunk);
+                    chunkSize = 0;
+                }
+                chunk.add(statement);
+                chunkSize += statementSize;
+            }
+        }
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        // names referenced by each helper or any helper after it
+        List<Set<String>> referencedFrom = new ArrayList<>(Collections.nCopies(chunks.size(), null));
+        Set<String> referenced = new HashSet<>();
+        for (int index = chunks.size() - 1; index >= 0; index--) {
+            chunks.get(index).forEach(statement -> statement.findAll(NameExpr.class).forEach(name -> referenced.add(name.getNameAsString())));
+            referencedFrom.set(index, new HashSet<>(referenced));
+        }
+
+        ClassOrInterfaceDeclaration helpers = new ClassOrInterfaceDeclaration(new NodeList<>(), false, ucFirst(prefix));
+        body.addStatement(new LocalClassDeclarationStmt(helpers));
+        Map<String, Type> declaredLocals = new LinkedHashMap<>();
+        MethodCallExpr call = new MethodCallExpr(new ObjectCreationExpr(null, new ClassOrInterfaceType(null, helpers.getNameAsString()), NodeList.nodeList()),
+                prefix + 0, NodeList.nodeList(new NameExpr(FACTORY_FIELD_NAME)));
+        body.addStatement(call);
+        for (int index = 0; index < chunks.size(); index++) {
+            BlockStmt helperBody = new BlockStmt();
+            MethodDeclaration helper = helpers.addMethod(prefix + index, Modifier.Keyword.PRIVATE)
+                    .addParameter(new ClassOrInterfaceType(null, RuleFlowProcessFactory.class.getSimpleName()), FACTORY_FIELD_NAME)
+                    .setBody(helperBody);
+            for (Map.Entry<String, Type> local : declaredLocals.entrySet()) {
+                if (referencedFrom.get(index).contains(local.getKey())) {
+                    helper.addParameter(local.getValue().clone(), local.getKey());
+                    call.addArgument(new NameExpr(local.getKey()));
+                }
+            }
+            chunks.get(index).forEach(helperBody::addStatement);
+            helperBody.getStatements().forEach(statement -> localDeclarations(statement)
+                    .forEach(variable -> declaredLocals.put(variable.getNameAsString(), variable.getType())));
+            if (index + 1 < chunks.size()) {
+                call = new MethodCallExpr(null, prefix + (index + 1), NodeList.nodeList(new NameExpr(FACTORY_FIELD_NAME)));
+                helperBody.addStatement(call);
+            }
+        }
+    }
+
+    private static List<VariableDeclarator> localDeclarations(Statement statement) {
+        if (statement.isExpressionStmt()) {
+            Expression expression = statement.asExpressionStmt().getExpression();
+            if (expression.isAssignExpr()) {
+                expression = expression.asAssignExpr().getTarget();
+            }
+            if (expression.isVariableDeclarationExpr()) {
+                return expression.asVariableDeclarationExpr().getVariables();
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Validates the definition at build time and returns its fingerprint when it is valid, so the generated code
+     * does not validate it again at startup. Definitions that fail (or cannot be) validated here keep the runtime
+     * validation, which reports the errors as before.
+     */
+    private static String validatedFingerprint(WorkflowProcess process) {
+        if (!(process instanceof RuleFlowProcess)) {
+            return null;
+        }
+        try {
+            if (RuleFlowProcessValidator.getInstance().validateProcess((RuleFlowProcess) process).length > 0) {
+                return null;
+            }
+            return ProcessFingerprint.of(process);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     private void visitSubVariableScopes(org.kie.api.definition.process.Node[] nodes, BlockStmt body, Set<String> visitedVariables) {
         for (org.kie.api.definition.process.Node node : nodes) {
             if (node instanceof ContextContainer) {
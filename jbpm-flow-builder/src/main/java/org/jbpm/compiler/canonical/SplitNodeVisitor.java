@@ -16,15 +16,19 @@
 package org.jbpm.compiler.canonical;
 
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.instance.impl.MVELInterpretedReturnValueEvaluator;
 import org.jbpm.process.instance.impl.ReturnValueConstraintEvaluator;
 import org.jbpm.ruleflow.core.factory.SplitFactory;
 import org.jbpm.workflow.core.Constraint;
 import org.jbpm.workflow.core.impl.ConnectionRef;
 import org.jbpm.workflow.core.node.Split;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.NodeList;
@@ -44,6 +48,10 @@ import static org.jbpm.ruleflow.core.factory.SplitFactory.METHOD_TYPE;
 
 public class SplitNodeVisitor extends AbstractNodeVisitor<Split> {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProcessToExecModelGenerator.class);
+
+    private static final String MVEL_DIALECT = "mvel";
+
     @Override
     protected String getNodeKey() {
         return "splitNode";
@@ -66,19 +74,7 @@ public class SplitNodeVisitor extends AbstractNodeVisitor<Split> {
                     } else if ("FEEL".equals(entry.getValue().getDialect())) {
                         returnValueEvaluator = buildFEELReturnValueEvaluator(entry);
                     } else {
-                        BlockStmt actionBody = new BlockStmt();
-                        LambdaExpr lambda = new LambdaExpr(
-                                new Parameter(new UnknownType(), KCONTEXT_VAR), // (kcontext) ->
-                                actionBody);
-
-                        for (Variable v : variableScope.getVariables()) {
-                            actionBody.addStatement(makeAssignment(v));
-                        }
-
-                        BlockStmt blockStmt = StaticJavaParser.parseBlock("{" + entry.getValue().getConstraint() + "}");
-                        blockStmt.getStatements().forEach(actionBody::addStatement);
-
-                        returnValueEvaluator = lambda;
+                        returnValueEvaluator = buildReturnValueEvaluator(node, entry.getValue(), variableScope);
                     }
                     body.addStatement(getFactoryMethod(getNodeId(node), METHOD_CONSTRAINT,
                             new LongLiteralExpr(entry.getKey().getNodeId()),
@@ -94,6 +90,32 @@ public class SplitNodeVisitor extends AbstractNodeVisitor<Split> {
         body.addStatement(getDoneMethod(getNodeId(node)));
     }
 
+    private Expression buildReturnValueEvaluator(Split node, Constraint constraint, VariableScope variableScope) {
+        Optional<BlockStmt> expression;
+        if (MVEL_DIALECT.equals(constraint.getDialect())) {
+            expression = getMVELTranslator().translateReturnValue(constraint.getConstraint(), getVariableTypes(variableScope), getImports(node));
+            if (!expression.isPresent()) {
+                logger.warn("Constraint of split {} name {} cannot be translated to Java, it will be interpreted by MVEL at runtime", node.getId(), node.getName());
+                return new ObjectCreationExpr(null, StaticJavaParser.parseClassOrInterfaceType(MVELInterpretedReturnValueEvaluator.class.getCanonicalName()),
+                        NodeList.nodeList(new StringLiteralExpr().setString(constraint.getConstraint())));
+            }
+        } else {
+            expression = Optional.of(StaticJavaParser.parseBlock("{" + constraint.getConstraint() + "}"));
+        }
+        BlockStmt actionBody = new BlockStmt();
+        LambdaExpr lambda = new LambdaExpr(
+                new Parameter(new UnknownType(), KCONTEXT_VAR), // (kcontext) ->
+                actionBody);
+
+        for (Variable v : variableScope.getVariables()) {
+            actionBody.addStatement(makeAssignment(v));
+        }
+
+        expression.get().getStatements().forEach(actionBody::addStatement);
+
+        return lambda;
+    }
+
     public static ObjectCreationExpr buildFEELReturnValueEvaluator(Entry<ConnectionRef, Constraint> entry) {
         return new ObjectCreationExpr(null,
                 StaticJavaParser.parseClassOrInterfaceType("org.jbpm.bpmn2.feel.FeelReturnValueEvaluator"),
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
@@ -50,7 +51,6 @@ import org.xml.sax.EntityResolver;
 import org.xml.sax.InputSource;
 import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
-import org.xml.sax.SAXNotRecognizedException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.helpers.DefaultHandler;
 
@@ -77,6 +77,19 @@ public class ExtensibleXmlParser extends DefaultHandler implements Parser {
 
     private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
 
+    // ----------------------------------------------------------------------
+    // Per-thread parser pools
+    // ----------------------------------------------------------------------
+    /** Reusable SAX parsers, one per thread, so factory lookup and parser setup happen once per thread. */
+    private static final ThreadLocal<SAXParser> VALIDATING_PARSERS = new ThreadLocal<>();
+
+    private static final ThreadLocal<SAXParser> NON_VALIDATING_PARSERS = new ThreadLocal<>();
+
+    /** Reusable DOM builders used to create the document backing unhandled elements. */
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDERS = new ThreadLocal<>();
+
+    private static volatile boolean schemaValidationSupported = true;
+
     // ----------------------------------------------------------------------
     // Instance members
     // ----------------------------------------------------------------------
@@ -205,108 +218,26 @@ public class ExtensibleXmlParser extends DefaultHandler implements Parser {
     public Object read(final InputSource in) throws SAXException,
             IOException {
         if (this.docFragment == null) {
-            DocumentBuilderFactory f;
-            try {
-                f = DocumentBuilderFactory.newInstance();
-            } catch (FactoryConfigurationError e) {
-                // obscure JDK1.5 bug where FactoryFinder in the JRE returns a null ClassLoader, so fall back to hard coded xerces.
-                // https://stg.network.org/bugzilla/show_bug.cgi?id=47169
-                // http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4633368
-                try {
-                    f = (DocumentBuilderFactory) Class.forName("org.apache.xerces.jaxp.DocumentBuilderFactoryImpl").newInstance();
-                } catch (Exception e1) {
-                    throw new RuntimeException("Unable to create new DOM Document",
-                            e1);
-                }
-            } catch (Exception e) {
-                throw new RuntimeException("Unable to create new DOM Document",
-                        e);
-            }
-            // XXE protection start
-            try {
-                f.setFeature("http://xml.org/sax/features/external-general-entities", false);
-                f.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-
-            } catch (ParserConfigurationException e) {
-                logger.warn("Unable to set parser features due to {}", e.getMessage());
-            }
-            // XXE protection end
-            try {
-                this.document = f.newDocumentBuilder().newDocument();
-            } catch (Exception e) {
-                throw new RuntimeException("Unable to create new DOM Document",
-                        e);
-            }
+            this.document = newDocument();
             this.docFragment = this.document.createDocumentFragment();
         }
 
-        SAXParser localParser = null;
-        if (this.parser == null) {
-            SAXParserFactory factory = null;
-            try {
-                factory = SAXParserFactory.newInstance();
-            } catch (FactoryConfigurationError e) {
-                // obscure JDK1.5 bug where FactoryFinder in the JRE returns a null ClassLoader, so fall back to hard coded xerces.
-                // https://stg.network.org/bugzilla/show_bug.cgi?id=47169
-                // http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4633368
-                try {
-                    factory = (SAXParserFactory) Class.forName("org.apache.xerces.jaxp.SAXParserFactoryImpl").newInstance();
-                } catch (Exception e1) {
-                    throw new RuntimeException("Unable to create new DOM Document",
-                            e1);
-                }
-            } catch (Exception e) {
-                throw new RuntimeException("Unable to create new DOM Document",
-                        e);
-            }
-
-            factory.setNamespaceAware(true);
-            // XXE protection start
-            try {
-                factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-                factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-
-            } catch (ParserConfigurationException e) {
-                logger.warn("Unable to set parser features due to {}", e.getMessage());
-            }
-            // XXE protection end
-
+        SAXParser localParser = this.parser;
+        ThreadLocal<SAXParser> pool = null;
+        if (localParser == null) {
             if (System.getProperty("drools.schema.validating") != null) {
                 this.isValidating = Boolean.getBoolean("drools.schema.validating");
             }
-
-            if (this.isValidating == true) {
-                factory.setValidating(true);
-                try {
-                    localParser = factory.newSAXParser();
-                } catch (final ParserConfigurationException e) {
-                    throw new RuntimeException(e.getMessage());
-                }
-
-                try {
-                    localParser.setProperty(ExtensibleXmlParser.JAXP_SCHEMA_LANGUAGE,
-                            ExtensibleXmlParser.W3C_XML_SCHEMA);
-                } catch (final SAXNotRecognizedException e) {
-                    boolean hideWarnings = Boolean.getBoolean("drools.schema.hidewarnings");
-                    if (!hideWarnings) {
-                        logger.warn("Your SAX parser is not JAXP 1.2 compliant - turning off validation.");
-                    }
-                    localParser = null;
-                }
+            if (this.isValidating && schemaValidationSupported) {
+                localParser = borrowParser(VALIDATING_PARSERS, true);
+                pool = VALIDATING_PARSERS;
             }
-
             if (localParser == null) {
                 // not jaxp1.2 compliant so turn off validation
-                try {
-                    this.isValidating = false;
-                    factory.setValidating(this.isValidating);
-                    localParser = factory.newSAXParser();
-                } catch (final ParserConfigurationException e) {
-                    throw new RuntimeException(e.getMessage());
-                }
+                this.isValidating = false;
+                localParser = borrowParser(NON_VALIDATING_PARSERS, false);
+                pool = NON_VALIDATING_PARSERS;
             }
-        } else {
-            localParser = this.parser;
         }
 
         if (!localParser.isNamespaceAware()) {
@@ -316,9 +247,155 @@ public class ExtensibleXmlParser extends DefaultHandler implements Parser {
         localParser.parse(in,
                 this);
 
+        if (pool != null) {
+            releaseParser(pool, localParser);
+        }
+
         return this.data;
     }
 
+    /**
+     * Drops the parsers and document builder cached for the current thread. Threads that are not owned by the caller,
+     * such as the ones of a shared pool, call it once done parsing so that they do not keep the parser classes (and
+     * their class loader) reachable.
+     */
+    public static void releaseThreadParsers() {
+        VALIDATING_PARSERS.remove();
+        NON_VALIDATING_PARSERS.remove();
+        DOCUMENT_BUILDERS.remove();
+    }
+
+    /**
+     * Takes the SAX parser cached for the current thread, creating a new one when none is available
+     * (first use on this thread, or a nested parse while the cached one is still in use).
+     * Returns <code>null</code> when a validating parser was requested but the JAXP implementation
+     * does not support schema validation.
+     */
+    private static SAXParser borrowParser(ThreadLocal<SAXParser> pool, boolean validating) {
+        SAXParser cached = pool.get();
+        if (cached != null) {
+            pool.remove();
+            return cached;
+        }
+        SAXParser newParser;
+        try {
+            newParser = newSAXParserFactory(validating).newSAXParser();
+        } catch (final ParserConfigurationException | SAXException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+        if (validating && !enableSchemaValidation(newParser)) {
+            boolean hideWarnings = Boolean.getBoolean("drools.schema.hidewarnings");
+            if (!hideWarnings) {
+                logger.warn("Your SAX parser is not JAXP 1.2 compliant - turning off validation.");
+            }
+            schemaValidationSupported = false;
+            return null;
+        }
+        return newParser;
+    }
+
+    /**
+     * Gives a parser back to the pool of the current thread. Only parsers that completed successfully
+     * are returned, since their internal state after a fatal error is not guaranteed to be reusable.
+     */
+    private static void releaseParser(ThreadLocal<SAXParser> pool, SAXParser used) {
+        if (pool.get() != null) {
+            return;
+        }
+        // reset releases the handler (and the data it built) and restores the factory configuration
+        used.reset();
+        if (pool != VALIDATING_PARSERS || enableSchemaValidation(used)) {
+            pool.set(used);
+        }
+    }
+
+    private static boolean enableSchemaValidation(SAXParser saxParser) {
+        try {
+            saxParser.setProperty(ExtensibleXmlParser.JAXP_SCHEMA_LANGUAGE,
+                    ExtensibleXmlParser.W3C_XML_SCHEMA);
+            return true;
+        } catch (final SAXException e) {
+            return false;
+        }
+    }
+
+    private static SAXParserFactory newSAXParserFactory(boolean validating) {
+        SAXParserFactory factory = null;
+        try {
+            factory = SAXParserFactory.newInstance();
+        } catch (FactoryConfigurationError e) {
+            // obscure JDK1.5 bug where FactoryFinder in the JRE returns a null ClassLoader, so fall back to hard coded xerces.
+            // https://stg.network.org/bugzilla/show_bug.cgi?id=47169
+            // http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4633368
+            try {
+                factory = (SAXParserFactory) Class.forName("org.apache.xerces.jaxp.SAXParserFactoryImpl").newInstance();
+            } catch (Exception e1) {
+                throw new RuntimeException("Unable to create new DOM Document",
+                        e1);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to create new DOM Document",
+                    e);
+        }
+
+        factory.setNamespaceAware(true);
+        // XXE protection start
+        try {
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+
+        } catch (ParserConfigurationException | SAXException e) {
+            logger.warn("Unable to set parser features due to {}", e.getMessage());
+        }
+        // XXE protection end
+        factory.setValidating(validating);
+        return factory;
+    }
+
+    private static Document newDocument() {
+        DocumentBuilder builder = DOCUMENT_BUILDERS.get();
+        if (builder == null) {
+            builder = newDocumentBuilder();
+            DOCUMENT_BUILDERS.set(builder);
+        }
+        return builder.newDocument();
+    }
+
+    private static DocumentBuilder newDocumentBuilder() {
+        DocumentBuilderFactory f;
+        try {
+            f = DocumentBuilderFactory.newInstance();
+        } catch (FactoryConfigurationError e) {
+            // obscure JDK1.5 bug where FactoryFinder in the JRE returns a null ClassLoader, so fall back to hard coded xerces.
+            // https://stg.network.org/bugzilla/show_bug.cgi?id=47169
+            // http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4633368
+            try {
+                f = (DocumentBuilderFactory) Class.forName("org.apache.xerces.jaxp.DocumentBuilderFactoryImpl").newInstance();
+            } catch (Exception e1) {
+                throw new RuntimeException("Unable to create new DOM Document",
+                        e1);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to create new DOM Document",
+                    e);
+        }
+        // XXE protection start
+        try {
+            f.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            f.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+
+        } catch (ParserConfigurationException e) {
+            logger.warn("Unable to set parser features due to {}", e.getMessage());
+        }
+        // XXE protection end
+        try {
+            return f.newDocumentBuilder();
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to create new DOM Document",
+                    e);
+        }
+    }
+
     public void setData(final Object data) {
         this.data = data;
     }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.compiler.canonical;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.ast.stmt.BlockStmt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MVELToJavaTranslatorTest {
+
+    public static class Person {
+
+        public int age;
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Person getManager() {
+            return null;
+        }
+    }
+
+    private final MVELToJavaTranslator translator = new MVELToJavaTranslator(MVELToJavaTranslatorTest.class.getClassLoader());
+
+    private Map<String, String> variables;
+
+    @BeforeEach
+    public void setUp() {
+        variables = new HashMap<>();
+        variables.put("person", Person.class.getName());
+        variables.put("name", String.class.getName());
+        variables.put("count", "Integer");
+        variables.put("map", Map.class.getName());
+    }
+
+    @Test
+    public void testPropertyNavigationIsTranslatedToAccessors() {
+        assertThat(translator.translateScript("person.name = person.manager.name.toUpperCase()", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code)
+                        .contains("person.setName(person.getManager().getName().toUpperCase());"));
+        assertThat(translator.translateScript("person.age = count;", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("person.age = count;"));
+    }
+
+    @Test
+    public void testEqualityIsTranslatedToValueEquality() {
+        assertThat(translator.translateReturnValue("name == \"john\" && count != 5 && person != null", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code)
+                        .contains("return java.util.Objects.equals(name, \"john\") && (count == null || count != 5) && person != null;"));
+        assertThat(translator.translateReturnValue("count == 5", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("return (count != null && count == 5);"));
+        assertThat(translator.translateReturnValue("person.age == 5", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("return person.age == 5;"));
+        assertThat(translator.translateScript("int total = 1; System.out.println(total == 5);", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("System.out.println(total == 5);"));
+        assertThat(translator.translateReturnValue("count + 1 == 5", variables)).isEmpty();
+    }
+
+    @Test
+    public void testOperandsJavaDoesNotAcceptAreInterpreted() {
+        variables.put("text", String.class.getName());
+        assertThat(translator.translateReturnValue("text > 5", variables)).isEmpty();
+        assertThat(translator.translateReturnValue("text == 5", variables)).isEmpty();
+        assertThat(translator.translateReturnValue("person.age == null", variables)).isEmpty();
+        assertThat(translator.translateReturnValue("count > 5 && person.name.length() > 3", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("return count > 5 && person.getName().length() > 3;"));
+    }
+
+    @Test
+    public void testNumbersOfDifferentClassesAreInterpreted() {
+        variables.put("amount", Long.class.getName());
+        variables.put("other", "Integer");
+        variables.put("value", Object.class.getName());
+        // MVEL compares them by value, Objects.equals(5, 5L) is false
+        assertThat(translator.translateReturnValue("count == amount", variables)).isEmpty();
+        assertThat(translator.translateReturnValue("value != count", variables)).isEmpty();
+        assertThat(translator.translateReturnValue("count == other", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("return java.util.Objects.equals(count, other);"));
+    }
+
+    @Test
+    public void testClassNamesAreResolved() {
+        assertThat(translator.translateScript("kcontext.setVariable(\"unit\", TimeUnit.SECONDS); List items = new ArrayList();", variables,
+                Arrays.asList(TimeUnit.class.getName(), "java.util.*")))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code)
+                        .contains("kcontext.setVariable(\"unit\", java.util.concurrent.TimeUnit.SECONDS);")
+                        .contains("java.util.List items = new java.util.ArrayList();"));
+        assertThat(translator.translateScript("System.out.println(Math.max(count, 1));", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code).contains("System.out.println(java.lang.Math.max(count, 1));"));
+        assertThat(translator.translateScript("kcontext.setVariable(\"unit\", TimeUnit.SECONDS);", variables)).isEmpty();
+        assertThat(translator.translateScript("System.out.println(Unknown.VALUE);", variables)).isEmpty();
+        assertThat(translator.translateScript("Unknown value = null;", variables)).isEmpty();
+    }
+
+    @Test
+    public void testJavaCompatibleScriptIsKept() {
+        assertThat(translator.translateScript("System.out.println(name); kcontext.setVariable(\"count\", count + 1);", variables))
+                .map(BlockStmt::toString)
+                .hasValueSatisfying(code -> assertThat(code)
+                        .contains("System.out.println(name);")
+                        .contains("kcontext.setVariable(\"count\", count + 1);"));
+        assertThat(translator.translateScript("java.util.List items = new java.util.ArrayList(); items.add(name);", variables)).isPresent();
+    }
+
+    @Test
+    public void testUnsupportedConstructsAreNotTranslated() {
+        assertThat(translator.translateScript("list = [1, 2, 3]", variables)).isEmpty();
+        assertThat(translator.translateScript("greet(name)", variables)).isEmpty();
+        assertThat(translator.translateScript("String s = 'abc'", variables)).isEmpty();
+        assertThat(translator.translateScript("System.out.println(unknown)", variables)).isEmpty();
+        assertThat(translator.translateScript("System.out.println(map.key)", variables)).isEmpty();
+        assertThat(translator.translateScript("person.name += \"x\"", variables)).isEmpty();
+        assertThat(translator.translateReturnValue("name contains \"x\"", variables)).isEmpty();
+    }
+}
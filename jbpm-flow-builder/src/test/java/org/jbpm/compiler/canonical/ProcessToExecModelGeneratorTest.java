@@ -15,12 +15,14 @@
  */
 package org.jbpm.compiler.canonical;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jbpm.process.core.datatype.impl.type.IntegerDataType;
 import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
 import org.jbpm.process.core.datatype.impl.type.StringDataType;
 import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.validation.ProcessFingerprint;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -30,6 +32,9 @@ import org.kie.api.definition.process.WorkflowProcess;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.stmt.LocalClassDeclarationStmt;
+
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -82,6 +87,74 @@ public class ProcessToExecModelGeneratorTest {
         assertThat(processMetadata.getProcessClassName()).isEqualTo("com.myspace.demo.OrdersProcess");
         assertThat(processMetadata.getGeneratedClassModel()).isNotNull();
         assertThat(processMetadata.getWorkItems()).hasSize(1);
+        assertThat(processMetadata.getGeneratedClassModel().toString())
+                .as("Generated process should carry the fingerprint of the validated definition")
+                .contains("validate(\"" + ProcessFingerprint.of(process) + "\")");
+    }
+
+    @Test
+    public void testValidatedFingerprintSkipsOnlyMatchingDefinitions() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("demo.orders");
+        factory.name("orders").packageName("com.myspace.demo").version("1.0")
+                .startNode(1).name("start").done()
+                .endNode(2).name("end").done()
+                .connection(1, 2);
+        String fingerprint = ProcessFingerprint.of(factory.validate().getProcess());
+
+        RuleFlowProcessFactory invalid = RuleFlowProcessFactory.createProcess("demo.orders");
+        invalid.name("orders").packageName("com.myspace.demo").version("1.0")
+                .startNode(1).name("start").done()
+                .endNode(2).name("end").done();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> invalid.validate(fingerprint))
+                .withMessageContaining("Process could not be validated");
+    }
+
+    @Test
+    public void testLargeProcessIsSplitIntoHelperMethods() {
+        int actions = 300;
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("demo.large");
+        factory.name("large").packageName("com.myspace.demo").version("1.0")
+                .startNode(1).name("start").done();
+        for (long i = 2; i < actions + 2; i++) {
+            factory.actionNode(i).name("action" + i).action("java", "System.out.println(\"action\");").done()
+                    .connection(i - 1, i);
+        }
+        factory.endNode(actions + 2L).name("end").done()
+                .connection(actions + 1L, actions + 2L);
+
+        ProcessMetaData processMetadata = ProcessToExecModelGenerator.INSTANCE.generate(factory.validate().getProcess());
+
+        List<MethodDeclaration> methods = processMetadata.getGeneratedClassModel().findAll(MethodDeclaration.class);
+        assertThat(methods).extracting(MethodDeclaration::getNameAsString)
+                .contains("process", ProcessVisitor.PROCESS_NODES_METHOD + "0", ProcessVisitor.PROCESS_NODES_METHOD + "1",
+                        ProcessVisitor.PROCESS_CONNECTIONS_METHOD + "0");
+        assertThat(methods).allSatisfy(method -> assertThat(ProcessVisitor.estimatedSize(method.getBody().orElseThrow()))
+                .isLessThanOrEqualTo(ProcessVisitor.MAX_METHOD_SIZE));
+        MethodDeclaration processMethod = methods.stream().filter(method -> method.getNameAsString().equals("process")).findFirst().orElseThrow();
+        assertThat(processMethod.findAll(LocalClassDeclarationStmt.class)).hasSize(2);
+        assertThat(processMethod.findAll(MethodDeclaration.class)).hasSize(methods.size());
+        assertThat(processMetadata.getGeneratedClassModel().toString())
+                .contains("new ProcessNodes().processNodes0(factory);")
+                .contains("processNodes1(factory);")
+                .contains("new ProcessConnections().processConnections0(factory);");
+    }
+
+    @Test
+    public void testSmallProcessIsNotSplit() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("demo.small");
+        factory.name("small").packageName("com.myspace.demo").version("1.0")
+                .startNode(1).name("start").done()
+                .actionNode(2).name("action").action("java", "System.out.println(\"action\");").done()
+                .endNode(3).name("end").done()
+                .connection(1, 2)
+                .connection(2, 3);
+
+        ProcessMetaData processMetadata = ProcessToExecModelGenerator.INSTANCE.generate(factory.validate().getProcess());
+
+        assertThat(processMetadata.getGeneratedClassModel().findAll(MethodDeclaration.class))
+                .extracting(MethodDeclaration::getNameAsString).containsExactly("process");
     }
 
     public static Stream<Arguments> invalidVariables() {
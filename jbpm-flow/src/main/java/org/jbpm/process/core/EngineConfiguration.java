@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core;
+
+/**
+ * Immutable snapshot of the engine settings that used to be read from system properties while executing processes.
+ * <p>
+ * A snapshot is taken from the system properties when a process definition is built and can be replaced for a whole
+ * runtime through the process config or for a single process, so the values stay fixed and cheap to read during
+ * execution.
+ */
+public final class EngineConfiguration {
+
+    public static final String MULTIPLE_CONNECTIONS_PROPERTY = "jbpm.enable.multi.con";
+    public static final String LOOP_LEVEL_DISABLED_PROPERTY = "jbpm.loop.level.disabled";
+    public static final String USER_SEPARATOR_PROPERTY = "org.jbpm.ht.user.separator";
+
+    public static final String DEFAULT_USER_SEPARATOR = ",";
+
+    private final boolean multipleConnections;
+    private final boolean loopLevelDisabled;
+    private final String userSeparator;
+
+    /**
+     * Takes a snapshot of the current values of the engine system properties.
+     */
+    public static EngineConfiguration fromSystemProperties() {
+        return new EngineConfiguration(Boolean.parseBoolean(System.getProperty(MULTIPLE_CONNECTIONS_PROPERTY)),
+                Boolean.parseBoolean(System.getProperty(LOOP_LEVEL_DISABLED_PROPERTY)),
+                System.getProperty(USER_SEPARATOR_PROPERTY, DEFAULT_USER_SEPARATOR));
+    }
+
+    private EngineConfiguration(boolean multipleConnections, boolean loopLevelDisabled, String userSeparator) {
+        if (userSeparator == null || userSeparator.isEmpty()) {
+            throw new IllegalArgumentException("User separator must not be empty");
+        }
+        this.multipleConnections = multipleConnections;
+        this.loopLevelDisabled = loopLevelDisabled;
+        this.userSeparator = userSeparator;
+    }
+
+    public EngineConfiguration withMultipleConnections(boolean multipleConnections) {
+        return new EngineConfiguration(multipleConnections, loopLevelDisabled, userSeparator);
+    }
+
+    public EngineConfiguration withLoopLevelDisabled(boolean loopLevelDisabled) {
+        return new EngineConfiguration(multipleConnections, loopLevelDisabled, userSeparator);
+    }
+
+    public EngineConfiguration withUserSeparator(String userSeparator) {
+        return new EngineConfiguration(multipleConnections, loopLevelDisabled, userSeparator);
+    }
+
+    /**
+     * Whether nodes may have more than one default incoming or outgoing connection ({@value #MULTIPLE_CONNECTIONS_PROPERTY}).
+     */
+    public boolean isMultipleConnections() {
+        return multipleConnections;
+    }
+
+    /**
+     * Whether iteration levels of looping nodes are no longer tracked ({@value #LOOP_LEVEL_DISABLED_PROPERTY}).
+     */
+    public boolean isLoopLevelDisabled() {
+        return loopLevelDisabled;
+    }
+
+    /**
+     * Regular expression separating users and groups of human tasks ({@value #USER_SEPARATOR_PROPERTY}).
+     */
+    public String getUserSeparator() {
+        return userSeparator;
+    }
+
+    @Override
+    public String toString() {
+        return "EngineConfiguration [multipleConnections=" + multipleConnections + ", loopLevelDisabled=" + loopLevelDisabled
+                + ", userSeparator=" + userSeparator + "]";
+    }
+}
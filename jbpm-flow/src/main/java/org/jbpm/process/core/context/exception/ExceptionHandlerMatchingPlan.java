@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.context.exception;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.kie.kogito.process.workitem.WorkItemExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jbpm.process.core.context.exception.ExceptionHandlerPolicyUtils.isExceptionErrorCode;
+
+/**
+ * Matching plan compiled from the handlers of an exception scope and the exception handler policies.
+ * <p>
+ * Every built-in policy is turned into a lookup over data derived once from the handler names: error code suffixes,
+ * handler names classified as class names or message contents and precompiled message patterns. Superclass matches are
+ * cached per exception class. Policies are applied in their registration order and, within a policy, handlers in the
+ * iteration order of the scope handlers, exactly as testing every policy against every handler would; policies other
+ * than the built-in ones are tested that way.
+ */
+class ExceptionHandlerMatchingPlan {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExceptionHandlerMatchingPlan.class);
+
+    private static final ClassValue<String[]> superclassNames = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            List<String> names = new ArrayList<>();
+            for (Class<?> superclass = type.getSuperclass(); superclass != null && !superclass.equals(Object.class); superclass = superclass.getSuperclass()) {
+                names.add(superclass.getName());
+            }
+            return names.toArray(new String[names.size()]);
+        }
+    };
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private interface Step {
+        int match(Throwable exception);
+    }
+
+    private final Map<String, ExceptionHandler> exceptionHandlers;
+    private final int size;
+    private final String[] names;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final Map<String, Integer> errorCodePositions = new HashMap<>();
+    private final Map<String, Integer> messagePositions = new HashMap<>();
+    private final List<Pattern> messagePatterns = new ArrayList<>();
+    private final List<Integer> messagePatternPositions = new ArrayList<>();
+    private final Map<Class<?>, Integer> childPositions = new ConcurrentHashMap<>();
+    private final List<Step> steps = new ArrayList<>();
+
+    ExceptionHandlerMatchingPlan(Map<String, ExceptionHandler> exceptionHandlers, Collection<ExceptionHandlerPolicy> policies) {
+        this.exceptionHandlers = exceptionHandlers;
+        this.size = exceptionHandlers.size();
+        List<String> handlerNames = new ArrayList<>();
+        for (String name : exceptionHandlers.keySet()) {
+            if (name != null) {
+                handlerNames.add(name);
+            }
+        }
+        this.names = handlerNames.toArray(new String[handlerNames.size()]);
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            positions.put(name, i);
+            String[] error = name.split(":");
+            if (error.length > 0) {
+                errorCodePositions.putIfAbsent(error[error.length - 1], i);
+            }
+            if (!isExceptionErrorCode(name)) {
+                messagePositions.put(name, i);
+                try {
+                    messagePatterns.add(Pattern.compile(name));
+                    messagePatternPositions.add(i);
+                } catch (PatternSyntaxException ex) {
+                    logger.debug("Failure parsing regular expression: {}", name, ex);
+                }
+            }
+        }
+        for (ExceptionHandlerPolicy policy : policies) {
+            steps.add(compile(policy));
+        }
+    }
+
+    /**
+     * Tells whether this plan was compiled for the current content of the given handlers.
+     */
+    boolean isFor(Map<String, ExceptionHandler> exceptionHandlers) {
+        return this.exceptionHandlers == exceptionHandlers && this.size == exceptionHandlers.size();
+    }
+
+    /**
+     * Returns the name of the handler matching the given exception, or <code>null</code> if no policy matches.
+     */
+    String match(Throwable exception) {
+        for (Step step : steps) {
+            int position = step.match(exception);
+            if (position != NO_MATCH) {
+                return names[position];
+            }
+        }
+        return null;
+    }
+
+    private Step compile(ExceptionHandlerPolicy policy) {
+        Class<?> policyClass = policy.getClass();
+        if (policyClass == ErrorCodeExceptionPolicy.class) {
+            return this::matchErrorCode;
+        } else if (policyClass == IsExceptionPolicy.class) {
+            return exception -> position(exception.getClass().getName());
+        } else if (policyClass == MessageContentEqualsExceptionPolicy.class) {
+            return exception -> exception.getMessage() == null ? NO_MATCH : messagePositions.getOrDefault(exception.getMessage(), NO_MATCH);
+        } else if (policyClass == IsWrappedExceptionPolicy.class) {
+            return this::matchWrapped;
+        } else if (policyClass == MessageContentRegexExceptionPolicy.class) {
+            return this::matchMessagePattern;
+        } else if (policyClass == IsChildExceptionPolicy.class) {
+            return this::matchChild;
+        }
+        return exception -> {
+            for (int i = 0; i < names.length; i++) {
+                if (policy.test(names[i], exception)) {
+                    return i;
+                }
+            }
+            return NO_MATCH;
+        };
+    }
+
+    private int position(String name) {
+        return positions.getOrDefault(name, NO_MATCH);
+    }
+
+    private int matchErrorCode(Throwable exception) {
+        int result = NO_MATCH;
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WorkItemExecutionException) {
+                String errorCode = ((WorkItemExecutionException) cause).getErrorCode();
+                if (errorCode != null) {
+                    result = Math.min(result, errorCodePositions.getOrDefault(errorCode, NO_MATCH));
+                }
+            }
+        }
+        return result;
+    }
+
+    private int matchWrapped(Throwable exception) {
+        int result = NO_MATCH;
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            result = Math.min(result, position(cause.getClass().getName()));
+        }
+        return result;
+    }
+
+    private int matchMessagePattern(Throwable exception) {
+        String message = exception.getMessage();
+        if (message != null) {
+            for (int i = 0; i < messagePatterns.size(); i++) {
+                if (messagePatterns.get(i).matcher(message).find()) {
+                    return messagePatternPositions.get(i);
+                }
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private int matchChild(Throwable exception) {
+        int result = NO_MATCH;
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            result = Math.min(result, childPositions.computeIfAbsent(cause.getClass(), this::superclassPosition));
+        }
+        return result;
+    }
+
+    private int superclassPosition(Class<?> exceptionClass) {
+        int result = NO_MATCH;
+        for (String name : superclassNames.get(exceptionClass)) {
+            result = Math.min(result, position(name));
+        }
+        return result;
+    }
+}
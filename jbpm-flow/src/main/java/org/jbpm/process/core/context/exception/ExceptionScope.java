@@ -18,7 +18,6 @@ package org.jbpm.process.core.context.exception;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.context.AbstractContext;
@@ -36,6 +35,7 @@ public class ExceptionScope extends AbstractContext {
 
     protected Map<String, ExceptionHandler> exceptionHandlers = new HashMap<>();
     private transient Collection<ExceptionHandlerPolicy> policies = ExceptionHandlerPolicyFactory.getHandlerPolicies();
+    private transient volatile ExceptionHandlerMatchingPlan matchingPlan;
 
     @Override
     public String getType() {
@@ -44,6 +44,7 @@ public class ExceptionScope extends AbstractContext {
 
     public void setExceptionHandler(String exception, ExceptionHandler exceptionHandler) {
         this.exceptionHandlers.put(exception, exceptionHandler);
+        this.matchingPlan = null;
     }
 
     public ExceptionHandler getExceptionHandler(String exception) {
@@ -55,18 +56,23 @@ public class ExceptionScope extends AbstractContext {
     }
 
     protected ExceptionHandler getHandlerFromPolicies(Throwable exception) {
-        for (ExceptionHandlerPolicy policy : policies) {
-            for (Entry<String, ExceptionHandler> handler : exceptionHandlers.entrySet()) {
-                String className = handler.getKey();
-                if (className != null && policy.test(className, exception)) {
-                    logger.debug("Policy {} matches handler {}", policy.getClass().getSimpleName(), handler.getKey());
-                    return handler.getValue();
-                }
-            }
+        String className = getMatchingPlan().match(exception);
+        if (className != null) {
+            logger.debug("Exception {} matches handler {}", exception.getClass().getSimpleName(), className);
+            return exceptionHandlers.get(className);
         }
         return null;
     }
 
+    private ExceptionHandlerMatchingPlan getMatchingPlan() {
+        ExceptionHandlerMatchingPlan plan = matchingPlan;
+        if (plan == null || !plan.isFor(exceptionHandlers)) {
+            plan = new ExceptionHandlerMatchingPlan(exceptionHandlers, policies);
+            matchingPlan = plan;
+        }
+        return plan;
+    }
+
     public ExceptionHandler getExceptionHandler(Throwable exception) {
         ExceptionHandler handler = getHandlerFromPolicies(exception);
         if (handler == null && exception instanceof WorkItemExecutionException) {
@@ -80,6 +86,7 @@ public class ExceptionScope extends AbstractContext {
 
     public void removeExceptionHandler(String exception) {
         this.exceptionHandlers.remove(exception);
+        this.matchingPlan = null;
     }
 
     public Map<String, ExceptionHandler> getExceptionHandlers() {
@@ -91,6 +98,7 @@ public class ExceptionScope extends AbstractContext {
             throw new IllegalArgumentException("Exception handlers are null");
         }
         this.exceptionHandlers = exceptionHandlers;
+        this.matchingPlan = null;
     }
 
     @Override
@@ -104,4 +112,11 @@ public class ExceptionScope extends AbstractContext {
                 "ExceptionScopes can only resolve exception names: " + param);
     }
 
+    /*
+     * Special handling for serialization to initialize the transient handler policies, the matching plan is compiled again on first use
+     */
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.policies = ExceptionHandlerPolicyFactory.getHandlerPolicies();
+    }
 }
@@ -17,8 +17,10 @@
 package org.jbpm.process.core.correlation;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 public class Correlation implements Serializable {
 
@@ -63,6 +65,10 @@ public class Correlation implements Serializable {
         return processCorrelationProperties;
     }
 
+    public Set<String> getMessageRefs() {
+        return Collections.unmodifiableSet(correlationPropertiesByMessage.keySet());
+    }
+
     public boolean hasCorrelationFor(String messageRef) {
         return correlationPropertiesByMessage.containsKey(messageRef);
     }
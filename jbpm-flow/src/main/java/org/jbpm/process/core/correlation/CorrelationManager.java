@@ -16,11 +16,21 @@
 
 package org.jbpm.process.core.correlation;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+/**
+ * Holds the message correlations of a process definition.
+ * <p>
+ * Correlations are indexed by message ref and message types are resolved once per class loader, so evaluating an
+ * incoming message never scans the definitions. Both indexes only depend on the definition, they are not
+ * serialized and are rebuilt on first use.
+ */
 public class CorrelationManager implements Serializable {
 
     private static final long serialVersionUID = -1557112455565607001L;
@@ -30,13 +40,28 @@ public class CorrelationManager implements Serializable {
 
     private transient ClassLoader classLoader;
 
+    private transient volatile Map<String, Correlation> correlationsByMessageRef;
+    private transient Map<String, Class<?>> messageTypes;
+
     public CorrelationManager() {
         this.correlations = new HashMap<>();
         this.messages = new HashMap<>();
+        initIndexes();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+        initIndexes();
+    }
+
+    private void initIndexes() {
+        this.messageTypes = new ConcurrentHashMap<>();
     }
 
     public void setClassLoader(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        messageTypes.clear();
     }
 
     public void newCorrelation(String correlationRef, String correlationName) {
@@ -45,6 +70,7 @@ public class CorrelationManager implements Serializable {
         }
         Correlation correlation = new Correlation(correlationRef, correlationName);
         correlations.put(correlationRef, correlation);
+        correlationsByMessageRef = null;
     }
 
     public void newMessage(String id, String name, String type) {
@@ -56,7 +82,7 @@ public class CorrelationManager implements Serializable {
     }
 
     public boolean isSubscribe(String messageRef) {
-        return correlations.values().stream().anyMatch(correlation -> correlation.hasCorrelationFor(messageRef));
+        return correlationsByMessageRef().containsKey(messageRef);
     }
 
     public void subscribeTo(String correlationRef) {
@@ -77,7 +103,7 @@ public class CorrelationManager implements Serializable {
         Message message = messages.get(messageRef);
 
         try {
-            if (!classLoader.loadClass(message.getMessageType()).isInstance(event)) {
+            if (!messageType(message).isInstance(event)) {
                 throw new IllegalArgumentException("Object event type is not appropiate for this correlation. The message type was "
                         + event.getClass().getCanonicalName() + " and was expecting " + message.getMessageType() + " in message " + message.getMessageName() + "(" + message.getMessageName() + ")");
             }
@@ -120,16 +146,39 @@ public class CorrelationManager implements Serializable {
     }
 
     private Correlation findCorrelationByMessageRef(String messageRef) {
-        for (Correlation correlation : correlations.values()) {
-            if (correlation.hasCorrelationFor(messageRef)) {
-                return correlation;
+        Correlation correlation = correlationsByMessageRef().get(messageRef);
+        if (correlation == null) {
+            throw new IllegalArgumentException("Correlation for message ref " + messageRef + " does not exist");
+        }
+        return correlation;
+    }
+
+    private Map<String, Correlation> correlationsByMessageRef() {
+        Map<String, Correlation> index = correlationsByMessageRef;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Correlation correlation : correlations.values()) {
+                for (String messageRef : correlation.getMessageRefs()) {
+                    index.putIfAbsent(messageRef, correlation);
+                }
             }
+            correlationsByMessageRef = index;
+        }
+        return index;
+    }
+
+    private Class<?> messageType(Message message) throws ClassNotFoundException {
+        Class<?> type = messageTypes.get(message.getMessageType());
+        if (type == null) {
+            type = classLoader.loadClass(message.getMessageType());
+            messageTypes.put(message.getMessageType(), type);
         }
-        throw new IllegalArgumentException("Correlation for message ref " + messageRef + " does not exist");
+        return type;
     }
 
     public void addMessagePropertyExpression(String correlationRef, String messageRef, String propertyName, CorrelationExpressionEvaluator expression) {
         correlations.get(correlationRef).getMessageCorrelationFor(messageRef).addProperty(propertyName, expression);
+        correlationsByMessageRef = null;
     }
 
     public void addProcessSubscriptionPropertyExpression(String correlationRef, String propertyName, CorrelationExpressionEvaluator expression) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.correlation;
+
+import java.util.Objects;
+
+/**
+ * The correlation a process instance waits for on a correlated message.
+ * <p>
+ * Subscriptions with the same {@link Route} compute the correlation of an incoming message the same way, so the
+ * message correlation is computed once per route and compared with the subscribed correlations by key lookup.
+ */
+public final class CorrelationSubscription {
+
+    private final Route route;
+    private final CorrelationInstance correlation;
+
+    public CorrelationSubscription(CorrelationManager correlationManager, String messageRef, CorrelationInstance correlation) {
+        this.route = new Route(correlationManager, messageRef);
+        this.correlation = Objects.requireNonNull(correlation);
+    }
+
+    public Route getRoute() {
+        return route;
+    }
+
+    public CorrelationInstance getCorrelation() {
+        return correlation;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(route, correlation);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CorrelationSubscription)) {
+            return false;
+        }
+        CorrelationSubscription other = (CorrelationSubscription) obj;
+        return route.equals(other.route) && correlation.equals(other.correlation);
+    }
+
+    @Override
+    public String toString() {
+        return "CorrelationSubscription [messageRef=" + route.messageRef + ", correlation=" + correlation + "]";
+    }
+
+    /**
+     * A correlated message of a process definition.
+     */
+    public static final class Route {
+
+        private final CorrelationManager correlationManager;
+        private final String messageRef;
+
+        private Route(CorrelationManager correlationManager, String messageRef) {
+            this.correlationManager = Objects.requireNonNull(correlationManager);
+            this.messageRef = Objects.requireNonNull(messageRef);
+        }
+
+        public CorrelationInstance correlate(Object event) {
+            return correlationManager.computeCorrelationInstance(messageRef, event);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(correlationManager) + messageRef.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Route)) {
+                return false;
+            }
+            Route other = (Route) obj;
+            return correlationManager == other.correlationManager && messageRef.equals(other.messageRef);
+        }
+    }
+}
@@ -20,11 +20,15 @@ import java.util.function.Function;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 public class JacksonConverter<T> implements Function<String, T> {
 
     private final Class<T> clazz;
 
+    // created on first use, so that modules registered on the shared mapper before that are taken into account
+    private volatile ObjectReader reader;
+
     public JacksonConverter(Class<T> clazz) {
         this.clazz = clazz;
     }
@@ -32,9 +36,18 @@ public class JacksonConverter<T> implements Function<String, T> {
     @Override
     public T apply(String t) {
         try {
-            return ObjectMapperFactory.get().readValue(t, clazz);
+            return reader().readValue(t);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException(e);
         }
     }
+
+    private ObjectReader reader() {
+        ObjectReader result = reader;
+        if (result == null) {
+            result = ObjectMapperFactory.get().readerFor(clazz);
+            reader = result;
+        }
+        return result;
+    }
 }
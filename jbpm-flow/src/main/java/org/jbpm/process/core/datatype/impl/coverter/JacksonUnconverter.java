@@ -20,15 +20,28 @@ import java.util.function.Function;
 import org.kie.kogito.jackson.utils.ObjectMapperFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 public class JacksonUnconverter<T> implements Function<T, String> {
 
+    // created on first use, so that modules registered on the shared mapper before that are taken into account
+    private volatile ObjectWriter writer;
+
     @Override
     public String apply(T t) {
         try {
-            return ObjectMapperFactory.get().writeValueAsString(t);
+            return writer().writeValueAsString(t);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException(e);
         }
     }
+
+    private ObjectWriter writer() {
+        ObjectWriter result = writer;
+        if (result == null) {
+            result = ObjectMapperFactory.get().writer();
+            writer = result;
+        }
+        return result;
+    }
 }
\ No newline at end of file
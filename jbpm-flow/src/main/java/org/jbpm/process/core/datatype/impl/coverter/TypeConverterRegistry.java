@@ -16,8 +16,8 @@
 package org.jbpm.process.core.datatype.impl.coverter;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.jbpm.process.core.context.variable.Variable;
@@ -31,11 +31,13 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 
 public class TypeConverterRegistry {
 
-    private static TypeConverterRegistry INSTANCE = new TypeConverterRegistry();
+    private static final TypeConverterRegistry INSTANCE = new TypeConverterRegistry();
 
-    private Map<String, Function<String, ? extends Object>> converters = new HashMap<>();
-    private Map<String, Function<? extends Object, String>> unconverters = new HashMap<>();
-    private Function<String, String> defaultConverter = new NoOpTypeConverter();
+    private final Map<String, Function<String, ? extends Object>> converters = new ConcurrentHashMap<>();
+    private final Map<String, Function<? extends Object, String>> unconverters = new ConcurrentHashMap<>();
+    private final Function<String, String> defaultConverter = new NoOpTypeConverter();
+    // reverse converter resolved per runtime class, replaced as a whole whenever an unconverter is registered
+    private volatile ClassValue<Function<?, String>> reverseConverters = newReverseConverters();
 
     private TypeConverterRegistry() {
         converters.put(Date.class.getName(), new DateTypeConverter());
@@ -62,14 +64,28 @@ public class TypeConverterRegistry {
         return converters.getOrDefault(type, defaultConverter);
     }
 
+    @SuppressWarnings("unchecked")
     public <T> Function<T, String> forTypeReverse(T obj) {
-        Function<T, String> result = null;
-        Class<?> clazz = obj.getClass();
-        do {
-            result = (Function<T, String>) unconverters.get(clazz.getName());
-            clazz = clazz.getSuperclass();
-        } while (clazz != null && result == null);
-        return result == null ? Object::toString : result;
+        return (Function<T, String>) reverseConverters.get(obj.getClass());
+    }
+
+    private ClassValue<Function<?, String>> newReverseConverters() {
+        return new ClassValue<>() {
+            @Override
+            protected Function<?, String> computeValue(Class<?> type) {
+                return resolveReverse(type);
+            }
+        };
+    }
+
+    private Function<?, String> resolveReverse(Class<?> type) {
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            Function<?, String> result = unconverters.get(clazz.getName());
+            if (result != null) {
+                return result;
+            }
+        }
+        return Object::toString;
     }
 
     public TypeConverterRegistry register(String type, Function<String, ? extends Object> converter) {
@@ -79,6 +95,7 @@ public class TypeConverterRegistry {
 
     public <T> TypeConverterRegistry registerUnconverter(String type, Function<T, String> unconverter) {
         unconverters.put(type, unconverter);
+        reverseConverters = newReverseConverters();
         return this;
     }
 
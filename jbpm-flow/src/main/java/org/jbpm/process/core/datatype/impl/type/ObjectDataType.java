@@ -76,6 +76,7 @@ public class ObjectDataType implements DataType {
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
         className = (String) in.readObject();
+        classLoader = Thread.currentThread().getContextClassLoader();
     }
 
     @Override
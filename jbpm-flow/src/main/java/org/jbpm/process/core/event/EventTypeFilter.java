@@ -20,6 +20,7 @@ import java.util.function.Function;
 
 import org.jbpm.process.core.correlation.CorrelationInstance;
 import org.jbpm.process.core.correlation.CorrelationManager;
+import org.jbpm.process.core.correlation.CorrelationSubscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,4 +85,19 @@ public class EventTypeFilter implements EventFilter, Serializable {
     public void setMessageRef(String messageRef) {
         this.messageRef = messageRef;
     }
+
+    /**
+     * Returns whether only messages matching the process correlation are accepted, see {@link #subscription(Function)}.
+     */
+    public boolean isSubscribed() {
+        return correlationManager != null && messageRef != null && correlationManager.isSubscribe(messageRef);
+    }
+
+    /**
+     * Computes the correlation the resolved process state subscribes to, so matching messages can be routed to it
+     * without calling {@link #acceptsEvent(String, Object, Function)} on every waiting process instance.
+     */
+    public CorrelationSubscription subscription(Function<String, Object> resolver) {
+        return new CorrelationSubscription(correlationManager, messageRef, correlationManager.computeSubscription(messageRef, resolver));
+    }
 }
@@ -42,7 +42,7 @@ public class DataTransformerRegistry {
 
     protected DataTransformerRegistry() {
         this.registry = new ConcurrentHashMap<>();
-        this.registry.put("http://www.mvel.org/2.0", new MVELDataTransformer());
+        this.registry.put(MVELDataTransformer.LANGUAGE, new MVELDataTransformer());
     }
 
     public static DataTransformerRegistry get() {
@@ -78,6 +78,9 @@ public class WorkImpl implements Work, Serializable {
             throw new NullPointerException("Parameter name is null");
         }
         parameters.put(name, value);
+        if (META_NAMES.contains(name)) {
+            resetDeadlines();
+        }
     }
 
     @Override
@@ -86,6 +89,15 @@ public class WorkImpl implements Work, Serializable {
             throw new NullPointerException();
         }
         this.parameters = new HashMap<>(parameters);
+        resetDeadlines();
+    }
+
+    // deadlines are parsed and compiled once from the parameters, so drop them when those change
+    private void resetDeadlines() {
+        startDeadlines = null;
+        endDeadlines = null;
+        startReassigments = null;
+        endReassigments = null;
     }
 
     @Override
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.kie.api.definition.process.Process;
+
+/**
+ * Content addressed cache of process definitions read back from their XML form.
+ * <p>
+ * Process instances that carry a modified definition as XML share a single parsed graph per distinct XML content.
+ * Entries are keyed by the SHA-256 hash of the XML and only weakly reference the definition, so a graph is dropped
+ * as soon as no process instance uses it anymore.
+ */
+public final class XmlProcessDefinitionCache {
+
+    private static final Map<String, DefinitionReference> definitions = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<Process> collected = new ReferenceQueue<>();
+
+    public static Process get(String processXml) {
+        return get(processXml, xml -> XmlProcessDumperFactory.newXmlProcessDumperFactory().readProcess(xml));
+    }
+
+    public static Process get(String processXml, Function<String, Process> reader) {
+        expunge();
+        String key = hash(processXml);
+        Process process = dereference(definitions.get(key));
+        if (process != null) {
+            return process;
+        }
+        Process parsed = reader.apply(processXml);
+        return parsed == null ? null : register(key, parsed);
+    }
+
+    /**
+     * Registers an already built definition for the given XML, returning the definition that is shared for it.
+     */
+    public static Process put(String processXml, Process process) {
+        expunge();
+        return register(hash(processXml), process);
+    }
+
+    static int size() {
+        expunge();
+        return definitions.size();
+    }
+
+    private static Process register(String key, Process process) {
+        Process[] shared = new Process[1];
+        definitions.compute(key, (k, existing) -> {
+            Process current = dereference(existing);
+            if (current != null) {
+                shared[0] = current;
+                return existing;
+            }
+            shared[0] = process;
+            return new DefinitionReference(k, process, collected);
+        });
+        return shared[0];
+    }
+
+    private static Process dereference(DefinitionReference reference) {
+        return reference == null ? null : reference.get();
+    }
+
+    private static void expunge() {
+        DefinitionReference reference;
+        while ((reference = (DefinitionReference) collected.poll()) != null) {
+            definitions.remove(reference.key, reference);
+        }
+    }
+
+    private static String hash(String processXml) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(processXml.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class DefinitionReference extends WeakReference<Process> {
+
+        private final String key;
+
+        DefinitionReference(String key, Process process, ReferenceQueue<Process> queue) {
+            super(process, queue);
+            this.key = key;
+        }
+    }
+
+    private XmlProcessDefinitionCache() {
+        // It is not allowed to create instances of util classes.
+    }
+}
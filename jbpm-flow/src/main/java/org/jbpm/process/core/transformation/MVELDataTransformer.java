@@ -17,6 +17,7 @@ package org.jbpm.process.core.transformation;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.jbpm.workflow.instance.impl.MVELProcessHelper;
 import org.kie.api.runtime.process.DataTransformer;
@@ -32,6 +33,8 @@ import org.slf4j.LoggerFactory;
  */
 public class MVELDataTransformer implements DataTransformer {
 
+    public static final String LANGUAGE = "http://www.mvel.org/2.0";
+
     private static final Logger logger = LoggerFactory.getLogger(MVELDataTransformer.class);
 
     @Override
@@ -63,7 +66,12 @@ public class MVELDataTransformer implements DataTransformer {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Object transform(Object expression, Map<String, Object> parameters) {
+        if (expression instanceof Function) {
+            // expression translated to java when the process was generated
+            return ((Function<Map<String, Object>, Object>) expression).apply(parameters);
+        }
         logger.debug("About to execute mvel expression {} with parameters {}", expression, parameters);
         return MVELProcessHelper.evaluator().executeExpression(expression, parameters);
     }
@@ -31,6 +31,7 @@ import org.jbpm.process.core.event.EventTypeFilter;
 import org.jbpm.process.core.timer.BusinessCalendar;
 import org.jbpm.process.core.timer.DateTimeUtils;
 import org.jbpm.process.core.timer.Timer;
+import org.jbpm.process.instance.jobs.TimingWheelJobService;
 import org.jbpm.ruleflow.core.RuleFlowProcess;
 import org.jbpm.workflow.core.impl.DataAssociation;
 import org.jbpm.workflow.core.impl.NodeIoHelper;
@@ -88,7 +89,7 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
         this.runtimeContext = runtimeContext;
         this.processInstanceManager = services.getProcessInstanceManager();
         this.signalManager = services.getSignalManager();
-        this.jobService = services.getJobsService() == null ? InMemoryJobService.get(application.get(Processes.class), this.unitOfWorkManager) : services.getJobsService();
+        this.jobService = services.getJobsService() == null ? defaultJobsService(application.get(Processes.class)) : services.getJobsService();
         this.processEventSupport = services.getEventSupport();
         this.workItemManager = services.getKogitoWorkItemManager();
         if (isActive()) {
@@ -189,6 +190,10 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
         return processInstanceManager;
     }
 
+    private JobsService defaultJobsService(Processes processes) {
+        return TimingWheelJobService.ENABLED ? TimingWheelJobService.get(processes, unitOfWorkManager) : InMemoryJobService.get(processes, unitOfWorkManager);
+    }
+
     @Override
     public JobsService getJobsService() {
         return jobService;
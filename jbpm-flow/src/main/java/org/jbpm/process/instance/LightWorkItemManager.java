@@ -15,21 +15,24 @@
  */
 package org.jbpm.process.instance;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.drools.core.process.WorkItem;
+import org.jbpm.process.instance.impl.humantask.HumanTaskAssignmentIndex;
 import org.jbpm.process.instance.impl.workitem.Abort;
 import org.jbpm.process.instance.impl.workitem.Active;
 import org.jbpm.process.instance.impl.workitem.Complete;
+import org.jbpm.process.instance.metrics.NodeMetricsRegistry;
 import org.kie.kogito.internal.process.event.KogitoProcessEventSupport;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
@@ -40,6 +43,8 @@ import org.kie.kogito.process.workitem.Transition;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 import org.kie.kogito.process.workitems.KogitoWorkItemHandlerNotFoundException;
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
+import org.kie.kogito.process.workitems.impl.IdGeneratorFactory;
 import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
 import org.kie.kogito.signal.SignalManager;
 
@@ -51,7 +56,13 @@ import static org.kie.api.runtime.process.WorkItem.COMPLETED;
 public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     private Map<String, InternalKogitoWorkItem> workItems = new ConcurrentHashMap<>();
-    private Map<String, KogitoWorkItemHandler> workItemHandlers = new HashMap<>();
+    // process instance id -> ids of its active work items, kept in step with workItems
+    private Map<String, Set<String>> workItemsByProcessInstance = new ConcurrentHashMap<>();
+    // immutable snapshot swapped on registration, so dispatching never sees a map being modified
+    private volatile Map<String, KogitoWorkItemHandler> workItemHandlers = Collections.emptyMap();
+    private final Map<String, WorkItemRetryPolicy> retryPolicies = new ConcurrentHashMap<>();
+    private volatile WorkItemRetryPolicy defaultRetryPolicy;
+    private final HumanTaskAssignmentIndex humanTaskAssignments = new HumanTaskAssignmentIndex();
 
     private final ProcessInstanceManager processInstanceManager;
     private final SignalManager signalManager;
@@ -68,7 +79,7 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void internalExecuteWorkItem(InternalKogitoWorkItem workItem) {
-        ((KogitoWorkItemImpl) workItem).setId(UUID.randomUUID().toString());
+        ((KogitoWorkItemImpl) workItem).setId(IdGeneratorFactory.get().generate());
         internalAddWorkItem(workItem);
         KogitoWorkItemHandler handler = this.workItemHandlers.get(workItem.getName());
         if (handler != null) {
@@ -79,6 +90,9 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
             handler.executeWorkItem(workItem, this);
 
             eventSupport.fireAfterWorkItemTransition(processInstance, workItem, transition, null);
+            if (NodeMetricsRegistry.ENABLED) {
+                NodeMetricsRegistry.workItemActivated(workItem);
+            }
         } else {
             throw new KogitoWorkItemHandlerNotFoundException(workItem.getName());
         }
@@ -86,7 +100,95 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void internalAddWorkItem(InternalKogitoWorkItem workItem) {
-        workItems.put(workItem.getStringId(), workItem);
+        humanTaskAssignments.index(workItem);
+        String processInstanceId = workItem.getProcessInstanceStringId();
+        if (processInstanceId == null) {
+            workItems.put(workItem.getStringId(), workItem);
+            return;
+        }
+        InternalKogitoWorkItem previous = workItems.get(workItem.getStringId());
+        if (previous != null && !processInstanceId.equals(previous.getProcessInstanceStringId())) {
+            unindex(previous);
+        }
+        workItemsByProcessInstance.compute(processInstanceId, (k, ids) -> {
+            workItems.put(workItem.getStringId(), workItem);
+            Set<String> workItemIds = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            workItemIds.add(workItem.getStringId());
+            return workItemIds;
+        });
+    }
+
+    private void removeWorkItem(String id) {
+        humanTaskAssignments.remove(id);
+        InternalKogitoWorkItem workItem = workItems.get(id);
+        if (workItem == null) {
+            return;
+        }
+        String processInstanceId = workItem.getProcessInstanceStringId();
+        if (processInstanceId == null) {
+            workItems.remove(id);
+            return;
+        }
+        workItemsByProcessInstance.compute(processInstanceId, (k, ids) -> {
+            workItems.remove(id);
+            if (ids != null) {
+                ids.remove(id);
+            }
+            return ids == null || ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private void unindex(InternalKogitoWorkItem workItem) {
+        if (workItem.getProcessInstanceStringId() != null) {
+            workItemsByProcessInstance.computeIfPresent(workItem.getProcessInstanceStringId(), (k, ids) -> {
+                ids.remove(workItem.getStringId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Returns the active work items of the given process instance, looked up through the process instance index.
+     */
+    @Override
+    public Collection<InternalKogitoWorkItem> getWorkItems(String processInstanceId) {
+        Set<String> ids = workItemsByProcessInstance.get(processInstanceId);
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        List<InternalKogitoWorkItem> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            InternalKogitoWorkItem workItem = workItems.get(id);
+            if (workItem != null) {
+                result.add(workItem);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void internalRemoveWorkItems(String processInstanceId) {
+        workItemsByProcessInstance.computeIfPresent(processInstanceId, (k, ids) -> {
+            for (String id : ids) {
+                workItems.remove(id);
+                humanTaskAssignments.remove(id);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void internalUpdateWorkItem(InternalKogitoWorkItem workItem) {
+        if (workItems.containsKey(workItem.getStringId())) {
+            humanTaskAssignments.index(workItem);
+        }
+    }
+
+    /**
+     * Returns the index of the assignments of the active human tasks managed by this work item manager.
+     */
+    public HumanTaskAssignmentIndex getHumanTaskAssignments() {
+        return humanTaskAssignments;
     }
 
     @Override
@@ -106,11 +208,14 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
                 workItem.setPhaseId(ID);
                 workItem.setPhaseStatus(STATUS);
                 eventSupport.fireAfterWorkItemTransition(processInstance, workItem, transition, null);
+                if (NodeMetricsRegistry.ENABLED) {
+                    NodeMetricsRegistry.workItemAborted(workItem);
+                }
             } else {
-                workItems.remove(workItem.getStringId());
+                removeWorkItem(workItem.getStringId());
                 throw new KogitoWorkItemHandlerNotFoundException(workItem.getName());
             }
-            workItems.remove(workItem.getStringId());
+            removeWorkItem(workItem.getStringId());
         }
     }
 
@@ -146,7 +251,7 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void internalRemoveWorkItem(String id) {
-        workItems.remove(id);
+        removeWorkItem(id);
     }
 
     @Override
@@ -164,6 +269,7 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
                 throw new NotAuthorizedException("User is not authorized to access task instance with id " + id);
             }
             T results = updater.apply(workItem);
+            humanTaskAssignments.index(workItem);
             eventSupport.fireAfterWorkItemTransition(processInstanceManager.getProcessInstance(workItem
                     .getProcessInstanceStringId()), workItem, null, null);
             return results;
@@ -178,11 +284,14 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
         workItem.setState(COMPLETED);
         workItem.setCompleteDate(new Date());
 
+        if (NodeMetricsRegistry.ENABLED) {
+            NodeMetricsRegistry.workItemCompleted(workItem);
+        }
         // process instance may have finished already
         if (processInstance != null) {
             processInstance.signalEvent("workItemCompleted", workItem);
         }
-        workItems.remove(workItem.getStringId());
+        removeWorkItem(workItem.getStringId());
 
     }
 
@@ -241,7 +350,10 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
             workItem.setPhaseId(ID);
             workItem.setPhaseStatus(STATUS);
             eventSupport.fireAfterWorkItemTransition(processInstance, workItem, transition, null);
-            workItems.remove(id);
+            if (NodeMetricsRegistry.ENABLED) {
+                NodeMetricsRegistry.workItemAborted(workItem);
+            }
+            removeWorkItem(id);
         }
     }
 
@@ -256,13 +368,34 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
     }
 
     @Override
-    public void registerWorkItemHandler(String workItemName, KogitoWorkItemHandler handler) {
-        this.workItemHandlers.put(workItemName, handler);
+    public WorkItemRetryPolicy getRetryPolicy(String workItemName) {
+        WorkItemRetryPolicy retryPolicy = workItemName == null ? null : retryPolicies.get(workItemName);
+        return retryPolicy == null ? defaultRetryPolicy : retryPolicy;
+    }
+
+    @Override
+    public void registerRetryPolicy(String workItemName, WorkItemRetryPolicy retryPolicy) {
+        if (workItemName == null) {
+            this.defaultRetryPolicy = retryPolicy;
+        } else if (retryPolicy == null) {
+            this.retryPolicies.remove(workItemName);
+        } else {
+            this.retryPolicies.put(workItemName, retryPolicy);
+        }
+    }
+
+    @Override
+    public synchronized void registerWorkItemHandler(String workItemName, KogitoWorkItemHandler handler) {
+        Map<String, KogitoWorkItemHandler> handlers = new HashMap<>(this.workItemHandlers);
+        handlers.put(workItemName, handler);
+        this.workItemHandlers = Collections.unmodifiableMap(handlers);
     }
 
     @Override
     public void clear() {
         this.workItems.clear();
+        this.workItemsByProcessInstance.clear();
+        this.humanTaskAssignments.clear();
     }
 
     @Override
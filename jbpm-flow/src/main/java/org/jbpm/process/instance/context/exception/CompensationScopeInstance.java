@@ -110,8 +110,7 @@ public class CompensationScopeInstance extends ExceptionScopeInstance {
                     eventNodeInstance.signalEvent(Metadata.EVENT_TYPE_COMPENSATION, compensationActivityRef);
                 } else if (handlerNode instanceof EventSubProcessNode) {
                     // Check that subprocess parent has completed. 
-                    List<String> completedIds = processInstance.getCompletedNodeIds();
-                    if (completedIds.contains(((NodeImpl) ((Node) handlerNode).getParentContainer()).getMetaData("UniqueId"))) {
+                    if (processInstance.isNodeCompleted((String) ((NodeImpl) ((Node) handlerNode).getParentContainer()).getMetaData("UniqueId"))) {
                         NodeInstance subProcessNodeInstance =
                                 (nodeInstanceContainer).getNodeInstance((org.kie.api.definition.process.Node) ((Node) handlerNode).getParentContainer());
                         compensationInstances.add(subProcessNodeInstance);
@@ -30,6 +30,7 @@ import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.process.instance.context.AbstractContextInstance;
 import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.jbpm.workflow.instance.node.CompositeContextNodeInstance;
 import org.kie.kogito.internal.process.event.KogitoObjectListenerAware;
 import org.kie.kogito.internal.process.event.KogitoProcessEventSupport;
@@ -122,6 +123,9 @@ public class VariableScopeInstance extends AbstractContextInstance {
                     oldValue, newValue, tags, pi,
                     nodeInstance,
                     runtime);
+            if (pi instanceof WorkflowProcessInstanceImpl) {
+                ((WorkflowProcessInstanceImpl) pi).refreshCorrelationSubscriptions();
+            }
         }
     }
 
@@ -18,8 +18,10 @@ package org.jbpm.process.instance.event;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -30,14 +32,22 @@ import org.drools.core.common.WorkingMemoryAction;
 import org.drools.core.marshalling.MarshallerReaderContext;
 import org.drools.core.marshalling.MarshallerWriteContext;
 import org.drools.core.phreak.PropagationEntry;
+import org.jbpm.process.core.correlation.CorrelationInstance;
+import org.jbpm.process.core.correlation.CorrelationSubscription;
 import org.jbpm.process.instance.InternalProcessRuntime;
 import org.kie.api.runtime.process.EventListener;
 import org.kie.api.runtime.process.ProcessInstance;
 import org.kie.kogito.signal.SignalManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DefaultSignalManager implements SignalManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(DefaultSignalManager.class);
+
     private Map<String, List<EventListener>> processEventListeners = new ConcurrentHashMap<>();
+    // event type -> correlated message -> subscribed correlation -> listeners waiting for it
+    private final Map<String, Map<CorrelationSubscription.Route, Map<CorrelationInstance, List<EventListener>>>> correlatedEventListeners = new ConcurrentHashMap<>();
     private InternalKnowledgeRuntime kruntime;
 
     public DefaultSignalManager(InternalKnowledgeRuntime kruntime) {
@@ -71,6 +81,34 @@ public class DefaultSignalManager implements SignalManager {
         }
     }
 
+    /**
+     * Registers a listener that only receives the correlated messages of the given type that match its subscription.
+     */
+    public void addEventListener(String type, CorrelationSubscription subscription, EventListener eventListener) {
+        correlatedEventListeners.compute(type, (t, routes) -> {
+            if (routes == null) {
+                routes = new ConcurrentHashMap<>();
+            }
+            routes.computeIfAbsent(subscription.getRoute(), r -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(subscription.getCorrelation(), c -> new CopyOnWriteArrayList<>())
+                    .add(eventListener);
+            return routes;
+        });
+    }
+
+    public void removeEventListener(String type, CorrelationSubscription subscription, EventListener eventListener) {
+        correlatedEventListeners.computeIfPresent(type, (t, routes) -> {
+            routes.computeIfPresent(subscription.getRoute(), (r, correlations) -> {
+                correlations.computeIfPresent(subscription.getCorrelation(), (c, eventListeners) -> {
+                    eventListeners.remove(eventListener);
+                    return eventListeners.isEmpty() ? null : eventListeners;
+                });
+                return correlations.isEmpty() ? null : correlations;
+            });
+            return routes.isEmpty() ? null : routes;
+        });
+    }
+
     public void signalEvent(String type, Object event) {
         ((DefaultSignalManager) ((InternalProcessRuntime) kruntime.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, event);
     }
@@ -83,6 +121,32 @@ public class DefaultSignalManager implements SignalManager {
                     eventListener.signalEvent(type, event);
                 }
             }
+            Map<CorrelationSubscription.Route, Map<CorrelationInstance, List<EventListener>>> routes = correlatedEventListeners.get(type);
+            if (routes != null && event != null) {
+                signalCorrelatedEvent(type, event, routes, eventListeners);
+            }
+        }
+    }
+
+    private void signalCorrelatedEvent(String type, Object event, Map<CorrelationSubscription.Route, Map<CorrelationInstance, List<EventListener>>> routes,
+            List<EventListener> signalled) {
+        Set<EventListener> delivered = signalled == null ? new HashSet<>() : new HashSet<>(signalled);
+        for (Map.Entry<CorrelationSubscription.Route, Map<CorrelationInstance, List<EventListener>>> route : routes.entrySet()) {
+            CorrelationInstance correlation;
+            try {
+                correlation = route.getKey().correlate(event);
+            } catch (IllegalArgumentException e) {
+                logger.debug("Event {} of type {} does not correlate: {}", event, type, e.getMessage());
+                continue;
+            }
+            List<EventListener> eventListeners = route.getValue().get(correlation);
+            if (eventListeners != null) {
+                for (EventListener eventListener : eventListeners) {
+                    if (delivered.add(eventListener)) {
+                        eventListener.signalEvent(type, event);
+                    }
+                }
+            }
         }
     }
 
@@ -210,6 +274,6 @@ public class DefaultSignalManager implements SignalManager {
 
     @Override
     public boolean accept(String type, Object event) {
-        return processEventListeners.containsKey(type);
+        return processEventListeners.containsKey(type) || correlatedEventListeners.containsKey(type);
     }
 }
@@ -19,11 +19,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.jbpm.process.instance.ProcessInstanceManager;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.process.workitems.impl.IdGeneratorFactory;
 
 public class DefaultProcessInstanceManager implements ProcessInstanceManager {
 
@@ -33,7 +33,7 @@ public class DefaultProcessInstanceManager implements ProcessInstanceManager {
 
     public void addProcessInstance(KogitoProcessInstance processInstance) {
         if (Objects.isNull(processInstance.getStringId())) {
-            ((org.jbpm.process.instance.ProcessInstance) processInstance).setId(UUID.randomUUID().toString());
+            ((org.jbpm.process.instance.ProcessInstance) processInstance).setId(IdGeneratorFactory.get().generate());
         }
         internalAddProcessInstance(processInstance);
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.impl;
+
+import java.io.Serializable;
+
+import org.jbpm.workflow.instance.impl.MVELProcessHelper;
+import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
+
+/**
+ * Return value evaluator interpreting an MVEL constraint that could not be translated to Java when the process
+ * was generated. The constraint is compiled on first evaluation, with the imports of the process.
+ */
+public class MVELInterpretedReturnValueEvaluator implements ReturnValueEvaluator, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String expression;
+
+    private transient volatile Serializable compiledExpression;
+
+    public MVELInterpretedReturnValueEvaluator(String expression) {
+        this.expression = expression;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public Object evaluate(KogitoProcessContext context) throws Exception {
+        return MVELProcessHelper.evaluator().executeExpression(getCompiledExpression(context), null, MVELProcessHelper.resolverFactory(context));
+    }
+
+    private Serializable getCompiledExpression(KogitoProcessContext context) {
+        Serializable compiled = compiledExpression;
+        if (compiled == null) {
+            compiled = MVELProcessHelper.compileExpression(expression, context);
+            compiledExpression = compiled;
+        }
+        return compiled;
+    }
+}
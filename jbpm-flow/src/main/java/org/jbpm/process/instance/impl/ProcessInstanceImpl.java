@@ -24,6 +24,7 @@ import java.util.Map;
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.ContextContainer;
+import org.jbpm.process.core.impl.XmlProcessDefinitionCache;
 import org.jbpm.process.core.impl.XmlProcessDumper;
 import org.jbpm.process.core.impl.XmlProcessDumperFactory;
 import org.jbpm.process.instance.ContextInstance;
@@ -75,9 +76,9 @@ public abstract class ProcessInstanceImpl implements ProcessInstance,
     }
 
     public void updateProcess(final Process process) {
-        setProcess(process);
         XmlProcessDumper dumper = XmlProcessDumperFactory.newXmlProcessDumperFactory();
         this.processXml = dumper.dumpProcess(process);
+        setProcess(XmlProcessDefinitionCache.put(this.processXml, process));
     }
 
     public String getProcessXml() {
@@ -99,8 +100,8 @@ public abstract class ProcessInstanceImpl implements ProcessInstance,
                 }
                 this.process = kruntime.getKieBase().getProcess(processId);
             } else {
-                XmlProcessDumper dumper = XmlProcessDumperFactory.newXmlProcessDumperFactory();
-                this.process = dumper.readProcess(processXml);
+                // instances migrated to the same modified definition share one parsed graph
+                this.process = XmlProcessDefinitionCache.get(processXml);
             }
         }
         return this.process;
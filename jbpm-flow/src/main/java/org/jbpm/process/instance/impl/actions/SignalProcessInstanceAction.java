@@ -36,11 +36,16 @@ public class SignalProcessInstanceAction implements Action, Serializable {
 
     public static final String UNSET_SCOPE = System.getProperty("org.jbpm.signals.defaultscope", PROCESS_INSTANCE_SCOPE);
 
+    /**
+     * Event data supplier that signals the id of the node instance executing the action.
+     */
+    public static final Function<KogitoProcessContext, Object> NODE_INSTANCE_ID = new NodeInstanceIdSupplier();
+
     private static final long serialVersionUID = 1L;
 
     private final String signalNameTemplate;
     private String variableNameExpression;
-    private Function<KogitoProcessContext, Object> eventDataSupplier = (kcontext) -> null;
+    private Function<KogitoProcessContext, Object> eventDataSupplier = NoEventDataSupplier.INSTANCE;
     private String scope = UNSET_SCOPE;
     private String inputVariable;
 
@@ -123,4 +128,35 @@ public class SignalProcessInstanceAction implements Action, Serializable {
     public String getSignalName() {
         return signalNameTemplate;
     }
+
+    // suppliers are named classes rather than lambdas so that definitions holding this action remain serializable
+
+    private static final class NoEventDataSupplier implements Function<KogitoProcessContext, Object>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private static final NoEventDataSupplier INSTANCE = new NoEventDataSupplier();
+
+        @Override
+        public Object apply(KogitoProcessContext context) {
+            return null;
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    private static final class NodeInstanceIdSupplier implements Function<KogitoProcessContext, Object>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object apply(KogitoProcessContext context) {
+            return context.getNodeInstance().getStringId();
+        }
+
+        private Object readResolve() {
+            return NODE_INSTANCE_ID;
+        }
+    }
 }
@@ -128,6 +128,9 @@ public class BaseHumanTaskLifeCycle implements LifeCycle<Map<String, Object>> {
             logger.debug("Target life cycle phase '{}' is terminiating, completing work item {}", targetPhase.id(), humanTaskWorkItem.getStringId());
             // since target life cycle phase is terminating completing work item
             ((InternalKogitoWorkItemManager) manager).internalCompleteWorkItem(humanTaskWorkItem);
+        } else {
+            // claiming, releasing and delegating change who may see the task
+            ((InternalKogitoWorkItemManager) manager).internalUpdateWorkItem(humanTaskWorkItem);
         }
 
         return data(humanTaskWorkItem);
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.impl.humantask;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.kie.kogito.jobs.DurationExpirationTime;
+import org.kie.kogito.jobs.ExactExpirationTime;
+import org.kie.kogito.jobs.ExpirationTime;
+
+/**
+ * Immutable, precomputed form of a {@link ScheduleInfo}.
+ * <p>
+ * The kind of schedule, its duration in milliseconds and the fixed period between a start and an end date are
+ * worked out once per schedule definition. Only the parts relative to the current time are evaluated when
+ * {@link #expirationTime()} is called for a task instance.
+ */
+public final class CompiledSchedule {
+
+    private enum Kind {
+        ONCE_AFTER_DURATION,
+        ONCE_AT_END_DATE,
+        REPEAT_FROM_START_DATE,
+        REPEAT_UNTIL_END_DATE,
+        REPEAT_DURATION
+    }
+
+    private final Kind kind;
+    private final Duration duration;
+    private final Long durationMillis;
+    private final ZonedDateTime startDate;
+    private final ZonedDateTime endDate;
+    private final int numRepetitions;
+    private final String description;
+
+    static CompiledSchedule of(ScheduleInfo info) {
+        return new CompiledSchedule(info);
+    }
+
+    private CompiledSchedule(ScheduleInfo info) {
+        this.duration = info.getDuration();
+        this.startDate = info.getStartDate();
+        this.endDate = info.getEndDate();
+        this.numRepetitions = info.getNumRepetitions();
+        this.description = info.toString();
+        if (numRepetitions == 0) {
+            // not repeatable duration and not repeatable exact date
+            this.kind = endDate == null ? Kind.ONCE_AFTER_DURATION : Kind.ONCE_AT_END_DATE;
+            this.durationMillis = duration == null ? null : duration.toMillis();
+        } else if (startDate != null) {
+            // startDate/duration and startDate/endDate
+            this.kind = Kind.REPEAT_FROM_START_DATE;
+            this.durationMillis = endDate == null ? (duration == null ? null : duration.toMillis()) : ChronoUnit.MILLIS.between(startDate, endDate);
+        } else {
+            // duration/endDate or repeatable timer with duration
+            this.kind = endDate != null ? Kind.REPEAT_UNTIL_END_DATE : Kind.REPEAT_DURATION;
+            this.durationMillis = duration == null ? null : duration.toMillis();
+        }
+    }
+
+    public ExpirationTime expirationTime() {
+        switch (kind) {
+            case ONCE_AFTER_DURATION:
+                return DurationExpirationTime.after(durationMillis());
+            case ONCE_AT_END_DATE:
+                return ExactExpirationTime.of(endDate);
+            case REPEAT_FROM_START_DATE:
+                return DurationExpirationTime.repeat(Instant.now().until(startDate, ChronoUnit.MILLIS), durationMillis(), numRepetitions);
+            case REPEAT_UNTIL_END_DATE:
+                int repetitions = numRepetitions;
+                if (repetitions <= 0) {
+                    // if number of repetitions is infinite, since there is a limit, it is not really infinite
+                    repetitions = (int) (Instant.now().until(endDate, ChronoUnit.MILLIS) / durationMillis());
+                }
+                return repetitions <= 1 ? ExactExpirationTime.of(endDate)
+                        : DurationExpirationTime.repeat(Instant.now().until(endDate.minus(duration.multipliedBy(repetitions)), ChronoUnit.MILLIS),
+                                durationMillis(), repetitions);
+            default:
+                return DurationExpirationTime.repeat(durationMillis(), durationMillis(), numRepetitions);
+        }
+    }
+
+    private long durationMillis() {
+        if (durationMillis == null) {
+            throw new IllegalArgumentException("Missing duration specification for " + description);
+        }
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledSchedule [kind=" + kind + ", " + description + "]";
+    }
+}
@@ -16,11 +16,9 @@
 package org.jbpm.process.instance.impl.humantask;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.Period;
 import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,8 +29,6 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.kie.kogito.jobs.DurationExpirationTime;
-import org.kie.kogito.jobs.ExactExpirationTime;
 import org.kie.kogito.jobs.ExpirationTime;
 
 public class DeadlineHelper {
@@ -44,38 +40,7 @@ public class DeadlineHelper {
     private static final Pattern listSeparatorPattern = Pattern.compile(",");
 
     public static ExpirationTime getExpirationTime(ScheduleInfo info) {
-        ExpirationTime expirationTime;
-        int numRepetitions = info.getNumRepetitions();
-        if (numRepetitions == 0) {
-            // not repeatable duration and not repeatable exact date
-            expirationTime = info.getEndDate() == null ? DurationExpirationTime.after(getDuration(info))
-                    : ExactExpirationTime.of(info.getEndDate());
-        } else if (info.getStartDate() != null) {
-            long duration = info.getEndDate() == null ? getDuration(info)
-                    : ChronoUnit.MILLIS.between(info
-                            .getStartDate(), info.getEndDate());
-            // startDate/duration and startDate/endDate
-            expirationTime = DurationExpirationTime.repeat(Instant.now().until(info.getStartDate(), ChronoUnit.MILLIS),
-                    duration, numRepetitions);
-
-        } else if (info.getEndDate() != null) {
-            // duration/endDate
-            if (numRepetitions <= 0) {
-                // if number of repetitions is infinite, since there is a limit, it is not really infinite
-                numRepetitions = (int) (Instant.now().until(info.getEndDate(), ChronoUnit.MILLIS) / getDuration(info));
-            }
-            expirationTime = numRepetitions <= 1 ? ExactExpirationTime.of(info.getEndDate())
-                    : DurationExpirationTime
-                            .repeat(Instant.now().until(info.getEndDate().minus(info.getDuration().multipliedBy(
-                                    numRepetitions)), ChronoUnit.MILLIS),
-                                    getDuration(info),
-                                    numRepetitions);
-        } else {
-            // repeatable timer with duration
-            long duration = getDuration(info);
-            expirationTime = DurationExpirationTime.repeat(duration, duration, numRepetitions);
-        }
-        return expirationTime;
+        return info.compile().expirationTime();
     }
 
     public static Collection<DeadlineInfo<Reassignment>> parseReassignments(Object text) {
@@ -102,7 +67,10 @@ public class DeadlineHelper {
             DeadlineInfo<T> deadline = new DeadlineInfo<>();
             int indexOf = text.indexOf("]@[");
             deadline.setNotification(notificationFunction.apply(text.substring(1, indexOf).trim()));
-            deadline.setScheduleInfo(scheduleFunction.apply(text.substring(indexOf + 3, text.length() - 1).trim()));
+            Collection<ScheduleInfo> schedules = scheduleFunction.apply(text.substring(indexOf + 3, text.length() - 1).trim());
+            // compiled together with the definition, so that starting a task only evaluates the time relative parts
+            schedules.forEach(ScheduleInfo::compile);
+            deadline.setScheduleInfo(schedules);
             return deadline;
         }
         throw new IllegalArgumentException("Invalid formar for dead line expression " + text);
@@ -205,14 +173,7 @@ public class DeadlineHelper {
     }
 
     private static Set<String> parseSet(Object text) {
-        return text instanceof String ? listSeparatorPattern.splitAsStream(text.toString()).collect(Collectors.toSet())
+        return text instanceof String ? Collections.unmodifiableSet(listSeparatorPattern.splitAsStream(text.toString()).collect(Collectors.toSet()))
                 : Collections.emptySet();
     }
-
-    private static long getDuration(ScheduleInfo info) {
-        if (info.getDuration() == null) {
-            throw new IllegalArgumentException("Missing duration specification for " + info);
-        }
-        return info.getDuration().toMillis();
-    }
 }
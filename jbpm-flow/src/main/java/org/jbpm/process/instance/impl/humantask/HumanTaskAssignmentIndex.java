@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.impl.humantask;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+
+/**
+ * Inverted index of the active human tasks of a work item manager, from users and groups to the tasks they are
+ * assigned to.
+ * <p>
+ * Every indexed task is given a slot, and every user or group maps to the bit set of the slots of its tasks, so the
+ * tasks visible to an identity are computed with one bit set operation per user or group instead of checking the
+ * assignments of each task. The index applies the same rules as {@link HumanTaskWorkItemImpl#enforce}. It is kept
+ * current through {@link #index} whenever a task is registered or its life cycle phase or assignment changes, and
+ * through {@link #remove} when the task is removed. Users and groups are dropped as soon as no task refers to them.
+ */
+public class HumanTaskAssignmentIndex {
+
+    private final Map<String, Assignment> assignments = new HashMap<>();
+    private final BitSet usedSlots = new BitSet();
+
+    private final Map<String, BitSet> potentialUsers = new HashMap<>();
+    private final Map<String, BitSet> potentialGroups = new HashMap<>();
+    private final Map<String, BitSet> excludedUsers = new HashMap<>();
+    private final Map<String, BitSet> adminUsers = new HashMap<>();
+    private final Map<String, BitSet> owners = new HashMap<>();
+    // tasks without potential users and groups are open to everyone
+    private final BitSet unassigned = new BitSet();
+    private final BitSet owned = new BitSet();
+
+    /**
+     * Tasks visible to a requesting identity, computed once for all the checks of a query.
+     */
+    public final class Visibility {
+
+        private final BitSet slots;
+
+        private Visibility(BitSet slots) {
+            this.slots = slots;
+        }
+
+        /**
+         * Returns whether the task is visible, or <code>null</code> when the task is not indexed and has to be
+         * authorized by the work item itself.
+         */
+        public Boolean isVisible(String taskId) {
+            synchronized (HumanTaskAssignmentIndex.this) {
+                Assignment assignment = assignments.get(taskId);
+                return assignment == null ? null : slots.get(assignment.slot);
+            }
+        }
+    }
+
+    private static final class Assignment {
+
+        private final int slot;
+        private final String owner;
+        private final Set<String> users;
+        private final Set<String> groups;
+        private final Set<String> excludedUsers;
+        private final Set<String> adminUsers;
+
+        private Assignment(int slot, HumanTaskWorkItemImpl task) {
+            this.slot = slot;
+            String actualOwner = task.getActualOwner();
+            this.owner = actualOwner == null || actualOwner.trim().isEmpty() ? null : actualOwner;
+            this.users = copy(task.getPotentialUsers());
+            this.groups = copy(task.getPotentialGroups());
+            this.excludedUsers = copy(task.getExcludedUsers());
+            this.adminUsers = copy(task.getAdminUsers());
+        }
+
+        private static Set<String> copy(Set<String> identities) {
+            return identities == null ? Set.of() : new HashSet<>(identities);
+        }
+    }
+
+    public synchronized void index(InternalKogitoWorkItem workItem) {
+        if (!(workItem instanceof HumanTaskWorkItemImpl) || workItem.getStringId() == null) {
+            return;
+        }
+        Assignment previous = assignments.get(workItem.getStringId());
+        int slot;
+        if (previous == null) {
+            slot = usedSlots.nextClearBit(0);
+            usedSlots.set(slot);
+        } else {
+            slot = previous.slot;
+            unlink(previous);
+        }
+        Assignment assignment = new Assignment(slot, (HumanTaskWorkItemImpl) workItem);
+        link(assignment);
+        assignments.put(workItem.getStringId(), assignment);
+    }
+
+    public synchronized void remove(String taskId) {
+        Assignment assignment = assignments.remove(taskId);
+        if (assignment != null) {
+            unlink(assignment);
+            usedSlots.clear(assignment.slot);
+        }
+    }
+
+    public synchronized void clear() {
+        assignments.clear();
+        usedSlots.clear();
+        potentialUsers.clear();
+        potentialGroups.clear();
+        excludedUsers.clear();
+        adminUsers.clear();
+        owners.clear();
+        unassigned.clear();
+        owned.clear();
+    }
+
+    public synchronized int size() {
+        return assignments.size();
+    }
+
+    /**
+     * Computes the indexed tasks visible to the given user with the given groups.
+     */
+    public synchronized Visibility visibility(String user, Collection<String> groups) {
+        BitSet visible = (BitSet) unassigned.clone();
+        or(visible, potentialUsers.get(user));
+        if (groups != null) {
+            for (String group : groups) {
+                or(visible, potentialGroups.get(group));
+            }
+        }
+        andNot(visible, excludedUsers.get(user));
+        // tasks with an actual owner are only visible to the owner and to administrators
+        BitSet ownedByOthers = (BitSet) owned.clone();
+        andNot(ownedByOthers, owners.get(user));
+        andNot(ownedByOthers, adminUsers.get(user));
+        visible.andNot(ownedByOthers);
+        return new Visibility(visible);
+    }
+
+    private void link(Assignment assignment) {
+        if (assignment.users.isEmpty() && assignment.groups.isEmpty()) {
+            unassigned.set(assignment.slot);
+        }
+        if (assignment.owner != null) {
+            owned.set(assignment.slot);
+            set(owners, assignment.owner, assignment.slot);
+        }
+        assignment.users.forEach(user -> set(potentialUsers, user, assignment.slot));
+        assignment.groups.forEach(group -> set(potentialGroups, group, assignment.slot));
+        assignment.excludedUsers.forEach(user -> set(excludedUsers, user, assignment.slot));
+        assignment.adminUsers.forEach(user -> set(adminUsers, user, assignment.slot));
+    }
+
+    private void unlink(Assignment assignment) {
+        unassigned.clear(assignment.slot);
+        owned.clear(assignment.slot);
+        if (assignment.owner != null) {
+            clear(owners, assignment.owner, assignment.slot);
+        }
+        assignment.users.forEach(user -> clear(potentialUsers, user, assignment.slot));
+        assignment.groups.forEach(group -> clear(potentialGroups, group, assignment.slot));
+        assignment.excludedUsers.forEach(user -> clear(excludedUsers, user, assignment.slot));
+        assignment.adminUsers.forEach(user -> clear(adminUsers, user, assignment.slot));
+    }
+
+    private static void set(Map<String, BitSet> slots, String identity, int slot) {
+        slots.computeIfAbsent(identity, k -> new BitSet()).set(slot);
+    }
+
+    private static void clear(Map<String, BitSet> slots, String identity, int slot) {
+        slots.computeIfPresent(identity, (k, bits) -> {
+            bits.clear(slot);
+            return bits.isEmpty() ? null : bits;
+        });
+    }
+
+    private static void or(BitSet target, BitSet bits) {
+        if (bits != null) {
+            target.or(bits);
+        }
+    }
+
+    private static void andNot(BitSet target, BitSet bits) {
+        if (bits != null) {
+            target.andNot(bits);
+        }
+    }
+}
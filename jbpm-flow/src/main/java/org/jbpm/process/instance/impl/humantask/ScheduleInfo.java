@@ -28,6 +28,8 @@ public class ScheduleInfo implements Serializable {
     private ZonedDateTime startDate;
     private ZonedDateTime endDate;
     private int numRepetitions;
+    // derived from the fields above, dropped whenever one of them changes
+    private transient volatile CompiledSchedule compiled;
 
     public Duration getDuration() {
         return duration;
@@ -35,6 +37,7 @@ public class ScheduleInfo implements Serializable {
 
     public void setDuration(Duration duration) {
         this.duration = duration;
+        this.compiled = null;
     }
 
     public ZonedDateTime getStartDate() {
@@ -43,6 +46,7 @@ public class ScheduleInfo implements Serializable {
 
     public void setStartDate(ZonedDateTime startDate) {
         this.startDate = startDate;
+        this.compiled = null;
     }
 
     public ZonedDateTime getEndDate() {
@@ -51,6 +55,7 @@ public class ScheduleInfo implements Serializable {
 
     public void setEndDate(ZonedDateTime endDate) {
         this.endDate = endDate;
+        this.compiled = null;
     }
 
     public int getNumRepetitions() {
@@ -59,6 +64,16 @@ public class ScheduleInfo implements Serializable {
 
     public void setNumRepetitions(int numRepetions) {
         this.numRepetitions = numRepetions;
+        this.compiled = null;
+    }
+
+    public CompiledSchedule compile() {
+        CompiledSchedule result = compiled;
+        if (result == null) {
+            result = CompiledSchedule.of(this);
+            compiled = result;
+        }
+        return result;
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.jobs;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical hashed timing wheel working on absolute tick numbers.
+ * <p>
+ * Every level has <code>2^bits</code> slots. A timeout is stored at the level of the highest tick digit in which its
+ * deadline differs from the current tick, in the slot given by the deadline digit at that level. When the current
+ * tick reaches a slot boundary of a higher level, the timeouts of that slot are cascaded to the lower levels, so
+ * scheduling and cancelling are O(1) and advancing one tick touches at most one slot per level.
+ * <p>
+ * Not thread safe, all operations are expected to be performed by a single (ticker) thread.
+ */
+final class TimingWheel<T> {
+
+    static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadline;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadline) {
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        T payload() {
+            return payload;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+
+    private final int bits;
+    private final int mask;
+    private final Bucket<T>[][] levels;
+    private final Bucket<T> overdue = new Bucket<>();
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(int bits, long currentTick) {
+        if (bits < 1 || bits > 16) {
+            throw new IllegalArgumentException("Number of bits per level must be between 1 and 16, was " + bits);
+        }
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = new Bucket[(Long.SIZE - 1 + bits - 1) / bits][];
+        this.currentTick = currentTick;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Schedules the payload to expire when the wheel is advanced to <code>deadline</code>; deadlines that are not in
+     * the future expire on the next call to {@link #advance(long, Consumer)}.
+     */
+    Timeout<T> schedule(long deadline, T payload) {
+        Timeout<T> timeout = new Timeout<>(payload, deadline);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given tick (inclusive), handing every expired timeout to the consumer.
+     */
+    void advance(long tick, Consumer<Timeout<T>> expired) {
+        expire(overdue, expired);
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+            // cascading may move timeouts due exactly at this tick to the overdue bucket
+            expire(overdue, expired);
+            Bucket<T>[] first = levels[0];
+            if (first != null) {
+                expire(first[(int) (currentTick & mask)], expired);
+            }
+        }
+    }
+
+    private void cascade() {
+        int top = 0;
+        while (top + 1 < levels.length && (currentTick & ((1L << (bits * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level > 0; level--) {
+            Bucket<T>[] slots = levels[level];
+            if (slots != null) {
+                Bucket<T> bucket = slots[(int) ((currentTick >>> (bits * level)) & mask)];
+                if (bucket != null) {
+                    Timeout<T> timeout;
+                    while ((timeout = bucket.poll()) != null) {
+                        place(timeout);
+                    }
+                }
+            }
+        }
+    }
+
+    private void expire(Bucket<T> bucket, Consumer<Timeout<T>> expired) {
+        if (bucket == null) {
+            return;
+        }
+        Timeout<T> timeout;
+        while ((timeout = bucket.poll()) != null) {
+            size--;
+            expired.accept(timeout);
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        if (timeout.deadline <= currentTick) {
+            overdue.add(timeout);
+            return;
+        }
+        int level = (63 - Long.numberOfLeadingZeros(timeout.deadline ^ currentTick)) / bits;
+        Bucket<T>[] slots = levels[level];
+        if (slots == null) {
+            slots = levels[level] = newLevel();
+        }
+        int slot = (int) ((timeout.deadline >>> (bits * level)) & mask);
+        Bucket<T> bucket = slots[slot];
+        if (bucket == null) {
+            bucket = slots[slot] = new Bucket<>();
+        }
+        bucket.add(timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bucket<T>[] newLevel() {
+        return new Bucket[mask + 1];
+    }
+}
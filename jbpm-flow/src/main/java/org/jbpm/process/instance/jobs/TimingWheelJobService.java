@@ -0,0 +1,379 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.jobs;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.kie.kogito.Model;
+import org.kie.kogito.jobs.ExpirationTime;
+import org.kie.kogito.jobs.JobsService;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.kie.kogito.jobs.ProcessJobDescription;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.process.impl.Sig;
+import org.kie.kogito.services.uow.UnitOfWorkExecutor;
+import org.kie.kogito.timer.TimerInstance;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jbpm.workflow.instance.node.TimerNodeInstance.TIMER_TRIGGERED_EVENT;
+
+/**
+ * Local {@link JobsService} backed by a hierarchical {@link TimingWheel}, meant for runtimes holding a large number of
+ * pending timers.
+ * <p>
+ * Scheduling and cancelling only enqueue the change, a single ticker thread applies them to the wheel in O(1) and
+ * advances it every <code>tickMillis</code>. Timers therefore fire with tick granularity and never before their
+ * expiration time. Expired jobs are dispatched in batches to a fixed pool of workers, jobs of the same process
+ * instance always go to the same worker so they are delivered in expiration order. Process instance jobs are
+ * delivered as a "timerTriggered" signal, process jobs start a new instance through the "timer" trigger.
+ * <p>
+ * Enabled as fallback jobs service of the process runtime with the <code>kogito.jobs.timing-wheel.enabled</code>
+ * system property.
+ */
+public class TimingWheelJobService implements JobsService, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelJobService.class);
+
+    public static final String ENABLED_PROPERTY = "kogito.jobs.timing-wheel.enabled";
+    public static final String TICK_PROPERTY = "kogito.jobs.timing-wheel.tick-millis";
+    public static final String PARALLELISM_PROPERTY = "kogito.jobs.timing-wheel.parallelism";
+
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final int WHEEL_BITS = 9;
+    private static final String TIMER_TRIGGER = "timer";
+
+    private static TimingWheelJobService instance;
+
+    private final Processes processes;
+    private final UnitOfWorkManager unitOfWorkManager;
+    private final long tickMillis;
+    private final long startMillis;
+    private final int parallelism;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Queue<Job> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Job> cancelled = new ConcurrentLinkedQueue<>();
+    private final TimingWheel<Job> wheel;
+    private final ExecutorService[] workers;
+    private final Thread ticker;
+    private volatile boolean running = true;
+
+    public static synchronized TimingWheelJobService get(Processes processes, UnitOfWorkManager unitOfWorkManager) {
+        if (instance == null) {
+            instance = new TimingWheelJobService(processes, unitOfWorkManager,
+                    Long.getLong(TICK_PROPERTY, DEFAULT_TICK_MILLIS),
+                    Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+        }
+        return instance;
+    }
+
+    public TimingWheelJobService(Processes processes, UnitOfWorkManager unitOfWorkManager) {
+        this(processes, unitOfWorkManager, DEFAULT_TICK_MILLIS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param tickMillis resolution of the wheel in milliseconds
+     * @param parallelism number of workers expired jobs are dispatched to
+     */
+    public TimingWheelJobService(Processes processes, UnitOfWorkManager unitOfWorkManager, long tickMillis, int parallelism) {
+        if (tickMillis <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Tick and parallelism must be positive");
+        }
+        this.processes = processes;
+        this.unitOfWorkManager = unitOfWorkManager;
+        this.tickMillis = tickMillis;
+        this.parallelism = parallelism;
+        this.startMillis = System.currentTimeMillis();
+        this.wheel = new TimingWheel<>(WHEEL_BITS, 0);
+        this.workers = new ExecutorService[parallelism];
+        AtomicInteger counter = new AtomicInteger();
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(r -> daemon(r, "kogito-timer-worker-" + counter.incrementAndGet()));
+        }
+        this.ticker = daemon(this::run, "kogito-timer-wheel");
+        this.ticker.start();
+    }
+
+    @Override
+    public String scheduleProcessJob(ProcessJobDescription description) {
+        return schedule(new Job(description.id(), description.expirationTime(), null, description));
+    }
+
+    @Override
+    public String scheduleProcessInstanceJob(ProcessInstanceJobDescription description) {
+        return schedule(new Job(description.id(), description.expirationTime(), description, null));
+    }
+
+    @Override
+    public boolean cancelJob(String id) {
+        Job job = id == null ? null : jobs.remove(id);
+        if (job == null) {
+            return false;
+        }
+        job.cancelled = true;
+        cancelled.add(job);
+        logger.debug("Job {} cancelled", id);
+        return true;
+    }
+
+    @Override
+    public ZonedDateTime getScheduledTime(String id) {
+        Job job = jobs.get(id);
+        return job == null ? null : ZonedDateTime.ofInstant(Instant.ofEpochMilli(job.deadline), ZoneId.systemDefault());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        synchronized (TimingWheelJobService.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+
+    int pendingJobs() {
+        return jobs.size();
+    }
+
+    private String schedule(Job job) {
+        Job previous = jobs.put(job.id, job);
+        if (previous != null) {
+            previous.cancelled = true;
+            cancelled.add(previous);
+        }
+        scheduled.add(job);
+        logger.debug("Job {} scheduled to expire at {}", job.id, job.deadline);
+        return job.id;
+    }
+
+    private void run() {
+        List<Job> expired = new ArrayList<>();
+        while (running) {
+            try {
+                applyChanges();
+                wheel.advance(currentTick(), timeout -> expired.add(timeout.payload()));
+                if (!expired.isEmpty()) {
+                    dispatch(expired);
+                    expired.clear();
+                }
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error advancing timing wheel", e);
+            }
+            long nextTickMillis = startMillis + (wheel.currentTick() + 1) * tickMillis;
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(Math.max(1, nextTickMillis - System.currentTimeMillis())));
+        }
+    }
+
+    private void applyChanges() {
+        Job job;
+        while ((job = cancelled.poll()) != null) {
+            if (job.timeout != null) {
+                wheel.cancel(job.timeout);
+                job.timeout = null;
+            }
+        }
+        while ((job = scheduled.poll()) != null) {
+            if (!job.cancelled) {
+                job.timeout = wheel.schedule(deadlineTick(job.deadline), job);
+            }
+        }
+    }
+
+    private void dispatch(List<Job> expired) {
+        List<List<Firing>> batches = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            batches.add(null);
+        }
+        for (Job job : expired) {
+            job.timeout = null;
+            if (job.cancelled) {
+                continue;
+            }
+            int remaining = job.fired();
+            if (remaining > 0) {
+                job.deadline += job.interval;
+                job.timeout = wheel.schedule(deadlineTick(job.deadline), job);
+            }
+            int worker = Math.floorMod(Objects.hashCode(job.partitionKey()), parallelism);
+            if (batches.get(worker) == null) {
+                batches.set(worker, new ArrayList<>());
+            }
+            batches.get(worker).add(new Firing(job, remaining));
+        }
+        for (int i = 0; i < parallelism; i++) {
+            List<Firing> batch = batches.get(i);
+            if (batch != null) {
+                try {
+                    workers[i].execute(() -> batch.forEach(this::fire));
+                } catch (RejectedExecutionException e) {
+                    logger.debug("Dropping {} expired jobs as the job service is closed", batch.size());
+                }
+            }
+        }
+    }
+
+    private void fire(Firing firing) {
+        Job job = firing.job;
+        if (job.cancelled) {
+            // cancelled while waiting for its worker
+            return;
+        }
+        try {
+            if (job.instanceJob != null) {
+                signalProcessInstance(job, firing.remaining);
+            } else {
+                startProcessInstance(job);
+            }
+        } catch (Exception e) {
+            logger.error("Error executing job {}", job.id, e);
+        } finally {
+            if (firing.remaining == 0) {
+                // last firing, the job stays cancellable until it is delivered
+                jobs.remove(job.id, job);
+            }
+        }
+    }
+
+    private void signalProcessInstance(Job job, int remaining) {
+        ProcessInstanceJobDescription description = job.instanceJob;
+        Process<? extends Model> process = processes.processById(description.processId());
+        if (process == null) {
+            logger.warn("Process {} of job {} not found, cancelling it", description.processId(), job.id);
+            cancelJob(job.id);
+            return;
+        }
+        TimerInstance timer = new TimerInstance();
+        timer.setId(job.id);
+        timer.setRepeatLimit(remaining);
+        boolean delivered = UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> process.instances()
+                .findById(description.processInstanceId())
+                .map(pi -> {
+                    pi.send(Sig.of(TIMER_TRIGGERED_EVENT, timer));
+                    return true;
+                }).orElse(false));
+        if (!delivered) {
+            // owning process instance does not exist anymore
+            cancelJob(job.id);
+        }
+    }
+
+    private void startProcessInstance(Job job) {
+        Process<? extends Model> process = processes.processById(job.processJob.processId());
+        if (process == null) {
+            logger.warn("Process {} of job {} not found, cancelling it", job.processJob.processId(), job.id);
+            cancelJob(job.id);
+            return;
+        }
+        UnitOfWorkExecutor.executeInUnitOfWork(unitOfWorkManager, () -> {
+            start(process);
+            return null;
+        });
+    }
+
+    private static <T extends Model> void start(Process<T> process) {
+        process.createInstance(process.createModel()).start(TIMER_TRIGGER, null);
+    }
+
+    private long currentTick() {
+        return Math.max(0, (System.currentTimeMillis() - startMillis) / tickMillis);
+    }
+
+    private long deadlineTick(long deadline) {
+        long delay = deadline - startMillis;
+        // round up so that jobs never fire before their expiration time
+        return delay <= 0 ? 0 : (delay + tickMillis - 1) / tickMillis;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final ProcessInstanceJobDescription instanceJob;
+        private final ProcessJobDescription processJob;
+        private final Long interval;
+        private final int limit;
+        private volatile long deadline;
+        private volatile boolean cancelled;
+        private int fired;
+        private TimingWheel.Timeout<Job> timeout;
+
+        private Job(String id, ExpirationTime expirationTime, ProcessInstanceJobDescription instanceJob, ProcessJobDescription processJob) {
+            this.id = id;
+            this.instanceJob = instanceJob;
+            this.processJob = processJob;
+            this.deadline = expirationTime.get().toInstant().toEpochMilli();
+            this.interval = expirationTime.repeatInterval() != null && expirationTime.repeatInterval() > 0 ? expirationTime.repeatInterval() : null;
+            Integer repeatLimit = expirationTime.repeatLimit();
+            this.limit = interval == null ? 1 : (repeatLimit == null || repeatLimit < 0 ? Integer.MAX_VALUE : repeatLimit);
+        }
+
+        /**
+         * Records a firing and returns the number of remaining ones.
+         */
+        private int fired() {
+            if (limit == Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+            fired++;
+            return Math.max(0, limit - fired);
+        }
+
+        private String partitionKey() {
+            return instanceJob != null ? instanceJob.processInstanceId() : processJob.processId();
+        }
+    }
+
+    private static final class Firing {
+
+        private final Job job;
+        private final int remaining;
+
+        private Firing(Job job, int remaining) {
+            this.job = job;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution metrics of a single node of a process definition.
+ * <p>
+ * <code>executionTime</code> measures the time spent triggering the node, excluding the nodes it triggers in turn,
+ * while <code>activeTime</code> measures the time between the trigger and the completion of a node instance that both
+ * happened in this runtime.
+ */
+public final class NodeMetrics {
+
+    private final String nodeUniqueId;
+
+    private final LongAdder triggered = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder workItemsActivated = new LongAdder();
+    private final LongAdder workItemsCompleted = new LongAdder();
+    private final LongAdder workItemsAborted = new LongAdder();
+    private final LongAdder signals = new LongAdder();
+
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+    private final LatencyHistogram activeTime = new LatencyHistogram();
+
+    public NodeMetrics(String nodeUniqueId) {
+        this.nodeUniqueId = nodeUniqueId;
+    }
+
+    public String getNodeUniqueId() {
+        return nodeUniqueId;
+    }
+
+    void triggered(long executionNanos) {
+        triggered.increment();
+        executionTime.record(executionNanos);
+    }
+
+    void failed() {
+        failed.increment();
+    }
+
+    void completed(long activeNanos) {
+        completed.increment();
+        if (activeNanos >= 0) {
+            activeTime.record(activeNanos);
+        }
+    }
+
+    void workItemActivated() {
+        workItemsActivated.increment();
+    }
+
+    void workItemCompleted() {
+        workItemsCompleted.increment();
+    }
+
+    void workItemAborted() {
+        workItemsAborted.increment();
+    }
+
+    void signalReceived() {
+        signals.increment();
+    }
+
+    public long getTriggered() {
+        return triggered.sum();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getWorkItemsActivated() {
+        return workItemsActivated.sum();
+    }
+
+    public long getWorkItemsCompleted() {
+        return workItemsCompleted.sum();
+    }
+
+    public long getWorkItemsAborted() {
+        return workItemsAborted.sum();
+    }
+
+    public long getSignals() {
+        return signals.sum();
+    }
+
+    public LatencyHistogram getExecutionTime() {
+        return executionTime;
+    }
+
+    public LatencyHistogram getActiveTime() {
+        return activeTime;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.metrics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jbpm.workflow.core.impl.NodeImpl;
+import org.kie.api.definition.process.Node;
+import org.kie.api.runtime.process.NodeInstance;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+
+import static org.jbpm.ruleflow.core.Metadata.UNIQUE_ID;
+
+/**
+ * Entry point of the per node execution metrics.
+ * <p>
+ * The engine feeds the registry from node triggering, node completion, work item transitions and signal delivery.
+ * Collection is switched on with the <code>kogito.process.metrics.enabled</code> system property; the flag is
+ * constant for the lifetime of the JVM so that the guarded calls are removed by the JIT when metrics are disabled.
+ * Exporters pull the figures through {@link #getProcessMetrics()} without any allocation on the engine side.
+ * <p>
+ * Nodes that complete while they are being triggered synchronously trigger the nodes that follow them. The execution
+ * time recorded for a node is therefore exclusive: the time spent in the triggers nested into it is subtracted, and
+ * completions reported during a trigger are recorded once the trigger itself has been recorded.
+ */
+public final class NodeMetricsRegistry {
+
+    public static final String ENABLED_PROPERTY = "kogito.process.metrics.enabled";
+
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final Map<String, ProcessMetrics> processes = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<TriggerStack> triggers = ThreadLocal.withInitial(TriggerStack::new);
+
+    public static Collection<ProcessMetrics> getProcessMetrics() {
+        return Collections.unmodifiableCollection(processes.values());
+    }
+
+    public static ProcessMetrics getProcessMetrics(String processId) {
+        return processes.get(processId);
+    }
+
+    public static void reset() {
+        processes.clear();
+    }
+
+    /**
+     * Marks the beginning of the trigger of the given node instance, to be closed by either
+     * {@link #nodeTriggered(NodeInstance)} or {@link #nodeFailed(NodeInstance)} on the same thread.
+     *
+     * @return the start time of the trigger, in nanoseconds
+     */
+    public static long nodeTriggering(NodeInstance nodeInstance) {
+        return triggers.get().push(nodeInstance);
+    }
+
+    public static void nodeTriggered(NodeInstance nodeInstance) {
+        TriggerStack stack = triggers.get();
+        long executionNanos = stack.pop(nodeInstance);
+        if (executionNanos >= 0) {
+            metrics(nodeInstance).triggered(executionNanos);
+        }
+        recordPendingCompletion(stack, nodeInstance);
+    }
+
+    public static void nodeFailed(NodeInstance nodeInstance) {
+        TriggerStack stack = triggers.get();
+        stack.pop(nodeInstance);
+        metrics(nodeInstance).failed();
+        recordPendingCompletion(stack, nodeInstance);
+    }
+
+    /**
+     * @param activeNanos time elapsed since the node instance was triggered, negative when unknown
+     */
+    public static void nodeCompleted(NodeInstance nodeInstance, long activeNanos) {
+        if (!triggers.get().deferCompletion(nodeInstance, activeNanos)) {
+            metrics(nodeInstance).completed(activeNanos);
+        }
+    }
+
+    private static void recordPendingCompletion(TriggerStack stack, NodeInstance nodeInstance) {
+        if (stack.pendingCompletion) {
+            stack.pendingCompletion = false;
+            metrics(nodeInstance).completed(stack.pendingActiveNanos);
+        }
+    }
+
+    public static void workItemActivated(KogitoWorkItem workItem) {
+        NodeMetrics metrics = metrics(workItem);
+        if (metrics != null) {
+            metrics.workItemActivated();
+        }
+    }
+
+    public static void workItemCompleted(KogitoWorkItem workItem) {
+        NodeMetrics metrics = metrics(workItem);
+        if (metrics != null) {
+            metrics.workItemCompleted();
+        }
+    }
+
+    public static void workItemAborted(KogitoWorkItem workItem) {
+        NodeMetrics metrics = metrics(workItem);
+        if (metrics != null) {
+            metrics.workItemAborted();
+        }
+    }
+
+    public static void signalReceived(ProcessInstance processInstance) {
+        processMetrics(processInstance).getProcessLevel().signalReceived();
+    }
+
+    static String uniqueId(Node node) {
+        String uniqueId = (String) node.getMetaData().get(UNIQUE_ID);
+        if (uniqueId == null && node instanceof NodeImpl) {
+            uniqueId = ((NodeImpl) node).getUniqueId();
+        }
+        return uniqueId == null ? Long.toString(node.getId()) : uniqueId;
+    }
+
+    private static NodeMetrics metrics(KogitoWorkItem workItem) {
+        NodeInstance nodeInstance = workItem.getNodeInstance();
+        return nodeInstance == null || nodeInstance.getProcessInstance() == null ? null : metrics(nodeInstance);
+    }
+
+    private static NodeMetrics metrics(NodeInstance nodeInstance) {
+        return processMetrics(nodeInstance.getProcessInstance()).node(uniqueId(nodeInstance.getNode()));
+    }
+
+    private static ProcessMetrics processMetrics(ProcessInstance processInstance) {
+        ProcessMetrics metrics = processes.get(processInstance.getProcessId());
+        if (metrics == null) {
+            metrics = processes.computeIfAbsent(processInstance.getProcessId(), id -> new ProcessMetrics(id, processInstance.getProcess()));
+        }
+        return metrics;
+    }
+
+    /**
+     * Node instances being triggered on the current thread, innermost last, with the time spent in the triggers
+     * nested into each of them. Arrays grow with the nesting depth and are reused afterwards.
+     */
+    private static final class TriggerStack {
+
+        private NodeInstance[] nodeInstances = new NodeInstance[16];
+        private long[] startNanos = new long[16];
+        private long[] nestedNanos = new long[16];
+        private long[] completedNanos = new long[16];
+        private int depth;
+
+        // completion of the node instance popped last, if it was reported during its trigger
+        private boolean pendingCompletion;
+        private long pendingActiveNanos;
+
+        long push(NodeInstance nodeInstance) {
+            if (depth == nodeInstances.length) {
+                int length = depth * 2;
+                nodeInstances = Arrays.copyOf(nodeInstances, length);
+                startNanos = Arrays.copyOf(startNanos, length);
+                nestedNanos = Arrays.copyOf(nestedNanos, length);
+                completedNanos = Arrays.copyOf(completedNanos, length);
+            }
+            long now = System.nanoTime();
+            nodeInstances[depth] = nodeInstance;
+            startNanos[depth] = now;
+            nestedNanos[depth] = 0;
+            completedNanos[depth] = Long.MIN_VALUE;
+            depth++;
+            return now;
+        }
+
+        /**
+         * @return exclusive execution time of the given node instance, negative when it was not being triggered
+         */
+        long pop(NodeInstance nodeInstance) {
+            pendingCompletion = false;
+            int index = indexOf(nodeInstance);
+            if (index < 0) {
+                return -1;
+            }
+            long elapsed = System.nanoTime() - startNanos[index];
+            long exclusive = elapsed - nestedNanos[index];
+            if (completedNanos[index] != Long.MIN_VALUE) {
+                pendingCompletion = true;
+                pendingActiveNanos = completedNanos[index];
+            }
+            // frames above the node instance were left by an unexpected error, they are discarded
+            for (int i = index; i < depth; i++) {
+                nodeInstances[i] = null;
+            }
+            depth = index;
+            if (depth > 0) {
+                nestedNanos[depth - 1] += elapsed;
+            }
+            return exclusive;
+        }
+
+        boolean deferCompletion(NodeInstance nodeInstance, long activeNanos) {
+            int index = indexOf(nodeInstance);
+            if (index < 0) {
+                return false;
+            }
+            completedNanos[index] = activeNanos;
+            return true;
+        }
+
+        private int indexOf(NodeInstance nodeInstance) {
+            for (int i = depth - 1; i >= 0; i--) {
+                if (nodeInstances[i] == nodeInstance) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private NodeMetricsRegistry() {
+        // It is not allowed to create instances of util classes.
+    }
+}
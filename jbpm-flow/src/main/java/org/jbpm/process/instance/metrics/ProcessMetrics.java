@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.jbpm.workflow.core.WorkflowProcess;
+import org.kie.api.definition.process.Node;
+import org.kie.api.definition.process.Process;
+
+/**
+ * Metrics of all the nodes of a process definition. Slots for the nodes known by the definition are allocated
+ * upfront, slots for nodes added dynamically are created on first use.
+ */
+public final class ProcessMetrics {
+
+    private final String processId;
+    private final NodeMetrics processLevel;
+    private final Map<String, NodeMetrics> nodes = new ConcurrentHashMap<>();
+
+    ProcessMetrics(String processId, Process process) {
+        this.processId = processId;
+        this.processLevel = new NodeMetrics(null);
+        if (process instanceof WorkflowProcess) {
+            for (Node node : ((WorkflowProcess) process).getNodesRecursively()) {
+                String uniqueId = NodeMetricsRegistry.uniqueId(node);
+                nodes.put(uniqueId, new NodeMetrics(uniqueId));
+            }
+        }
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Metrics that are not bound to a node, such as signals delivered to process instances.
+     */
+    public NodeMetrics getProcessLevel() {
+        return processLevel;
+    }
+
+    public NodeMetrics getNode(String nodeUniqueId) {
+        return nodes.get(nodeUniqueId);
+    }
+
+    public void forEachNode(BiConsumer<String, NodeMetrics> consumer) {
+        nodes.forEach(consumer);
+    }
+
+    NodeMetrics node(String nodeUniqueId) {
+        NodeMetrics metrics = nodes.get(nodeUniqueId);
+        return metrics != null ? metrics : nodes.computeIfAbsent(nodeUniqueId, NodeMetrics::new);
+    }
+}
@@ -37,6 +37,7 @@ import org.jbpm.process.core.validation.ProcessValidationError;
 import org.jbpm.process.instance.impl.Action;
 import org.jbpm.process.instance.impl.actions.CancelNodeInstanceAction;
 import org.jbpm.process.instance.impl.actions.SignalProcessInstanceAction;
+import org.jbpm.ruleflow.core.validation.ProcessFingerprint;
 import org.jbpm.ruleflow.core.validation.RuleFlowProcessValidator;
 import org.jbpm.workflow.core.DroolsAction;
 import org.jbpm.workflow.core.WorkflowModelValidator;
@@ -51,6 +52,8 @@ import org.jbpm.workflow.core.node.Trigger;
 import org.kie.api.definition.process.Node;
 import org.kie.api.definition.process.NodeContainer;
 import org.kie.kogito.internal.process.runtime.KogitoNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.jbpm.process.core.context.exception.ExceptionScope.EXCEPTION_SCOPE;
 import static org.jbpm.ruleflow.core.Metadata.ACTION;
@@ -84,6 +87,10 @@ public class RuleFlowProcessFactory extends RuleFlowNodeContainerFactory<RuleFlo
     public static final String MESSAGE_TYPE_PREFIX = "Message-";
     public static final String TIMER_TYPE_PREFIX = "Timer-";
 
+    public static final String STRICT_VALIDATION_PROPERTY = "org.jbpm.process.validation.strict";
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleFlowProcessFactory.class);
+
     public static RuleFlowProcessFactory createProcess(String id) {
         return createProcess(id, true);
     }
@@ -223,6 +230,25 @@ public class RuleFlowProcessFactory extends RuleFlowNodeContainerFactory<RuleFlo
 
     public RuleFlowProcessFactory validate() {
         link();
+        return checkValid();
+    }
+
+    /**
+     * Validates the process unless it matches the given fingerprint, computed by {@link ProcessFingerprint} on a
+     * definition that already passed validation at build time. Setting the {@value #STRICT_VALIDATION_PROPERTY}
+     * system property always performs the full validation.
+     */
+    public RuleFlowProcessFactory validate(String validatedFingerprint) {
+        link();
+        if (validatedFingerprint == null || Boolean.getBoolean(STRICT_VALIDATION_PROPERTY)
+                || !validatedFingerprint.equals(ProcessFingerprint.of(getRuleFlowProcess()))) {
+            return checkValid();
+        }
+        logger.debug("Skipping validation of process {}, validated at build time", getRuleFlowProcess().getId());
+        return this;
+    }
+
+    private RuleFlowProcessFactory checkValid() {
         ProcessValidationError[] errors = RuleFlowProcessValidator.getInstance().validateProcess(getRuleFlowProcess());
         if (errors.length > 0) {
             throw new IllegalStateException("Process could not be validated !" + Arrays.toString(errors));
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.ruleflow.core.validation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.api.definition.process.Connection;
+import org.kie.api.definition.process.Node;
+import org.kie.api.definition.process.NodeContainer;
+import org.kie.api.definition.process.WorkflowProcess;
+
+/**
+ * Structural fingerprint of a process definition: process id and version plus, for every node (recursively), its
+ * id, type, name and outgoing connections.
+ * <p>
+ * Codegen records the fingerprint of definitions that passed validation at build time, so the generated bootstrap
+ * can verify it builds the same graph and skip the runtime validation.
+ */
+public final class ProcessFingerprint {
+
+    public static String of(WorkflowProcess process) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(process.getId()).append('|').append(process.getVersion()).append('\n');
+        appendNodes(sb, "", process);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendNodes(StringBuilder sb, String path, NodeContainer container) {
+        for (Node node : container.getNodes()) {
+            String nodePath = path + '/' + node.getId();
+            sb.append(nodePath).append('|').append(node.getClass().getName()).append('|').append(node.getName());
+            List<String> targets = new ArrayList<>();
+            for (Map.Entry<String, List<Connection>> entry : node.getOutgoingConnections().entrySet()) {
+                for (Connection connection : entry.getValue()) {
+                    targets.add(entry.getKey() + '>' + connection.getTo().getId() + ':' + connection.getToType());
+                }
+            }
+            Collections.sort(targets);
+            sb.append('|').append(targets).append('\n');
+            if (node instanceof NodeContainer) {
+                appendNodes(sb, nodePath, (NodeContainer) node);
+            }
+        }
+    }
+
+    private ProcessFingerprint() {
+        // It is not allowed to create instances of util classes.
+    }
+}
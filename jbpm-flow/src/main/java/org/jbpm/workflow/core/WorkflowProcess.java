@@ -15,11 +15,17 @@
  */
 package org.jbpm.workflow.core;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.jbpm.process.core.EngineConfiguration;
 import org.jbpm.process.core.Process;
 import org.jbpm.process.instance.ProcessInstance;
+import org.jbpm.workflow.core.node.BoundaryEventNode;
+import org.jbpm.workflow.core.node.StartNode;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
 
 /**
@@ -55,4 +61,30 @@ public interface WorkflowProcess extends KogitoWorkflowProcess, Process, NodeCon
 
     void setOutputValidator(WorkflowModelValidator validator);
 
+    /**
+     * Returns the engine configuration used when executing instances of this process.
+     */
+    default EngineConfiguration getEngineConfiguration() {
+        return EngineConfiguration.fromSystemProperties();
+    }
+
+    /**
+     * Returns all nodes of this process, including the ones nested in composite nodes, that are instances of the given
+     * type, in the same order as {@link #getNodesRecursively()}.
+     */
+    default <N> List<N> getNodesByType(Class<N> type) {
+        return getNodesRecursively().stream().filter(type::isInstance).map(type::cast).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the top level nodes that can be triggered as ad-hoc fragments, that is nodes without incoming
+     * connections that are neither start nor boundary event nodes.
+     */
+    default List<org.kie.api.definition.process.Node> getAdHocFragmentNodes() {
+        return Stream.of(getNodes())
+                .filter(n -> !(n instanceof StartNode) && !(n instanceof BoundaryEventNode))
+                .filter(n -> n.getIncomingConnections().isEmpty())
+                .collect(Collectors.toList());
+    }
+
 }
@@ -24,9 +24,11 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.ContextResolver;
+import org.jbpm.process.core.EngineConfiguration;
 import org.jbpm.process.core.context.variable.Mappable;
 import org.jbpm.workflow.core.Constraint;
 import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.WorkflowProcess;
 import org.jbpm.workflow.core.node.CompositeNode;
 import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.NodeContainer;
@@ -258,6 +260,19 @@ public abstract class NodeImpl implements Node, ContextResolver, Mappable {
         }
     }
 
+    /**
+     * Returns the engine configuration of the process this node belongs to, or a snapshot of the system
+     * properties when the node is not part of a process yet.
+     */
+    protected EngineConfiguration getEngineConfiguration() {
+        NodeContainer nodeContainer = getParentContainer();
+        while (nodeContainer instanceof CompositeNode) {
+            nodeContainer = ((CompositeNode) nodeContainer).getParentContainer();
+        }
+        return nodeContainer instanceof WorkflowProcess ? ((WorkflowProcess) nodeContainer).getEngineConfiguration()
+                : EngineConfiguration.fromSystemProperties();
+    }
+
     /**
      * Helper method for nodes that have at most one default incoming connection
      */
@@ -270,7 +285,7 @@ public abstract class NodeImpl implements Node, ContextResolver, Mappable {
         if (list.size() == 1) {
             return list.get(0);
         }
-        if ("true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getEngineConfiguration().isMultipleConnections()) {
             return list.get(0);
         } else {
             throw new IllegalArgumentException(
@@ -290,7 +305,7 @@ public abstract class NodeImpl implements Node, ContextResolver, Mappable {
         if (list.size() == 1) {
             return list.get(0);
         }
-        if ("true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getEngineConfiguration().isMultipleConnections()) {
             return list.get(0);
         } else {
             throw new IllegalArgumentException(
@@ -17,6 +17,7 @@
 package org.jbpm.workflow.core.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -85,7 +86,12 @@ public class NodeIoHelper {
                 DataTransformer transformer = DataTransformerRegistry.get().find(transformation.getLanguage());
                 Object parameterValue = null;
                 if (transformer != null) {
-                    parameterValue = transformer.transform(transformation.getCompiledExpression(), dataSet);
+                    Object compiledExpression = transformation.getCompiledExpression();
+                    if (compiledExpression == null) {
+                        compiledExpression = transformer.compile(transformation.getExpression(), Collections.emptyMap());
+                        transformation.setCompiledExpression(compiledExpression);
+                    }
+                    parameterValue = transformer.transform(compiledExpression, dataSet);
                 }
                 if (parameterValue != null) {
                     producer.accept(mapping.getTarget().getLabel(), parameterValue);
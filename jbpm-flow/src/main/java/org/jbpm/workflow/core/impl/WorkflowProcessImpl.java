@@ -16,13 +16,16 @@
 package org.jbpm.workflow.core.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 
+import org.jbpm.process.core.EngineConfiguration;
 import org.jbpm.process.core.correlation.CorrelationManager;
 import org.jbpm.process.core.impl.ProcessImpl;
 import org.jbpm.process.instance.ProcessInstance;
@@ -53,30 +56,12 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     private WorkflowModelValidator outputValidator;
     private org.jbpm.workflow.core.NodeContainer nodeContainer;
 
-    private transient BiFunction<String, ProcessInstance, String> expressionEvaluator = (expression, p) -> {
+    private transient BiFunction<String, ProcessInstance, String> expressionEvaluator = WorkflowProcessImpl::evaluateExpression;
 
-        String evaluatedValue = expression;
-        Map<String, String> replacements = new HashMap<>();
-        Matcher matcher = PatternConstants.PARAMETER_MATCHER.matcher(evaluatedValue);
-        while (matcher.find()) {
-            String paramName = matcher.group(1);
-            if (replacements.get(paramName) == null) {
-                try {
-                    String value = (String) MVELProcessHelper.evaluator()
-                            .eval(paramName, new ProcessInstanceResolverFactory(((WorkflowProcessInstance) p)));
-                    replacements.put(paramName, value);
-                } catch (Exception t) {
-                    logger.error("Could not resolve, parameter {} while evaluating expression {}", paramName, expression, t);
-                }
-            }
-        }
-        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
-            evaluatedValue = evaluatedValue.replace("#{" + replacement.getKey() + "}", replacement.getValue());
-        }
+    private transient volatile NodeIndex nodeIndex;
 
-        return evaluatedValue;
-
-    };
+    // snapshot taken when the definition is built, it belongs to the runtime and is therefore not serialized
+    private transient volatile EngineConfiguration engineConfiguration = EngineConfiguration.fromSystemProperties();
 
     private CorrelationManager correlationManager = new CorrelationManager();
 
@@ -124,12 +109,14 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     public void removeNode(final org.kie.api.definition.process.Node node) {
         nodeContainer.removeNode(node);
         ((Node) node).setParentContainer(null);
+        nodeIndex = null;
     }
 
     @Override
     public void addNode(final org.kie.api.definition.process.Node node) {
         nodeContainer.addNode(node);
         ((Node) node).setParentContainer(this);
+        nodeIndex = null;
     }
 
     @Override
@@ -150,6 +137,20 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
         this.dynamic = dynamic;
     }
 
+    @Override
+    public EngineConfiguration getEngineConfiguration() {
+        EngineConfiguration result = engineConfiguration;
+        if (result == null) {
+            result = EngineConfiguration.fromSystemProperties();
+            engineConfiguration = result;
+        }
+        return result;
+    }
+
+    public void setEngineConfiguration(EngineConfiguration engineConfiguration) {
+        this.engineConfiguration = engineConfiguration;
+    }
+
     @Override
     public Integer getProcessType() {
         if (dynamic) {
@@ -167,6 +168,27 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
         return nodes;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <N> List<N> getNodesByType(Class<N> type) {
+        return (List<N>) getNodeIndex().byType(type);
+    }
+
+    @Override
+    public List<org.kie.api.definition.process.Node> getAdHocFragmentNodes() {
+        return getNodeIndex().adHocFragments;
+    }
+
+    private NodeIndex getNodeIndex() {
+        NodeIndex index = nodeIndex;
+        if (index == null) {
+            // built on first use, once the definition is complete, and dropped whenever top level nodes change
+            index = new NodeIndex(getNodesRecursively(), WorkflowProcess.super.getAdHocFragmentNodes());
+            nodeIndex = index;
+        }
+        return index;
+    }
+
     protected void processNodeContainer(org.jbpm.workflow.core.NodeContainer nodeContainer, List<org.kie.api.definition.process.Node> nodes) {
 
         for (org.kie.api.definition.process.Node node : nodeContainer.getNodes()) {
@@ -207,6 +229,35 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
         return timerStartNodes;
     }
 
+    /**
+     * Immutable view of the nodes of the definition, partitioned by node type on demand.
+     */
+    private static class NodeIndex {
+
+        private final List<org.kie.api.definition.process.Node> nodes;
+        private final List<org.kie.api.definition.process.Node> adHocFragments;
+        private final Map<Class<?>, List<?>> nodesByType = new ConcurrentHashMap<>();
+
+        NodeIndex(List<org.kie.api.definition.process.Node> nodes, List<org.kie.api.definition.process.Node> adHocFragments) {
+            this.nodes = nodes;
+            this.adHocFragments = Collections.unmodifiableList(adHocFragments);
+        }
+
+        List<?> byType(Class<?> type) {
+            return nodesByType.computeIfAbsent(type, this::filter);
+        }
+
+        private List<?> filter(Class<?> type) {
+            List<Object> result = new ArrayList<>();
+            for (org.kie.api.definition.process.Node node : nodes) {
+                if (type.isInstance(node)) {
+                    result.add(node);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+
     @Override
     public void setExpressionEvaluator(BiFunction<String, ProcessInstance, String> expressionEvaluator) {
         this.expressionEvaluator = expressionEvaluator;
@@ -236,4 +287,35 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
     public void setOutputValidator(WorkflowModelValidator outputValidator) {
         this.outputValidator = outputValidator;
     }
+
+    private static String evaluateExpression(String expression, ProcessInstance p) {
+        String evaluatedValue = expression;
+        Map<String, String> replacements = new HashMap<>();
+        Matcher matcher = PatternConstants.PARAMETER_MATCHER.matcher(evaluatedValue);
+        while (matcher.find()) {
+            String paramName = matcher.group(1);
+            if (replacements.get(paramName) == null) {
+                try {
+                    String value = (String) MVELProcessHelper.evaluator()
+                            .eval(paramName, new ProcessInstanceResolverFactory(((WorkflowProcessInstance) p)));
+                    replacements.put(paramName, value);
+                } catch (Exception t) {
+                    logger.error("Could not resolve, parameter {} while evaluating expression {}", paramName, expression, t);
+                }
+            }
+        }
+        for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+            evaluatedValue = evaluatedValue.replace("#{" + replacement.getKey() + "}", replacement.getValue());
+        }
+
+        return evaluatedValue;
+    }
+
+    /*
+     * Special handling for serialization to restore the default expression evaluator
+     */
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.expressionEvaluator = WorkflowProcessImpl::evaluateExpression;
+    }
 }
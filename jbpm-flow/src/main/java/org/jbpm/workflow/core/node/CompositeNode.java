@@ -15,6 +15,8 @@
  */
 package org.jbpm.workflow.core.node;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -414,6 +416,14 @@ public class CompositeNode extends StateBasedNode implements NodeContainer, Even
             return node;
         }
 
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            // the node itself is not serialized, keep its container so that it can be resolved again
+            if (nodeContainer == null && node != null && node.getNodeContainer() instanceof NodeContainer) {
+                nodeContainer = (NodeContainer) node.getNodeContainer();
+            }
+            out.defaultWriteObject();
+        }
+
         public long getNodeId() {
             return nodeId;
         }
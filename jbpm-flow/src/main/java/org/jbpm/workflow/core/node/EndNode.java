@@ -57,7 +57,7 @@ public class EndNode extends ExtendedNodeImpl {
                     "This type of node [" + connection.getTo().getMetaData().get(UNIQUE_ID) + ", " + connection.getTo().getName()
                             + "] only accepts default incoming connection type!");
         }
-        if (getFrom() != null && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getFrom() != null && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "This type of node [" + connection.getTo().getMetaData().get(UNIQUE_ID) + ", " + connection.getTo().getName()
                             + "] cannot have more than one incoming connection!");
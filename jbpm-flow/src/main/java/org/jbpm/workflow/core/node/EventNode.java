@@ -75,6 +75,19 @@ public class EventNode extends ExtendedNodeImpl implements EventNodeInterface {
         return null;
     }
 
+    /**
+     * Returns the filter of the correlated message this node subscribes to, or null when it accepts every message of
+     * its type.
+     */
+    public EventTypeFilter getSubscribedFilter() {
+        for (EventFilter filter : filters) {
+            if (filter instanceof EventTypeFilter && ((EventTypeFilter) filter).isSubscribed()) {
+                return (EventTypeFilter) filter;
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean acceptsEvent(String type, Object event, Function<String, Object> resolver) {
         for (EventFilter filter : filters) {
@@ -101,7 +114,7 @@ public class EventNode extends ExtendedNodeImpl implements EventNodeInterface {
                     "This type of node [" + connection.getTo().getMetaData().get("UniqueId") + ", " + connection.getTo().getName()
                             + "] only accepts default incoming connection type!");
         }
-        if (getFrom() != null && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getFrom() != null && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "This type of node [" + connection.getTo().getMetaData().get("UniqueId") + ", " + connection.getTo().getName()
                             + "] cannot have more than one incoming connection!");
@@ -116,7 +129,7 @@ public class EventNode extends ExtendedNodeImpl implements EventNodeInterface {
                     "This type of node [" + connection.getFrom().getMetaData().get("UniqueId") + ", " + connection.getFrom().getName()
                             + "] only accepts default outgoing connection type!");
         }
-        if (getTo() != null && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getTo() != null && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "This type of node [" + connection.getFrom().getMetaData().get("UniqueId") + ", " + connection.getFrom().getName()
                             + "] cannot have more than one outgoing connection!");
@@ -58,7 +58,7 @@ public class MilestoneNode extends StateBasedNode implements Constrainable {
         if (!Node.CONNECTION_DEFAULT_TYPE.equals(type)) {
             throwValidationException(connection, "only accepts default incoming connection type!");
         }
-        if (getFrom() != null && !Boolean.parseBoolean(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getFrom() != null && !getEngineConfiguration().isMultipleConnections()) {
             throwValidationException(connection, "cannot have more than one incoming connection!");
         }
     }
@@ -69,7 +69,7 @@ public class MilestoneNode extends StateBasedNode implements Constrainable {
         if (!Node.CONNECTION_DEFAULT_TYPE.equals(type)) {
             throwValidationException(connection, "only accepts default outgoing connection type!");
         }
-        if (getTo() != null && !Boolean.parseBoolean(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getTo() != null && !getEngineConfiguration().isMultipleConnections()) {
             throwValidationException(connection, "cannot have more than one outgoing connection!");
         }
     }
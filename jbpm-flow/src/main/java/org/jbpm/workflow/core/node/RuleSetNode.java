@@ -102,7 +102,7 @@ public class RuleSetNode extends StateBasedNode implements ContextContainer {
                     "This type of node [" + connection.getTo().getMetaData().get("UniqueId") + ", " + connection.getTo().getName()
                             + "] only accepts default incoming connection type!");
         }
-        if (getFrom() != null && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getFrom() != null && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "This type of node [" + connection.getTo().getMetaData().get("UniqueId") + ", " + connection.getTo().getName()
                             + "] cannot have more than one incoming connection!");
@@ -117,7 +117,7 @@ public class RuleSetNode extends StateBasedNode implements ContextContainer {
                     "This type of node [" + connection.getFrom().getMetaData().get("UniqueId") + ", " + connection.getFrom().getName()
                             + "] only accepts default outgoing connection type!");
         }
-        if (getTo() != null && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getTo() != null && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "This type of node [" + connection.getFrom().getMetaData().get("UniqueId") + ", " + connection.getFrom().getName()
                             + "] cannot have more than one outgoing connection!");
@@ -159,7 +159,7 @@ public class Split extends NodeImpl implements Constrainable {
                             + "] only accepts default incoming connection type!");
         }
 
-        if (!getIncomingConnections(Node.CONNECTION_DEFAULT_TYPE).isEmpty() && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (!getIncomingConnections(Node.CONNECTION_DEFAULT_TYPE).isEmpty() && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "This type of node [" + connection.getTo().getMetaData().get("UniqueId") + ", " + connection.getTo().getName()
                             + "] cannot have more than one incoming connection!");
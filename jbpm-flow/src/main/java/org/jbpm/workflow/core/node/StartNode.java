@@ -84,7 +84,7 @@ public class StartNode extends ExtendedNodeImpl {
             throw new IllegalArgumentException(
                     "A start node [" + this.getMetaData("UniqueId") + ", " + this.getName() + "] only accepts default outgoing connection type!");
         }
-        if (getTo() != null && !"true".equals(System.getProperty("jbpm.enable.multi.con"))) {
+        if (getTo() != null && !getEngineConfiguration().isMultipleConnections()) {
             throw new IllegalArgumentException(
                     "A start node [" + this.getMetaData("UniqueId") + ", " + this.getName() + "] cannot have more than one outgoing connection!");
         }
@@ -36,7 +36,7 @@ public class StateBasedNode extends ExtendedNodeImpl {
 
     private List<String> boundaryEvents;
 
-    private transient String duration;
+    private String duration;
 
     public Map<Timer, DroolsAction> getTimers() {
         return timers;
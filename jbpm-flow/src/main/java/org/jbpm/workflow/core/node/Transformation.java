@@ -16,6 +16,8 @@
 package org.jbpm.workflow.core.node;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.function.Function;
 
 public class Transformation implements Serializable {
 
@@ -37,6 +39,14 @@ public class Transformation implements Serializable {
         this.source = source;
     }
 
+    /**
+     * Creates a transformation whose expression was already translated to Java when the process was generated.
+     */
+    public Transformation(String lang, String expression, String source, Function<Map<String, Object>, Object> compiledExpression) {
+        this(lang, expression, source);
+        this.compiledExpression = compiledExpression;
+    }
+
     public String getLanguage() {
         return language;
     }
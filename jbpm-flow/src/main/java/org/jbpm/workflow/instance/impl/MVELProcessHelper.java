@@ -16,20 +16,39 @@
 package org.jbpm.workflow.instance.impl;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.drools.mvel.MVELSafeHelper;
 import org.drools.mvel.util.MVELEvaluator;
+import org.jbpm.workflow.instance.NodeInstance;
 import org.kie.kogito.internal.RuntimeEnvironment;
+import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
 import org.mvel2.ErrorDetail;
 import org.mvel2.MVEL;
+import org.mvel2.ParserConfiguration;
 import org.mvel2.ParserContext;
 import org.mvel2.compiler.ExpressionCompiler;
+import org.mvel2.integration.VariableResolver;
+import org.mvel2.integration.VariableResolverFactory;
+import org.mvel2.integration.impl.ImmutableDefaultFactory;
+import org.mvel2.integration.impl.MapVariableResolverFactory;
+import org.mvel2.integration.impl.SimpleValueResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class MVELProcessHelper {
 
+    private static final Logger logger = LoggerFactory.getLogger(MVELProcessHelper.class);
+
+    private static final String KCONTEXT = "kcontext";
+
     private static final Supplier<MVELEvaluator> EVALUATOR_SUPPLIER =
             RuntimeEnvironment.isJdk() ? MVELSafeHelper::getEvaluator : () -> {
                 throw new UnsupportedOperationException("MVEL evaluation is not supported in native image");
@@ -40,6 +59,11 @@ public class MVELProcessHelper {
                 throw new UnsupportedOperationException("MVEL compilation is not supported in native image");
             };
 
+    private static final BiFunction<String, ParserContext, Serializable> EXPR_CONTEXT_COMPILER =
+            RuntimeEnvironment.isJdk() ? MVEL::compileExpression : (expr, context) -> {
+                throw new UnsupportedOperationException("MVEL compilation is not supported in native image");
+            };
+
     private static final Function<String, List<ErrorDetail>> EXPR_COMPILER_DETAILED =
             RuntimeEnvironment.isJdk() ? MVELProcessHelper::expressionCompiler : expr -> {
                 throw new UnsupportedOperationException("MVEL compilation is not supported in native image");
@@ -57,6 +81,94 @@ public class MVELProcessHelper {
         return EXPR_COMPILER.apply(expr);
     }
 
+    /**
+     * Compiles an expression executed in the given context, resolving simple class names with the imports of its
+     * process.
+     */
+    public static Serializable compileExpression(String expr, KogitoProcessContext context) {
+        org.kie.api.definition.process.Process process = context.getProcessInstance() != null ? context.getProcessInstance().getProcess() : null;
+        Collection<String> imports = process instanceof org.jbpm.process.core.Process ? ((org.jbpm.process.core.Process) process).getImports() : null;
+        if (imports == null || imports.isEmpty()) {
+            return compileExpression(expr);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = MVELProcessHelper.class.getClassLoader();
+        }
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.setClassLoader(classLoader);
+        for (String imported : imports) {
+            if (imported.endsWith(".*")) {
+                configuration.addPackageImport(imported.substring(0, imported.length() - 2));
+            } else {
+                try {
+                    Class<?> clazz = Class.forName(imported, true, classLoader);
+                    configuration.addImport(clazz.getSimpleName(), clazz);
+                } catch (ClassNotFoundException e) {
+                    logger.warn("Unable to load class {} imported by process {}", imported, process.getId());
+                }
+            }
+        }
+        return EXPR_CONTEXT_COMPILER.apply(expr, new ParserContext(configuration));
+    }
+
+    /**
+     * Resolves the identifiers of an interpreted expression against the variables visible from the given context,
+     * exposing the context itself as <code>kcontext</code>. Variables assigned by the expression are kept local to
+     * the returned factory, process variables are only updated through <code>kcontext</code>.
+     */
+    public static VariableResolverFactory resolverFactory(KogitoProcessContext context) {
+        return new LocalVariableResolverFactory(contextResolverFactory(context));
+    }
+
+    private static VariableResolverFactory contextResolverFactory(KogitoProcessContext context) {
+        if (context.getNodeInstance() instanceof NodeInstance) {
+            NodeInstanceResolverFactory factory = new NodeInstanceResolverFactory((NodeInstance) context.getNodeInstance());
+            factory.addExtraParameters(Collections.singletonMap(KCONTEXT, context));
+            return factory;
+        }
+        return new ImmutableDefaultFactory() {
+
+            @Override
+            public boolean isResolveable(String name) {
+                return KCONTEXT.equals(name) || context.getVariable(name) != null;
+            }
+
+            @Override
+            public VariableResolver getVariableResolver(String name) {
+                return new SimpleValueResolver(KCONTEXT.equals(name) ? context : context.getVariable(name));
+            }
+        };
+    }
+
+    private static class LocalVariableResolverFactory extends MapVariableResolverFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<String, Object> locals;
+
+        LocalVariableResolverFactory(VariableResolverFactory nextFactory) {
+            this(new HashMap<>(), nextFactory);
+        }
+
+        private LocalVariableResolverFactory(Map<String, Object> locals, VariableResolverFactory nextFactory) {
+            super(locals, nextFactory);
+            this.locals = locals;
+        }
+
+        @Override
+        public VariableResolver createVariable(String name, Object value) {
+            locals.put(name, value);
+            return getVariableResolver(name);
+        }
+
+        @Override
+        public VariableResolver createVariable(String name, Object value, Class<?> type) {
+            locals.put(name, value);
+            return getVariableResolver(name);
+        }
+    }
+
     public static List<ErrorDetail> validateExpression(String expression) {
         return EXPR_COMPILER_DETAILED.apply(expression);
     }
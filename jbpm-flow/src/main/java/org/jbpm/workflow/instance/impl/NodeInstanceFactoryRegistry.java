@@ -15,8 +15,8 @@
  */
 package org.jbpm.workflow.instance.impl;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.jbpm.workflow.core.node.ActionNode;
@@ -81,6 +81,9 @@ public class NodeInstanceFactoryRegistry {
 
     private Map<Class<? extends Node>, NodeInstanceFactory> registry;
 
+    // factories resolved per concrete node class, so triggering a node does not walk the class hierarchy again
+    private final Map<Class<?>, NodeInstanceFactory> resolved = new ConcurrentHashMap<>();
+
     public static NodeInstanceFactoryRegistry getInstance(Environment environment) {
         // allow custom NodeInstanceFactoryRegistry to be given as part of the environment - e.g simulation
         if (environment != null && environment.get("NodeInstanceFactoryRegistry") != null) {
@@ -91,16 +94,28 @@ public class NodeInstanceFactoryRegistry {
     }
 
     protected NodeInstanceFactoryRegistry() {
-        this.registry = new HashMap<>();
+        this.registry = new ConcurrentHashMap<>();
     }
 
     public void register(Class<? extends Node> cls,
             NodeInstanceFactory factory) {
         this.registry.put(cls, factory);
+        this.resolved.clear();
     }
 
     public NodeInstanceFactory getProcessNodeInstanceFactory(Node node) {
-        Class<?> clazz = node.getClass();
+        NodeInstanceFactory factory = resolved.get(node.getClass());
+        if (factory == null) {
+            factory = resolve(node.getClass());
+            if (factory != null) {
+                resolved.put(node.getClass(), factory);
+            }
+        }
+        return factory;
+    }
+
+    private NodeInstanceFactory resolve(Class<?> nodeClass) {
+        Class<?> clazz = nodeClass;
         while (clazz != null) {
             NodeInstanceFactory result = this.get(clazz);
             if (result != null) {
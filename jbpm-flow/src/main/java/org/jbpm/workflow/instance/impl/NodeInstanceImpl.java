@@ -29,6 +29,7 @@ import java.util.regex.Matcher;
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.jbpm.process.core.Context;
 import org.jbpm.process.core.ContextContainer;
+import org.jbpm.process.core.EngineConfiguration;
 import org.jbpm.process.core.context.exception.ExceptionScope;
 import org.jbpm.process.core.context.exclusive.ExclusiveGroup;
 import org.jbpm.process.core.context.variable.Variable;
@@ -41,6 +42,7 @@ import org.jbpm.process.instance.context.exclusive.ExclusiveGroupInstance;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
 import org.jbpm.process.instance.impl.Action;
 import org.jbpm.process.instance.impl.ConstraintEvaluator;
+import org.jbpm.process.instance.metrics.NodeMetricsRegistry;
 import org.jbpm.util.ContextFactory;
 import org.jbpm.util.PatternConstants;
 import org.jbpm.workflow.core.Node;
@@ -89,6 +91,8 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
 
     protected transient Map<String, Object> dynamicParameters;
 
+    private transient long triggerNanos;
+
     public void setId(final String id) {
         this.id = id;
     }
@@ -141,6 +145,10 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
         return this.processInstance;
     }
 
+    protected EngineConfiguration getEngineConfiguration() {
+        return ((WorkflowProcessInstanceImpl) processInstance).getEngineConfiguration();
+    }
+
     @Override
     public KogitoNodeInstanceContainer getNodeInstanceContainer() {
         return this.nodeInstanceContainer;
@@ -224,14 +232,23 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
             ((InternalProcessRuntime) kruntime.getProcessRuntime())
                     .getProcessEventSupport().fireBeforeNodeTriggered(this, kruntime);
         }
+        if (NodeMetricsRegistry.ENABLED) {
+            triggerNanos = NodeMetricsRegistry.nodeTriggering(this);
+        }
         try {
             internalTrigger(from, type);
         } catch (Exception e) {
             logger.debug("Node instance causing process instance error in id {}", this.getStringId(), e);
+            if (NodeMetricsRegistry.ENABLED) {
+                NodeMetricsRegistry.nodeFailed(this);
+            }
             captureError(e);
             // stop after capturing error
             return;
         }
+        if (NodeMetricsRegistry.ENABLED) {
+            NodeMetricsRegistry.nodeTriggered(this);
+        }
         if (!hidden) {
             ((InternalProcessRuntime) kruntime.getProcessRuntime())
                     .getProcessEventSupport().fireAfterNodeTriggered(this, kruntime);
@@ -271,6 +288,9 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
 
     public void triggerCompleted(String type, boolean remove) {
         leaveTime = new Date();
+        if (NodeMetricsRegistry.ENABLED) {
+            NodeMetricsRegistry.nodeCompleted(this, triggerNanos == 0 ? -1 : System.nanoTime() - triggerNanos);
+        }
         org.kie.api.definition.process.Node node = getNode();
         if (node != null) {
             String uniqueId = (String) node.getMetaData().get(UNIQUE_ID);
@@ -294,7 +314,7 @@ public abstract class NodeInstanceImpl implements org.jbpm.workflow.instance.Nod
 
         List<Connection> connections = null;
         if (node != null) {
-            if ("true".equals(System.getProperty("jbpm.enable.multi.con")) && ((NodeImpl) node).getConstraints().size() > 0) {
+            if (getEngineConfiguration().isMultipleConnections() && ((NodeImpl) node).getConstraints().size() > 0) {
                 int priority;
                 connections = ((NodeImpl) node).getDefaultOutgoingConnections();
                 boolean found = false;
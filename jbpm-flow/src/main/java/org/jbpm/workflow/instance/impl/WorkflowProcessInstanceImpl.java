@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,20 +34,24 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.drools.mvel.util.MVELEvaluator;
 import org.jbpm.process.core.ContextContainer;
+import org.jbpm.process.core.EngineConfiguration;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.core.correlation.CorrelationSubscription;
+import org.jbpm.process.core.event.EventTypeFilter;
 import org.jbpm.process.core.timer.BusinessCalendar;
 import org.jbpm.process.core.timer.DateTimeUtils;
 import org.jbpm.process.core.timer.Timer;
 import org.jbpm.process.instance.ContextInstance;
 import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.context.variable.VariableScopeInstance;
+import org.jbpm.process.instance.event.DefaultSignalManager;
 import org.jbpm.process.instance.impl.ProcessInstanceImpl;
+import org.jbpm.process.instance.metrics.NodeMetricsRegistry;
 import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.util.PatternConstants;
 import org.jbpm.workflow.core.DroolsAction;
@@ -59,7 +64,6 @@ import org.jbpm.workflow.core.node.EventNode;
 import org.jbpm.workflow.core.node.EventNodeInterface;
 import org.jbpm.workflow.core.node.EventSubProcessNode;
 import org.jbpm.workflow.core.node.MilestoneNode;
-import org.jbpm.workflow.core.node.StartNode;
 import org.jbpm.workflow.core.node.StateNode;
 import org.jbpm.workflow.instance.NodeInstance;
 import org.jbpm.workflow.instance.WorkflowProcessInstance;
@@ -78,6 +82,7 @@ import org.kie.kogito.internal.process.event.KogitoEventListener;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstanceContainer;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
 import org.kie.kogito.jobs.DurationExpirationTime;
 import org.kie.kogito.jobs.JobsService;
@@ -89,6 +94,7 @@ import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.flexible.AdHocFragment;
 import org.kie.kogito.process.flexible.ItemDescription;
 import org.kie.kogito.process.flexible.Milestone;
+import org.kie.kogito.signal.SignalManager;
 import org.kie.kogito.timer.TimerInstance;
 import org.mvel2.integration.VariableResolverFactory;
 import org.slf4j.Logger;
@@ -120,8 +126,12 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     private Map<String, List<KogitoEventListener>> eventListeners = new HashMap<>();
     private Map<String, List<KogitoEventListener>> externalEventListeners = new HashMap<>();
+    private transient Map<String, KogitoEventListener> timerOwners;
+    private transient Map<String, KogitoEventListener> workItemOwners;
+    private transient Map<EventTypeFilter, CorrelatedWait> correlatedWaits;
 
     private List<String> completedNodeIds = new ArrayList<>();
+    private transient Set<String> completedNodeIdSet;
     private List<String> activatingNodeIds;
     private Map<String, Integer> iterationLevels = new HashMap<>();
     private int currentLevel;
@@ -168,7 +178,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public int getLevelForNode(String uniqueID) {
-        if (Boolean.parseBoolean(System.getProperty("jbpm.loop.level.disabled"))) {
+        if (getEngineConfiguration().isLoopLevelDisabled()) {
             return 1;
         }
 
@@ -253,7 +263,13 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         return result;
     }
 
-    private void addActiveNodeIds(KogitoNodeInstanceContainer container, List<String> result) {
+    private Set<String> getActiveNodeIdSet() {
+        Set<String> result = new HashSet<>();
+        addActiveNodeIds(this, result);
+        return result;
+    }
+
+    private void addActiveNodeIds(KogitoNodeInstanceContainer container, Collection<String> result) {
         for (org.kie.api.runtime.process.NodeInstance nodeInstance : container.getNodeInstances()) {
             result.add(((NodeImpl) nodeInstance.getNode()).getUniqueId());
             if (nodeInstance instanceof KogitoNodeInstanceContainer) {
@@ -323,6 +339,12 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         return (KogitoWorkflowProcess) getProcess();
     }
 
+    public EngineConfiguration getEngineConfiguration() {
+        org.kie.api.definition.process.Process process = getProcess();
+        return process instanceof org.jbpm.workflow.core.WorkflowProcess ? ((org.jbpm.workflow.core.WorkflowProcess) process).getEngineConfiguration()
+                : EngineConfiguration.fromSystemProperties();
+    }
+
     @Override
     public Object getVariable(String name) {
         // for disconnected process instances, try going through the variable scope instances
@@ -581,7 +603,12 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     private void registerExternalEventNodeListeners() {
         for (org.kie.api.definition.process.Node node : getWorkflowProcess().getNodes()) {
             if (node instanceof EventNode && "external".equals(((EventNode) node).getScope())) {
-                addEventListener(((EventNode) node).getType(), EMPTY_EVENT_LISTENER, true);
+                EventTypeFilter subscribedFilter = ((EventNode) node).getSubscribedFilter();
+                if (subscribedFilter != null) {
+                    addCorrelatedEventListener(subscribedFilter);
+                } else {
+                    addEventListener(((EventNode) node).getType(), EMPTY_EVENT_LISTENER, true);
+                }
             } else if (node instanceof EventSubProcessNode) {
                 List<String> events = ((EventSubProcessNode) node).getEvents();
                 for (String type : events) {
@@ -626,6 +653,9 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
             if (getState() != KogitoProcessInstance.STATE_ACTIVE) {
                 return;
             }
+            if (NodeMetricsRegistry.ENABLED) {
+                NodeMetricsRegistry.signalReceived(this);
+            }
 
             if (TIMER_TRIGGERED_EVENT.equals(type)) {
                 TimerInstance timer = (TimerInstance) event;
@@ -650,8 +680,12 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
             try {
                 this.activatingNodeIds = new ArrayList<>();
+                KogitoEventListener owner = getEventOwner(type, event);
                 List<KogitoEventListener> listeners = eventListeners.get(type);
-                if (listeners != null) {
+                if (owner != null) {
+                    // the timer or work item belongs to a known node instance, all other listeners would ignore it
+                    owner.signalEvent(type, event);
+                } else if (listeners != null) {
                     for (KogitoEventListener listener : listeners) {
                         listener.signalEvent(type, event);
                     }
@@ -803,7 +837,146 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         }
     }
 
+    /**
+     * Registers the listener that owns the given timer, so that when the timer fires the "timerTriggered" event is
+     * delivered to it directly instead of to every timer listener of this process instance.
+     */
+    public void registerTimerOwner(String timerId, KogitoEventListener owner) {
+        if (timerId == null || timerId.isBlank()) {
+            return;
+        }
+        if (timerOwners == null) {
+            timerOwners = new HashMap<>();
+        }
+        timerOwners.put(timerId, owner);
+    }
+
+    public void unregisterTimerOwner(String timerId, KogitoEventListener owner) {
+        if (timerOwners != null && timerId != null) {
+            timerOwners.remove(timerId, owner);
+        }
+    }
+
+    private KogitoEventListener getTimerOwner(String timerId) {
+        return timerOwners == null || timerId == null ? null : timerOwners.get(timerId);
+    }
+
+    /**
+     * Registers the listener that owns the given work item, so that "workItemCompleted" and "workItemAborted" events
+     * are delivered to it directly instead of to every work item listener of this process instance.
+     */
+    public void registerWorkItemOwner(String workItemId, KogitoEventListener owner) {
+        if (workItemId == null || workItemId.isBlank()) {
+            return;
+        }
+        if (workItemOwners == null) {
+            workItemOwners = new HashMap<>();
+        }
+        workItemOwners.put(workItemId, owner);
+    }
+
+    public void unregisterWorkItemOwner(String workItemId, KogitoEventListener owner) {
+        if (workItemOwners != null && workItemId != null) {
+            workItemOwners.remove(workItemId, owner);
+        }
+    }
+
+    private KogitoEventListener getWorkItemOwner(String workItemId) {
+        return workItemOwners == null || workItemId == null ? null : workItemOwners.get(workItemId);
+    }
+
+    private KogitoEventListener getEventOwner(String type, Object event) {
+        if (TIMER_TRIGGERED_EVENT.equals(type)) {
+            return getTimerOwner(((TimerInstance) event).getId());
+        }
+        if (("workItemCompleted".equals(type) || "workItemAborted".equals(type)) && event instanceof KogitoWorkItem) {
+            return getWorkItemOwner(((KogitoWorkItem) event).getStringId());
+        }
+        return null;
+    }
+
+    /**
+     * Registers a wait for the correlated messages accepted by the given filter. The signal manager routes those
+     * messages by the subscribed correlation, so this process instance only receives the ones it may accept.
+     */
+    public void addCorrelatedEventListener(EventTypeFilter filter) {
+        if (correlatedWaits == null) {
+            correlatedWaits = new HashMap<>();
+        }
+        CorrelatedWait wait = correlatedWaits.computeIfAbsent(filter, f -> new CorrelatedWait());
+        if (wait.count++ == 0) {
+            subscribe(filter, wait, subscription(filter));
+        }
+    }
+
+    public void removeCorrelatedEventListener(EventTypeFilter filter) {
+        CorrelatedWait wait = correlatedWaits == null ? null : correlatedWaits.get(filter);
+        if (wait != null && --wait.count == 0) {
+            correlatedWaits.remove(filter);
+            unsubscribe(filter, wait);
+        }
+    }
+
+    /**
+     * Recomputes the subscribed correlations, they are expressions over the process variables.
+     */
+    public void refreshCorrelationSubscriptions() {
+        if (correlatedWaits == null) {
+            return;
+        }
+        for (Map.Entry<EventTypeFilter, CorrelatedWait> entry : correlatedWaits.entrySet()) {
+            CorrelationSubscription subscription = subscription(entry.getKey());
+            if (!Objects.equals(subscription, entry.getValue().subscription)) {
+                unsubscribe(entry.getKey(), entry.getValue());
+                subscribe(entry.getKey(), entry.getValue(), subscription);
+            }
+        }
+    }
+
+    private CorrelationSubscription subscription(EventTypeFilter filter) {
+        if (!(getSignalManager() instanceof DefaultSignalManager)) {
+            return null;
+        }
+        try {
+            return filter.subscription(this::resolveVariable);
+        } catch (IllegalArgumentException e) {
+            logger.debug("Correlation of {} cannot be computed yet in process instance {}: {}", filter.getType(), getStringId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void subscribe(EventTypeFilter filter, CorrelatedWait wait, CorrelationSubscription subscription) {
+        wait.subscription = subscription;
+        if (subscription != null) {
+            ((DefaultSignalManager) getSignalManager()).addEventListener(filter.getType(), subscription, this);
+        } else {
+            // every message of the type is delivered and accepted or not by the event filter
+            addEventListener(filter.getType(), EMPTY_EVENT_LISTENER, true);
+        }
+    }
+
+    private void unsubscribe(EventTypeFilter filter, CorrelatedWait wait) {
+        if (wait.subscription != null) {
+            ((DefaultSignalManager) getSignalManager()).removeEventListener(filter.getType(), wait.subscription, this);
+        } else {
+            removeEventListener(filter.getType(), EMPTY_EVENT_LISTENER, true);
+        }
+    }
+
+    private SignalManager getSignalManager() {
+        return ((InternalProcessRuntime) getKnowledgeRuntime().getProcessRuntime()).getSignalManager();
+    }
+
+    private static class CorrelatedWait {
+        private int count;
+        private CorrelationSubscription subscription;
+    }
+
     private void removeEventListeners() {
+        if (correlatedWaits != null) {
+            correlatedWaits.forEach(this::unsubscribe);
+            correlatedWaits = null;
+        }
         for (String type : externalEventListeners.keySet()) {
             ((InternalProcessRuntime) getKnowledgeRuntime().getProcessRuntime())
                     .getSignalManager().removeEventListener(type, this);
@@ -812,7 +985,11 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public String[] getEventTypes() {
-        return externalEventListeners.keySet().stream().map(this::resolveVariable).collect(Collectors.toList()).toArray(new String[externalEventListeners.size()]);
+        Set<String> types = new LinkedHashSet<>(externalEventListeners.keySet());
+        if (correlatedWaits != null) {
+            correlatedWaits.keySet().forEach(filter -> types.add(filter.getType()));
+        }
+        return types.stream().map(this::resolveVariable).toArray(String[]::new);
     }
 
     @Override
@@ -833,7 +1010,9 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
         activeListeners.forEach(el -> eventDesciptions.addAll(el.getEventDescriptions()));
 
-        ((org.jbpm.workflow.core.WorkflowProcess) getProcess()).getNodesRecursively().stream().filter(n -> n instanceof EventNodeInterface).forEach(n -> {
+        Map<String, NodeInstance> attachedToNodeInstances = new HashMap<>();
+        ((org.jbpm.workflow.core.WorkflowProcess) getProcess()).getNodesByType(EventNodeInterface.class).forEach(e -> {
+            org.kie.api.definition.process.Node n = (org.kie.api.definition.process.Node) e;
 
             NamedDataType dataType = null;
             if (((EventNodeInterface) n).getVariableName() != null) {
@@ -844,8 +1023,13 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
             }
             if (n instanceof BoundaryEventNode) {
                 BoundaryEventNode boundaryEventNode = (BoundaryEventNode) n;
-                StateBasedNodeInstance attachedToNodeInstance = (StateBasedNodeInstance) getNodeInstances(true).stream()
-                        .filter(ni -> ni.getNode().getMetaData().get(UNIQUE_ID).equals(boundaryEventNode.getAttachedToNodeId())).findFirst().orElse(null);
+                if (attachedToNodeInstances.isEmpty()) {
+                    // one pass over the node instances serves all boundary events
+                    for (NodeInstance nodeInstance : getNodeInstances(true)) {
+                        attachedToNodeInstances.putIfAbsent((String) nodeInstance.getNode().getMetaData().get(UNIQUE_ID), nodeInstance);
+                    }
+                }
+                StateBasedNodeInstance attachedToNodeInstance = (StateBasedNodeInstance) attachedToNodeInstances.get(boundaryEventNode.getAttachedToNodeId());
                 if (attachedToNodeInstance != null) {
                     Map<String, String> properties = new HashMap<>();
                     properties.put("AttachedToID", attachedToNodeInstance.getNodeDefinitionId());
@@ -956,7 +1140,25 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     }
 
     public void addCompletedNodeId(String uniqueId) {
-        this.completedNodeIds.add(uniqueId.intern());
+        String nodeId = uniqueId.intern();
+        this.completedNodeIds.add(nodeId);
+        if (completedNodeIdSet != null) {
+            completedNodeIdSet.add(nodeId);
+        }
+    }
+
+    private Set<String> getCompletedNodeIdSet() {
+        if (completedNodeIdSet == null) {
+            completedNodeIdSet = new HashSet<>(completedNodeIds);
+        }
+        return completedNodeIdSet;
+    }
+
+    /**
+     * Tells whether a node with the given unique id completed in this instance, without copying the completed ids.
+     */
+    public boolean isNodeCompleted(String uniqueId) {
+        return uniqueId != null && getCompletedNodeIdSet().contains(uniqueId);
     }
 
     public List<String> getCompletedNodeIds() {
@@ -1149,9 +1351,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public Collection<AdHocFragment> adHocFragments() {
-        return Stream.of(getNodeContainer().getNodes())
-                .filter(n -> !(n instanceof StartNode) && !(n instanceof BoundaryEventNode))
-                .filter(n -> n.getIncomingConnections().isEmpty())
+        return ((org.jbpm.workflow.core.WorkflowProcess) getProcess()).getAdHocFragmentNodes().stream()
                 .map(node -> new AdHocFragment.Builder(node.getClass())
                         .withName(node.getName())
                         .withAutoStart(Boolean.parseBoolean((String) node.getMetaData().get(Metadata.CUSTOM_AUTO_START)))
@@ -1161,27 +1361,28 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public Collection<Milestone> milestones() {
-        return getNodesByType(MilestoneNode.class)
+        List<MilestoneNode> milestoneNodes = ((org.jbpm.workflow.core.WorkflowProcess) getProcess()).getNodesByType(MilestoneNode.class);
+        if (milestoneNodes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> activeNodeIds = getActiveNodeIdSet();
+        return milestoneNodes.stream()
                 .map(n -> {
                     String uid = (String) n.getMetaData().get(UNIQUE_ID);
                     return Milestone.builder()
                             .withId(uid)
                             .withName(n.getName())
-                            .withStatus(getMilestoneStatus(uid))
+                            .withStatus(getMilestoneStatus(uid, activeNodeIds))
                             .build();
                 })
                 .collect(Collectors.toSet());
     }
 
-    private <N extends org.kie.api.definition.process.Node> Stream<N> getNodesByType(Class<N> nodeClass) {
-        return getWorkflowProcess().getNodesRecursively().stream().filter(nodeClass::isInstance).map(nodeClass::cast);
-    }
-
-    private ItemDescription.Status getMilestoneStatus(String uid) {
-        if (getCompletedNodeIds().contains(uid)) {
+    private ItemDescription.Status getMilestoneStatus(String uid, Set<String> activeNodeIds) {
+        if (isNodeCompleted(uid)) {
             return COMPLETED;
         }
-        if (getActiveNodeIds().contains(uid)) {
+        if (activeNodeIds.contains(uid)) {
             return ACTIVE;
         }
         return AVAILABLE;
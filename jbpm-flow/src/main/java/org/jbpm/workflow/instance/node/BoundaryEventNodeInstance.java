@@ -81,7 +81,7 @@ public class BoundaryEventNodeInstance extends EventNodeInstance {
 
     private boolean isAttachedToNodeCompleted(String attachedTo) {
         WorkflowProcessInstanceImpl processInstance = (WorkflowProcessInstanceImpl) getProcessInstance();
-        return processInstance.getCompletedNodeIds().contains(attachedTo);
+        return processInstance.isNodeCompleted(attachedTo);
     }
 
     @Override
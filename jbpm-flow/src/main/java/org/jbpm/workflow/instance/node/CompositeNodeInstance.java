@@ -64,7 +64,7 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
 
     @Override
     public int getLevelForNode(String uniqueID) {
-        if (Boolean.parseBoolean(System.getProperty("jbpm.loop.level.disabled"))) {
+        if (getEngineConfiguration().isLoopLevelDisabled()) {
             return 1;
         }
         Integer value = iterationLevels.get(uniqueID);
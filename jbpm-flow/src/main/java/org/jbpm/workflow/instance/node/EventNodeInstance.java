@@ -26,6 +26,7 @@ import java.util.regex.Matcher;
 
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
+import org.jbpm.process.core.event.EventTypeFilter;
 import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.util.PatternConstants;
 import org.jbpm.workflow.core.Node;
@@ -53,6 +54,8 @@ public class EventNodeInstance extends ExtendedNodeInstanceImpl implements Kogit
 
     private static final long serialVersionUID = 510l;
 
+    private transient EventTypeFilter subscribedFilter;
+
     @Override
     public void signalEvent(String type, Object event, Function<String, Object> varResolver) {
         if (TIMER_TRIGGERED_EVENT.equals(type)) {
@@ -137,7 +140,7 @@ public class EventNodeInstance extends ExtendedNodeInstanceImpl implements Kogit
     }
 
     public void triggerCompleted() {
-        getProcessInstance().removeEventListener(getEventType(), getEventListener(), true);
+        removeEventListener();
         removeTimerListeners();
         if (this.slaCompliance == KogitoProcessInstance.SLA_PENDING) {
             if (System.currentTimeMillis() > slaDueDate.getTime()) {
@@ -154,7 +157,7 @@ public class EventNodeInstance extends ExtendedNodeInstanceImpl implements Kogit
 
     @Override
     public void cancel() {
-        getProcessInstance().removeEventListener(getEventType(), getEventListener(), true);
+        removeEventListener();
         removeTimerListeners();
         if (this.slaCompliance == KogitoProcessInstance.SLA_PENDING) {
             if (System.currentTimeMillis() > slaDueDate.getTime()) {
@@ -221,8 +224,13 @@ public class EventNodeInstance extends ExtendedNodeInstanceImpl implements Kogit
     @Override
     public void addEventListeners() {
         String eventType = getEventType();
+        EventTypeFilter filter = getEventNode().getSubscribedFilter();
         if (isVariableExpression(getEventNode().getType())) {
             getProcessInstance().addEventListener(eventType, new VariableExternalEventListener(eventType), true);
+        } else if (filter != null && getEventListener() == EMPTY_EVENT_LISTENER && getProcessInstance() instanceof WorkflowProcessInstanceImpl) {
+            // correlated messages are routed to this process instance by the subscribed correlation
+            subscribedFilter = filter;
+            ((WorkflowProcessInstanceImpl) getProcessInstance()).addCorrelatedEventListener(filter);
         } else {
             getProcessInstance().addEventListener(eventType, getEventListener(), true);
         }
@@ -236,6 +244,15 @@ public class EventNodeInstance extends ExtendedNodeInstanceImpl implements Kogit
 
     }
 
+    private void removeEventListener() {
+        if (subscribedFilter != null) {
+            ((WorkflowProcessInstanceImpl) getProcessInstance()).removeCorrelatedEventListener(subscribedFilter);
+            subscribedFilter = null;
+        } else {
+            getProcessInstance().removeEventListener(getEventType(), getEventListener(), true);
+        }
+    }
+
     public String getEventType() {
         return resolveExpression(getEventNode().getType());
     }
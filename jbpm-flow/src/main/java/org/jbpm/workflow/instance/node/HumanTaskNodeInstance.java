@@ -16,6 +16,7 @@
 package org.jbpm.workflow.instance.node;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +41,7 @@ import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.process.workitem.HumanTaskWorkItem;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 import org.kie.kogito.timer.TimerInstance;
 
 import static org.jbpm.workflow.instance.node.TimerNodeInstance.TIMER_TRIGGERED_EVENT;
@@ -51,7 +53,6 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
     private static final String DESCRIPTION = "Description";
     private static final String PRIORITY = "Priority";
     private static final String TASK_NAME = "TaskName";
-    private String separator = System.getProperty("org.jbpm.ht.user.separator", ",");
 
     private static final String ACTOR_ID = "ActorId";
     private static final String GROUP_ID = "GroupId";
@@ -235,14 +236,15 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
         HumanTaskWorkItemImpl humanTask = HumanTaskHelper.asHumanTask(getWorkItem());
         boolean modified = false;
         if (!reassignment.getPotentialUsers().isEmpty()) {
-            humanTask.setPotentialUsers(reassignment.getPotentialUsers());
+            humanTask.setPotentialUsers(new HashSet<>(reassignment.getPotentialUsers()));
             modified = true;
         }
         if (!reassignment.getPotentialGroups().isEmpty()) {
-            humanTask.setPotentialGroups(reassignment.getPotentialGroups());
+            humanTask.setPotentialGroups(new HashSet<>(reassignment.getPotentialGroups()));
             modified = true;
         }
         if (modified) {
+            ((InternalKogitoWorkItemManager) getProcessInstance().getKnowledgeRuntime().getWorkItemManager()).internalUpdateWorkItem(humanTask);
             getEventSupport().fireAfterWorkItemTransition(getProcessInstance(), humanTask, null, null);
         }
     }
@@ -261,7 +263,7 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
         // actor is specified for this human task
         if (actorId == null) {
             actorId = (String) workItem.getParameter(ACTOR_ID);
-            if (actorId != null && swimlaneContextInstance != null && actorId.split(separator).length == 1) {
+            if (actorId != null && swimlaneContextInstance != null && actorId.split(getEngineConfiguration().getUserSeparator()).length == 1) {
                 swimlaneContextInstance.setActorId(swimlaneName, actorId);
                 workItem.setParameter("SwimlaneActorId", actorId);
             }
@@ -323,7 +325,7 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
         String value = (String) workItem.getParameter(type);
 
         if (value != null) {
-            for (String item : value.split(separator)) {
+            for (String item : value.split(getEngineConfiguration().getUserSeparator())) {
                 store.add(item);
             }
         }
@@ -93,6 +93,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
                                 .build();
                 String jobId = jobService.scheduleProcessInstanceJob(jobDescription);
                 timerInstances.add(jobId);
+                registerTimerOwner(jobId);
             }
         }
 
@@ -123,6 +124,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
                 this.slaCompliance = KogitoProcessInstance.SLA_PENDING;
                 logger.debug("SLA for node instance {} is PENDING with due date {}", this.getStringId(), this.slaDueDate);
                 addTimerListener();
+                registerTimerOwner(slaTimerId);
             }
         }
     }
@@ -248,6 +250,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
             processRuntime.getProcessEventSupport().fireBeforeSLAViolated(getProcessInstance(), this, getProcessInstance().getKnowledgeRuntime());
             logger.debug("SLA violated on node instance {}", getStringId());
             this.slaCompliance = KogitoProcessInstance.SLA_VIOLATED;
+            unregisterTimerOwner(slaTimerId);
             this.slaTimerId = null;
             processRuntime.getProcessEventSupport().fireAfterSLAViolated(getProcessInstance(), this, getProcessInstance().getKnowledgeRuntime());
         }
@@ -277,6 +280,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
             if (Objects.equals(entry.getKey().getId(), timerInstance.getId())) {
                 if (timerInstance.getRepeatLimit() == 0) {
                     timerInstances.remove(timerInstance.getId());
+                    unregisterTimerOwner(timerInstance.getId());
                 }
                 executeAction((Action) entry.getValue().getMetaData("Action"));
                 return;
@@ -297,6 +301,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
     public void addEventListeners() {
         if (timerInstances != null && (!timerInstances.isEmpty()) || (this.slaTimerId != null && !this.slaTimerId.trim().isEmpty())) {
             addTimerListener();
+            registerTimerOwners();
         }
         if (slaCompliance == KogitoProcessInstance.SLA_PENDING) {
             getProcessInstance().addEventListener("slaViolation:" + getStringId(), this, true);
@@ -309,8 +314,35 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
         getProcessInstance().addEventListener("slaViolation:" + getStringId(), this, true);
     }
 
+    /**
+     * Indexes the timers of this node instance in the process instance, see
+     * {@link WorkflowProcessInstanceImpl#registerTimerOwner(String, KogitoEventListener)}.
+     */
+    protected void registerTimerOwner(String timerId) {
+        ((WorkflowProcessInstanceImpl) getProcessInstance()).registerTimerOwner(timerId, this);
+    }
+
+    protected void unregisterTimerOwner(String timerId) {
+        ((WorkflowProcessInstanceImpl) getProcessInstance()).unregisterTimerOwner(timerId, this);
+    }
+
+    private void registerTimerOwners() {
+        if (timerInstances != null) {
+            timerInstances.forEach(this::registerTimerOwner);
+        }
+        registerTimerOwner(slaTimerId);
+    }
+
+    private void unregisterTimerOwners() {
+        if (timerInstances != null) {
+            timerInstances.forEach(this::unregisterTimerOwner);
+        }
+        unregisterTimerOwner(slaTimerId);
+    }
+
     @Override
     public void removeEventListeners() {
+        unregisterTimerOwners();
         getProcessInstance().removeEventListener(TIMER_TRIGGERED_EVENT, this, false);
         getProcessInstance().removeEventListener("timer", this, true);
         getProcessInstance().removeEventListener("slaViolation:" + getStringId(), this, true);
@@ -364,6 +396,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
             JobsService jobService = ((InternalProcessRuntime) getProcessInstance().getKnowledgeRuntime().getProcessRuntime()).getJobsService();
             for (String id : timerInstances) {
                 jobService.cancelJob(id);
+                unregisterTimerOwner(id);
             }
         }
     }
@@ -372,6 +405,7 @@ public abstract class StateBasedNodeInstance extends ExtendedNodeInstanceImpl im
         if (this.slaTimerId != null && !this.slaTimerId.trim().isEmpty()) {
             JobsService jobService = ((InternalProcessRuntime) getProcessInstance().getKnowledgeRuntime().getProcessRuntime()).getJobsService();
             jobService.cancelJob(this.slaTimerId);
+            unregisterTimerOwner(this.slaTimerId);
             logger.debug("SLA Timer {} has been canceled", this.slaTimerId);
         }
     }
@@ -85,6 +85,7 @@ public class TimerNodeInstance extends StateBasedNodeInstance implements EventLi
                     JobsService jobService = processRuntime.getJobsService();
                     String jobId = jobService.scheduleProcessInstanceJob(jobDescription);
                     internalSetTimerId(jobId);
+                    registerTimerOwner(jobId);
                 }, i -> {
                 }, WorkUnit.LOW_PRIORITY));
     }
@@ -112,6 +113,7 @@ public class TimerNodeInstance extends StateBasedNodeInstance implements EventLi
     @Override
     public void cancel() {
         ((InternalProcessRuntime) getProcessInstance().getKnowledgeRuntime().getProcessRuntime()).getJobsService().cancelJob(timerId);
+        unregisterTimerOwner(timerId);
         super.cancel();
     }
 
@@ -121,11 +123,13 @@ public class TimerNodeInstance extends StateBasedNodeInstance implements EventLi
         if (getTimerInstances() == null) {
             addTimerListener();
         }
+        registerTimerOwner(timerId);
     }
 
     @Override
     public void removeEventListeners() {
         super.removeEventListeners();
+        unregisterTimerOwner(timerId);
         getProcessInstance().removeEventListener(TIMER_TRIGGERED_EVENT, this, false);
     }
 
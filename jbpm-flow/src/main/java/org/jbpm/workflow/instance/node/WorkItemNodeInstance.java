@@ -49,6 +49,7 @@ import org.jbpm.workflow.core.impl.NodeIoHelper;
 import org.jbpm.workflow.core.node.WorkItemNode;
 import org.jbpm.workflow.instance.WorkflowProcessInstance;
 import org.jbpm.workflow.instance.WorkflowRuntimeException;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.kie.api.runtime.EnvironmentName;
 import org.kie.api.runtime.KieRuntime;
 import org.kie.api.runtime.process.EventListener;
@@ -57,6 +58,9 @@ import org.kie.kogito.Model;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemNodeInstance;
+import org.kie.kogito.jobs.DurationExpirationTime;
+import org.kie.kogito.jobs.JobsService;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.process.EventDescription;
 import org.kie.kogito.process.GroupedNamedDataType;
 import org.kie.kogito.process.IOEventDescription;
@@ -65,11 +69,14 @@ import org.kie.kogito.process.Processes;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
 import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
+import org.kie.kogito.timer.TimerInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jbpm.process.core.context.variable.VariableScope.VARIABLE_SCOPE;
+import static org.jbpm.workflow.instance.node.TimerNodeInstance.TIMER_TRIGGERED_EVENT;
 import static org.kie.api.runtime.process.WorkItem.ABORTED;
 import static org.kie.api.runtime.process.WorkItem.COMPLETED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ABORTED;
@@ -91,6 +98,9 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
     private String workItemId;
     private transient InternalKogitoWorkItem workItem;
     private String exceptionHandlingProcessInstanceId;
+    // retry bookkeeping belongs to the node instance, handlers never see it among the work item parameters
+    private int retryAttempt;
+    private String retryJobId;
 
     private int triggerCount = 0;
 
@@ -114,6 +124,22 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
         this.workItemId = workItemId;
     }
 
+    public int getRetryAttempt() {
+        return retryAttempt;
+    }
+
+    public void internalSetRetryAttempt(int retryAttempt) {
+        this.retryAttempt = retryAttempt;
+    }
+
+    public String getRetryJobId() {
+        return retryJobId;
+    }
+
+    public void internalSetRetryJobId(String retryJobId) {
+        this.retryJobId = retryJobId;
+    }
+
     public void internalSetWorkItem(InternalKogitoWorkItem workItem) {
         this.workItem = workItem;
         this.workItem.setProcessInstance(getProcessInstance());
@@ -163,6 +189,10 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
             triggerCompleted();
         }
         this.workItemId = workItem.getStringId();
+        if (workItemNode.isWaitForCompletion() && getNodeInstanceContainer().getNodeInstance(getStringId()) != null) {
+            // the id is only known once the work item was executed, unless the handler already completed it
+            registerWorkItemOwner();
+        }
     }
 
     private void processWorkItemHandler(Runnable handler) {
@@ -305,11 +335,21 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
     protected void addWorkItemListener() {
         getProcessInstance().addEventListener("workItemCompleted", this, false);
         getProcessInstance().addEventListener("workItemAborted", this, false);
+        registerWorkItemOwner();
     }
 
     protected void removeWorkItemListener() {
         getProcessInstance().removeEventListener("workItemCompleted", this, false);
         getProcessInstance().removeEventListener("workItemAborted", this, false);
+        unregisterWorkItemOwner();
+    }
+
+    private void registerWorkItemOwner() {
+        ((WorkflowProcessInstanceImpl) getProcessInstance()).registerWorkItemOwner(workItemId, this);
+    }
+
+    private void unregisterWorkItemOwner() {
+        ((WorkflowProcessInstanceImpl) getProcessInstance()).unregisterWorkItemOwner(workItemId, this);
     }
 
     @Override
@@ -321,7 +361,9 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
 
     @Override
     public void signalEvent(String type, Object event) {
-        if ("workItemCompleted".equals(type)) {
+        if (TIMER_TRIGGERED_EVENT.equals(type) && isRetryJob(((TimerInstance) event).getId())) {
+            retryTriggered(((TimerInstance) event).getId());
+        } else if ("workItemCompleted".equals(type)) {
             workItemCompleted((InternalKogitoWorkItem) event);
         } else if ("workItemAborted".equals(type)) {
             workItemAborted((InternalKogitoWorkItem) event);
@@ -518,7 +560,7 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
             case RETRY:
                 Map<String, Object> parameters = new HashMap<>(getWorkItem().getParameters());
                 parameters.putAll(processInstance.getVariables());
-                processWorkItemHandler(() -> kogitoWorkItemManager.retryWorkItem(getWorkItem().getStringId(), parameters));
+                retryWorkItem(kogitoWorkItemManager, parameters, handlerException);
                 break;
             case COMPLETE:
                 kogitoWorkItemManager.completeWorkItem(getWorkItem().getStringId(), processInstance.getVariables());
@@ -527,6 +569,67 @@ public class WorkItemNodeInstance extends StateBasedNodeInstance implements Even
 
     }
 
+    /**
+     * Retries the work item according to the retry policy registered for it: right away when there is none or the
+     * policy asks for no delay, otherwise through a job of the jobs service, so the failing call does not hold the
+     * current unit of work. Once the policy gives up the process instance is put in error.
+     */
+    private void retryWorkItem(InternalKogitoWorkItemManager kogitoWorkItemManager, Map<String, Object> parameters, ProcessWorkItemHandlerException handlerException) {
+        WorkItemRetryPolicy retryPolicy = kogitoWorkItemManager.getRetryPolicy(getWorkItem().getName());
+        if (retryPolicy == null) {
+            processWorkItemHandler(() -> kogitoWorkItemManager.retryWorkItem(getWorkItem().getStringId(), parameters));
+            return;
+        }
+        int attempt = getRetryAttempt() + 1;
+        long delay = retryPolicy.delay(attempt);
+        if (delay < 0) {
+            // reported as the error of the process instance, whichever job or completion signal got us here
+            captureError(new WorkflowRuntimeException(this, getProcessInstance(), "Retries of work item " + getWorkItem().getName() + " exhausted after " + (attempt - 1) + " attempts",
+                    handlerException.getCause()));
+            return;
+        }
+        retryAttempt = attempt;
+        if (delay == 0) {
+            processWorkItemHandler(() -> kogitoWorkItemManager.retryWorkItem(getWorkItem().getStringId(), parameters));
+            return;
+        }
+        JobsService jobService = ((InternalProcessRuntime) getProcessInstance().getKnowledgeRuntime().getProcessRuntime()).getJobsService();
+        ProcessInstanceJobDescription jobDescription = ProcessInstanceJobDescription.builder()
+                .timerId(getWorkItem().getStringId())
+                .expirationTime(DurationExpirationTime.after(delay))
+                .processInstanceId(getProcessInstance().getStringId())
+                .rootProcessInstanceId(getProcessInstance().getRootProcessInstanceId())
+                .processId(getProcessInstance().getProcessId())
+                .rootProcessId(getProcessInstance().getRootProcessId())
+                .nodeInstanceId(getStringId())
+                .build();
+        String jobId = jobService.scheduleProcessInstanceJob(jobDescription);
+        retryJobId = jobId;
+        getWorkItem().setParameters(parameters);
+        if (getTimerInstances() == null) {
+            internalSetTimerInstances(new ArrayList<>());
+        }
+        // tracked as a timer of this node instance, so it is restored and cancelled together with the others
+        getTimerInstances().add(jobId);
+        addTimerListener();
+        registerTimerOwner(jobId);
+        logger.debug("Retry {} of work item {} scheduled in {} ms", attempt, getWorkItem().getStringId(), delay);
+    }
+
+    private void retryTriggered(String jobId) {
+        getTimerInstances().remove(jobId);
+        unregisterTimerOwner(jobId);
+        retryJobId = null;
+        Map<String, Object> parameters = new HashMap<>(getWorkItem().getParameters());
+        InternalKogitoWorkItemManager kogitoWorkItemManager =
+                (InternalKogitoWorkItemManager) InternalProcessRuntime.asKogitoProcessRuntime(getProcessInstance().getKnowledgeRuntime()).getKogitoWorkItemManager();
+        processWorkItemHandler(() -> kogitoWorkItemManager.retryWorkItem(getWorkItem().getStringId(), parameters));
+    }
+
+    private boolean isRetryJob(String jobId) {
+        return jobId != null && jobId.equals(retryJobId);
+    }
+
     public void addExceptionProcessListener() {
         if (exceptionHandlingProcessInstanceId != null) {
             getProcessInstance().addEventListener("processInstanceCompleted:" + exceptionHandlingProcessInstanceId, this, true);
@@ -15,26 +15,34 @@
  */
 package org.kie.kogito.process.expr;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ExpressionHandlerFactory {
 
     private ExpressionHandlerFactory() {
     }
 
-    private static final ServiceLoader<ExpressionHandler> serviceLoader = ServiceLoader.load(ExpressionHandler.class);
-
     public static Expression get(String lang, String expr) {
         return getExpressionHandler(lang).orElseThrow(
                 () -> new IllegalArgumentException("Unsupported language " + lang)).get(expr);
     }
 
     public static boolean isSupported(String lang) {
-        return serviceLoader.stream().anyMatch(p -> p.get().lang().equals(lang));
+        return getExpressionHandler(lang).isPresent();
     }
 
     private static Optional<ExpressionHandler> getExpressionHandler(String lang) {
-        return serviceLoader.stream().filter(p -> p.get().lang().equals(lang)).findFirst().map(p -> p.get());
+        return Optional.ofNullable(LazyHolder.handlers.get(lang));
+    }
+
+    private static class LazyHolder {
+        // handlers are loaded once, the first one found for a language wins
+        private static final Map<String, ExpressionHandler> handlers = ServiceLoader.load(ExpressionHandler.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .collect(Collectors.toUnmodifiableMap(ExpressionHandler::lang, Function.identity(), (first, second) -> first));
     }
 }
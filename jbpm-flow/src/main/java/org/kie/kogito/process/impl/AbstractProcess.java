@@ -26,6 +26,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jbpm.process.core.EngineConfiguration;
 import org.jbpm.process.core.ProcessSupplier;
 import org.jbpm.process.core.timer.DateTimeUtils;
 import org.jbpm.process.core.timer.Timer;
@@ -78,6 +79,7 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     private Lock processInitLock = new ReentrantLock();
     private CorrelationService correlations;
     private ProcessVersionResolver versionResolver;
+    private EngineConfiguration engineConfiguration;
 
     protected AbstractProcess() {
         this(new LightProcessRuntimeServiceProvider());
@@ -86,6 +88,7 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     protected AbstractProcess(ProcessConfig config, Application application) {
         this(new ConfiguredProcessServices(config));
         this.app = application;
+        this.engineConfiguration = engineConfiguration(config);
     }
 
     protected AbstractProcess(ProcessRuntimeServiceProvider services) {
@@ -99,6 +102,11 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     protected AbstractProcess(Application app, Collection<KogitoWorkItemHandler> handlers, CorrelationService correlations, ProcessInstancesFactory factory) {
         this(new ConfiguredProcessServices(app.config().get(ProcessConfig.class)), handlers, correlations, factory, app.config().get(ProcessConfig.class).versionResolver());
         this.app = app;
+        this.engineConfiguration = engineConfiguration(app.config().get(ProcessConfig.class));
+    }
+
+    private static EngineConfiguration engineConfiguration(ProcessConfig config) {
+        return config instanceof AbstractProcessConfig ? ((AbstractProcessConfig) config).engineConfiguration() : null;
     }
 
     protected AbstractProcess(ProcessRuntimeServiceProvider services, Collection<KogitoWorkItemHandler> handlers, CorrelationService correlations, ProcessInstancesFactory factory,
@@ -247,6 +255,10 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
         try {
             if (process == null) {
                 process = process();
+                EngineConfiguration configuration = engineConfiguration();
+                if (configuration != null && process instanceof WorkflowProcessImpl) {
+                    ((WorkflowProcessImpl) process).setEngineConfiguration(configuration);
+                }
             }
         } finally {
             processInitLock.unlock();
@@ -256,6 +268,14 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     protected abstract org.kie.api.definition.process.Process process();
 
+    /**
+     * Engine configuration used by the instances of this process, by default the one of the process config. Processes
+     * override it to fix their own settings; when <code>null</code> the snapshot taken with the definition is kept.
+     */
+    protected EngineConfiguration engineConfiguration() {
+        return engineConfiguration;
+    }
+
     protected InternalProcessRuntime createProcessRuntime() {
         return LightProcessRuntime.of(app, Collections.singletonList(get()), services);
     }
@@ -15,13 +15,17 @@
  */
 package org.kie.kogito.process.impl;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jbpm.process.core.EngineConfiguration;
 import org.kie.api.event.process.ProcessEventListener;
 import org.kie.kogito.Addons;
 import org.kie.kogito.event.EventPublisher;
@@ -30,6 +34,7 @@ import org.kie.kogito.process.ProcessConfig;
 import org.kie.kogito.process.ProcessEventListenerConfig;
 import org.kie.kogito.process.ProcessVersionResolver;
 import org.kie.kogito.process.WorkItemHandlerConfig;
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
 import org.kie.kogito.services.signal.DefaultSignalManagerHub;
 import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
 import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
@@ -45,6 +50,9 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
     private final UnitOfWorkManager unitOfWorkManager;
     private final JobsService jobsService;
     private final ProcessVersionResolver versionResolver;
+    private final EngineConfiguration engineConfiguration = EngineConfiguration.fromSystemProperties();
+    private final Map<String, WorkItemRetryPolicy> retryPolicies = new ConcurrentHashMap<>();
+    private volatile WorkItemRetryPolicy defaultRetryPolicy;
 
     protected AbstractProcessConfig(
             Iterable<WorkItemHandlerConfig> workItemHandlerConfig,
@@ -111,6 +119,37 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
         return versionResolver;
     }
 
+    /**
+     * Engine configuration applied to every process of this runtime, read once from the system properties when the
+     * config is created.
+     */
+    public EngineConfiguration engineConfiguration() {
+        return engineConfiguration;
+    }
+
+    /**
+     * Registers the retry policy of the work items with the given name, or the default policy when the name is
+     * <code>null</code>. A <code>null</code> policy removes the registration. Policies are handed to the work item
+     * manager of every process created afterwards.
+     */
+    public void registerRetryPolicy(String workItemName, WorkItemRetryPolicy retryPolicy) {
+        if (workItemName == null) {
+            this.defaultRetryPolicy = retryPolicy;
+        } else if (retryPolicy == null) {
+            this.retryPolicies.remove(workItemName);
+        } else {
+            this.retryPolicies.put(workItemName, retryPolicy);
+        }
+    }
+
+    public WorkItemRetryPolicy defaultRetryPolicy() {
+        return defaultRetryPolicy;
+    }
+
+    public Map<String, WorkItemRetryPolicy> retryPolicies() {
+        return Collections.unmodifiableMap(retryPolicies);
+    }
+
     public org.kie.kogito.Addons addons() {
         return Addons.EMTPY;
     }
@@ -34,6 +34,8 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jbpm.process.instance.InternalProcessRuntime;
+import org.jbpm.process.instance.LightWorkItemManager;
+import org.jbpm.process.instance.impl.humantask.HumanTaskAssignmentIndex;
 import org.jbpm.ruleflow.core.RuleFlowProcess;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.WorkflowProcess;
@@ -48,6 +50,8 @@ import org.kie.internal.process.CorrelationAwareProcessRuntime;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.process.CorrelationProperty;
 import org.kie.kogito.Model;
+import org.kie.kogito.auth.IdentityProvider;
+import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.correlation.CompositeCorrelation;
 import org.kie.kogito.correlation.Correlation;
 import org.kie.kogito.correlation.CorrelationInstance;
@@ -55,6 +59,7 @@ import org.kie.kogito.internal.process.event.KogitoEventListener;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
 import org.kie.kogito.internal.process.runtime.WorkItemNotFoundException;
 import org.kie.kogito.process.EventDescription;
 import org.kie.kogito.process.MutableProcessInstances;
@@ -70,6 +75,7 @@ import org.kie.kogito.process.flexible.AdHocFragment;
 import org.kie.kogito.process.flexible.Milestone;
 import org.kie.kogito.process.workitem.Policy;
 import org.kie.kogito.process.workitem.Transition;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 import org.kie.kogito.services.uow.ProcessInstanceWorkUnit;
 
 public abstract class AbstractProcessInstance<T extends Model> implements ProcessInstance<T> {
@@ -302,6 +308,11 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
     public void abort() {
         String pid = processInstance().getStringId();
         getProcessRuntime().getKogitoProcessRuntime().abortProcessInstance(pid);
+        // drop whatever work items the aborted instance left behind
+        KogitoWorkItemManager workItemManager = getProcessRuntime().getKogitoProcessRuntime().getKogitoWorkItemManager();
+        if (workItemManager instanceof InternalKogitoWorkItemManager) {
+            ((InternalKogitoWorkItemManager) workItemManager).internalRemoveWorkItems(pid);
+        }
         removeOnFinish();
     }
 
@@ -516,8 +527,9 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
     @Override
     public List<WorkItem> workItems(Predicate<KogitoNodeInstance> p, Policy<?>... policies) {
         List<WorkItem> list = new ArrayList<>();
+        HumanTaskAssignmentIndex.Visibility visibility = visibility(policies);
         for (NodeInstance ni : processInstance().getNodeInstances(true)) {
-            if (p.test(ni) && ((WorkItemNodeInstance) ni).getWorkItem().enforce(policies)) {
+            if (p.test(ni) && isAuthorized(((WorkItemNodeInstance) ni).getWorkItem(), visibility, policies)) {
                 BaseWorkItem taskName = new BaseWorkItem(ni.getStringId(),
                         ((WorkItemNodeInstance) ni).getWorkItemId(),
                         Long.toString(ni.getNode().getId()),
@@ -533,6 +545,29 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         return list;
     }
 
+    private static boolean isAuthorized(KogitoWorkItem workItem, HumanTaskAssignmentIndex.Visibility visibility, Policy<?>... policies) {
+        // indexed human tasks are decided by the assignment index, any other work item authorizes itself
+        Boolean visible = visibility == null ? null : visibility.isVisible(workItem.getStringId());
+        return visible == null ? workItem.enforce(policies) : visible;
+    }
+
+    private HumanTaskAssignmentIndex.Visibility visibility(Policy<?>... policies) {
+        if (rt == null) {
+            return null;
+        }
+        for (Policy<?> policy : policies) {
+            if (policy instanceof SecurityPolicy) {
+                IdentityProvider identity = ((SecurityPolicy) policy).value();
+                KogitoWorkItemManager workItemManager = rt.getKogitoProcessRuntime().getKogitoWorkItemManager();
+                if (identity == null || identity.getName() == null || !(workItemManager instanceof LightWorkItemManager)) {
+                    return null;
+                }
+                return ((LightWorkItemManager) workItemManager).getHumanTaskAssignments().visibility(identity.getName(), identity.getRoles());
+            }
+        }
+        return null;
+    }
+
     @Override
     public void completeWorkItem(String id, Map<String, Object> variables, Policy<?>... policies) {
         getProcessRuntime().getKogitoProcessRuntime().getKogitoWorkItemManager().completeWorkItem(id, variables, policies);
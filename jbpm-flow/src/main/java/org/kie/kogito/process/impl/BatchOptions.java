@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+/**
+ * Options of the batch operations of {@link BatchProcessService}.
+ * <p>
+ * By default every item runs in its own unit of work, so a failing item affects no other item. With
+ * {@link #chunked(int)} the items of a chunk share a unit of work instead, which saves a commit per item. A failing
+ * item then ends its chunk: the unit of work is committed with the items before it, including whatever the failing
+ * item changed before it failed, and the next chunk starts with the item after it. Items are never executed twice.
+ */
+public final class BatchOptions {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private static final BatchOptions DEFAULT = new BatchOptions(DEFAULT_CHUNK_SIZE, false);
+
+    private final int chunkSize;
+    private final boolean chunked;
+
+    public static BatchOptions defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns options in which up to the given number of consecutive items share a unit of work.
+     */
+    public static BatchOptions chunked(int chunkSize) {
+        return new BatchOptions(chunkSize, true);
+    }
+
+    private BatchOptions(int chunkSize, boolean chunked) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, but was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.chunked = chunked;
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    public boolean isChunked() {
+        return chunked;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchOptions [chunkSize=" + chunkSize + ", chunked=" + chunked + "]";
+    }
+}
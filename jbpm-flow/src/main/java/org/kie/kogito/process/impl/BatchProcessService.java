@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kie.kogito.MappableToModel;
+import org.kie.kogito.Model;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessService;
+
+/**
+ * Process service that also starts and signals process instances in batches. Every item reports its own outcome,
+ * see {@link BatchOptions} for how items share units of work.
+ */
+public interface BatchProcessService extends ProcessService {
+
+    /**
+     * Creates and starts a process instance for every given model. The results are in the order of the models.
+     */
+    <T extends Model> List<BatchResult<ProcessInstance<T>>> createProcessInstances(Process<T> process, List<T> models, BatchOptions options);
+
+    /**
+     * Sends the given signal to every listed process instance with its own payload. The results are in the iteration
+     * order of the map and are empty for process instances that do not exist.
+     */
+    <T extends MappableToModel<R>, R> List<BatchResult<Optional<R>>> signalProcessInstances(Process<T> process, String signalName, Map<String, ?> dataByInstanceId,
+            BatchOptions options);
+}
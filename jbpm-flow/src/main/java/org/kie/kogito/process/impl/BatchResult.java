@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+/**
+ * Outcome of a single item of a batch operation of {@link ProcessServiceImpl}, either the value it produced or the
+ * error that made it fail. The index is the position of the item in the batch input.
+ */
+public final class BatchResult<R> {
+
+    private final int index;
+    private final R value;
+    private final RuntimeException error;
+
+    public static <R> BatchResult<R> success(int index, R value) {
+        return new BatchResult<>(index, value, null);
+    }
+
+    public static <R> BatchResult<R> failure(int index, RuntimeException error) {
+        return new BatchResult<>(index, null, error);
+    }
+
+    private BatchResult(int index, R value, RuntimeException error) {
+        this.index = index;
+        this.value = value;
+        this.error = error;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public R value() {
+        return value;
+    }
+
+    public RuntimeException error() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "BatchResult [index=" + index + ", value=" + value + "]" : "BatchResult [index=" + index + ", error=" + error + "]";
+    }
+}
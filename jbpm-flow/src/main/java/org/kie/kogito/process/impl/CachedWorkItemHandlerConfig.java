@@ -16,22 +16,34 @@
 package org.kie.kogito.process.impl;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.process.WorkItemHandlerConfig;
 
 public class CachedWorkItemHandlerConfig implements WorkItemHandlerConfig {
 
-    private final Map<String, KogitoWorkItemHandler> workItemHandlers = new HashMap<>();
+    private final Map<String, KogitoWorkItemHandler> workItemHandlers = new ConcurrentHashMap<>();
+
+    private final List<Runnable> registrationListeners = new CopyOnWriteArrayList<>();
 
     public CachedWorkItemHandlerConfig register(String name, KogitoWorkItemHandler handler) {
         workItemHandlers.put(name, handler);
+        registrationListeners.forEach(Runnable::run);
         return this;
     }
 
+    /**
+     * Runs the given listener after every registration, so configurations caching the handlers can refresh them.
+     */
+    void onRegister(Runnable listener) {
+        registrationListeners.add(listener);
+    }
+
     @Override
     public KogitoWorkItemHandler forName(String name) {
         KogitoWorkItemHandler workItemHandler = workItemHandlers.get(name);
@@ -17,6 +17,7 @@ package org.kie.kogito.process.impl;
 
 import org.jbpm.process.instance.AbstractProcessRuntimeServiceProvider;
 import org.kie.kogito.process.ProcessConfig;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 
 public class ConfiguredProcessServices extends AbstractProcessRuntimeServiceProvider {
 
@@ -27,5 +28,13 @@ public class ConfiguredProcessServices extends AbstractProcessRuntimeServiceProv
                 config.signalManagerHub(),
                 config.unitOfWorkManager());
 
+        if (config instanceof AbstractProcessConfig) {
+            AbstractProcessConfig processConfig = (AbstractProcessConfig) config;
+            InternalKogitoWorkItemManager workItemManager = (InternalKogitoWorkItemManager) getKogitoWorkItemManager();
+            if (processConfig.defaultRetryPolicy() != null) {
+                workItemManager.registerRetryPolicy(null, processConfig.defaultRetryPolicy());
+            }
+            processConfig.retryPolicies().forEach(workItemManager::registerRetryPolicy);
+        }
     }
 }
@@ -15,38 +15,129 @@
  */
 package org.kie.kogito.process.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.process.WorkItemHandlerConfig;
 
+/**
+ * Combines several work item handler configurations.
+ * <p>
+ * The delegates are read once, and the handlers they announce are merged into an immutable name to handler map where
+ * the first configuration providing a name wins, so resolving a handler is a single map lookup. A
+ * {@link CachedWorkItemHandlerConfig} delegate pushes its registrations, which rebuilds the map. Other delegates
+ * cannot tell when they change, they are expected to keep resolving a name they announce to the same handler.
+ * Delegates are only queried for names missing from the map: a handler found that way is added to the map and a name
+ * no delegate resolves is rejected without querying them again until the next registration.
+ */
 public class MultiWorkItemHandlerConfig implements WorkItemHandlerConfig {
 
-    private final Iterable<WorkItemHandlerConfig> workItemHandlerConfigs;
+    private final List<WorkItemHandlerConfig> workItemHandlerConfigs = new ArrayList<>();
+
+    private volatile Handlers workItemHandlers;
 
     public MultiWorkItemHandlerConfig(Iterable<WorkItemHandlerConfig> workItemHandlerConfigs) {
-        this.workItemHandlerConfigs = workItemHandlerConfigs;
+        workItemHandlerConfigs.forEach(this.workItemHandlerConfigs::add);
+        for (WorkItemHandlerConfig workItemHandlerConfig : this.workItemHandlerConfigs) {
+            if (workItemHandlerConfig instanceof CachedWorkItemHandlerConfig) {
+                ((CachedWorkItemHandlerConfig) workItemHandlerConfig).onRegister(this::refresh);
+            }
+        }
+        this.workItemHandlers = merge();
     }
 
     @Override
     public KogitoWorkItemHandler forName(String name) {
+        Handlers handlers = workItemHandlers;
+        KogitoWorkItemHandler workItemHandler = handlers.byName.get(name);
+        if (workItemHandler != null) {
+            return workItemHandler;
+        }
+        if (handlers.missing.contains(name)) {
+            throw new NoSuchElementException("Cannot find work item for name " + name);
+        }
+        return lookup(name);
+    }
+
+    private KogitoWorkItemHandler lookup(String name) {
+        for (WorkItemHandlerConfig workItemHandlerConfig : workItemHandlerConfigs) {
+            if (workItemHandlerConfig.names().contains(name)) {
+                return publish(name, workItemHandlerConfig.forName(name));
+            }
+        }
+        // delegates might resolve handlers they do not list in their names
         RuntimeException trackException = null;
         for (WorkItemHandlerConfig workItemHandlerConfig : workItemHandlerConfigs) {
             try {
-                return workItemHandlerConfig.forName(name);
+                return publish(name, workItemHandlerConfig.forName(name));
             } catch (RuntimeException ex) {
                 trackException = ex;
             }
         }
+        reject(name);
         throw trackException != null ? trackException : new NoSuchElementException("Cannot find work item for name " + name);
     }
 
+    private Handlers merge() {
+        Map<String, KogitoWorkItemHandler> handlers = new HashMap<>();
+        for (WorkItemHandlerConfig workItemHandlerConfig : workItemHandlerConfigs) {
+            for (String name : workItemHandlerConfig.names()) {
+                if (!handlers.containsKey(name)) {
+                    handlers.put(name, workItemHandlerConfig.forName(name));
+                }
+            }
+        }
+        return new Handlers(handlers, Collections.emptySet());
+    }
+
+    private synchronized void refresh() {
+        workItemHandlers = merge();
+    }
+
+    private synchronized KogitoWorkItemHandler publish(String name, KogitoWorkItemHandler workItemHandler) {
+        Handlers handlers = workItemHandlers;
+        KogitoWorkItemHandler current = handlers.byName.get(name);
+        if (current != null) {
+            return current;
+        }
+        Map<String, KogitoWorkItemHandler> byName = new HashMap<>(handlers.byName);
+        byName.put(name, workItemHandler);
+        workItemHandlers = new Handlers(byName, handlers.missing);
+        return workItemHandler;
+    }
+
+    private synchronized void reject(String name) {
+        Handlers handlers = workItemHandlers;
+        if (!handlers.byName.containsKey(name)) {
+            Set<String> missing = new HashSet<>(handlers.missing);
+            missing.add(name);
+            workItemHandlers = new Handlers(handlers.byName, missing);
+        }
+    }
+
     @Override
     public Collection<String> names() {
-        Collection<String> names = new HashSet<>();
+        Collection<String> names = new HashSet<>(workItemHandlers.byName.keySet());
         workItemHandlerConfigs.forEach(w -> names.addAll(w.names()));
         return names;
     }
+
+    private static class Handlers {
+
+        private final Map<String, KogitoWorkItemHandler> byName;
+        private final Set<String> missing;
+
+        Handlers(Map<String, KogitoWorkItemHandler> byName, Set<String> missing) {
+            this.byName = Collections.unmodifiableMap(byName);
+            this.missing = Collections.unmodifiableSet(missing);
+        }
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.process.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -41,7 +42,6 @@ import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessConfig;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceReadMode;
-import org.kie.kogito.process.ProcessService;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.workitem.Attachment;
 import org.kie.kogito.process.workitem.AttachmentInfo;
@@ -50,7 +50,7 @@ import org.kie.kogito.process.workitem.HumanTaskWorkItem;
 import org.kie.kogito.process.workitem.Policy;
 import org.kie.kogito.services.uow.UnitOfWorkExecutor;
 
-public class ProcessServiceImpl implements ProcessService {
+public class ProcessServiceImpl implements BatchProcessService {
 
     private final Application application;
     private final short processInstanceLimit;
@@ -382,6 +382,83 @@ public class ProcessServiceImpl implements ProcessService {
                         }));
     }
 
+    @Override
+    public <T extends Model> List<BatchResult<ProcessInstance<T>>> createProcessInstances(Process<T> process, List<T> models, BatchOptions options) {
+        return executeInBatches(models, model -> {
+            ProcessInstance<T> pi = process.createInstance(model);
+            pi.start();
+            return pi;
+        }, options);
+    }
+
+    @Override
+    public <T extends MappableToModel<R>, R> List<BatchResult<Optional<R>>> signalProcessInstances(Process<T> process, String signalName, Map<String, ?> dataByInstanceId,
+            BatchOptions options) {
+        return executeInBatches(new ArrayList<>(dataByInstanceId.entrySet()), entry -> process.instances().findById(entry.getKey())
+                .map(pi -> {
+                    pi.send(Sig.of(signalName, entry.getValue()));
+                    return pi.checkError().variables().toModel();
+                }), options);
+    }
+
+    private <I, V> List<BatchResult<V>> executeInBatches(List<I> items, Function<I, V> action, BatchOptions options) {
+        List<BatchResult<V>> results = new ArrayList<>(items.size());
+        if (!options.isChunked()) {
+            for (int i = 0; i < items.size(); i++) {
+                I item = items.get(i);
+                try {
+                    results.add(BatchResult.success(i, UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> action.apply(item))));
+                } catch (RuntimeException e) {
+                    results.add(BatchResult.failure(i, e));
+                }
+            }
+            return results;
+        }
+        int next = 0;
+        while (next < items.size()) {
+            next = executeChunk(items, next, Math.min(items.size(), next + options.chunkSize()), action, results);
+        }
+        return results;
+    }
+
+    /**
+     * Executes the items from start until end in a single unit of work, stopping after the first failing item, and
+     * returns the index of the item to continue with.
+     */
+    private <I, V> int executeChunk(List<I> items, int start, int end, Function<I, V> action, List<BatchResult<V>> results) {
+        List<BatchResult<V>> chunkResults = new ArrayList<>(end - start);
+        try {
+            UnitOfWorkExecutor.executeInUnitOfWork(application.unitOfWorkManager(), () -> {
+                for (int i = start; i < end; i++) {
+                    try {
+                        chunkResults.add(BatchResult.success(i, action.apply(items.get(i))));
+                    } catch (RuntimeException e) {
+                        // the items before keep their results, the next chunk starts after the failing item
+                        chunkResults.add(BatchResult.failure(i, e));
+                        break;
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (chunkResults.isEmpty()) {
+                // the unit of work did not even start, no item was executed
+                for (int i = start; i < end; i++) {
+                    results.add(BatchResult.failure(i, e));
+                }
+                return end;
+            }
+            // the unit of work was not committed, none of the executed items took effect
+            for (int i = 0; i < chunkResults.size(); i++) {
+                if (chunkResults.get(i).isSuccess()) {
+                    chunkResults.set(i, BatchResult.failure(start + i, e));
+                }
+            }
+        }
+        results.addAll(chunkResults);
+        return start + chunkResults.size();
+    }
+
     //Schema
     @Override
     public <T extends Model> Map<String, Object> getSchemaAndPhases(Process<T> process,
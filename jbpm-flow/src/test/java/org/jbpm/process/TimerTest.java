@@ -15,13 +15,19 @@
  */
 package org.jbpm.process;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.kiesession.session.ProcessRuntimeFactory;
 import org.jbpm.process.instance.InternalProcessRuntime;
 import org.jbpm.process.instance.ProcessRuntimeFactoryServiceImpl;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
 import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
 import org.jbpm.test.util.AbstractBaseTest;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.event.KogitoEventListener;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.jobs.DurationExpirationTime;
 import org.kie.kogito.jobs.ExactExpirationTime;
@@ -136,4 +142,58 @@ public class TimerTest extends AbstractBaseTest {
         assertThat(counter).isEqualTo(lastCount);
     }
 
+    @Test
+    public void testTimerDeliveredToOwnerOnly() {
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime();
+        RuleFlowProcessInstance processInstance = new RuleFlowProcessInstance();
+        processInstance.setKnowledgeRuntime(((InternalWorkingMemory) kruntime.getKieSession()).getKnowledgeRuntime());
+        processInstance.setProcess(new RuleFlowProcess());
+        processInstance.setId("1234");
+        processInstance.setState(KogitoProcessInstance.STATE_ACTIVE);
+
+        List<String> owner = new ArrayList<>();
+        List<String> other = new ArrayList<>();
+        KogitoEventListener ownerListener = new RecordingListener(owner);
+        processInstance.addEventListener(TIMER_TRIGGERED_EVENT, ownerListener, false);
+        processInstance.addEventListener(TIMER_TRIGGERED_EVENT, new RecordingListener(other), false);
+        processInstance.registerTimerOwner("timer1", ownerListener);
+
+        processInstance.signalEvent(TIMER_TRIGGERED_EVENT, timer("timer1"));
+        assertThat(owner).containsExactly("timer1");
+        assertThat(other).isEmpty();
+
+        // timers without a registered owner are still broadcast
+        processInstance.signalEvent(TIMER_TRIGGERED_EVENT, timer("timer2"));
+        assertThat(owner).containsExactly("timer1", "timer2");
+        assertThat(other).containsExactly("timer2");
+
+        processInstance.unregisterTimerOwner("timer1", ownerListener);
+        processInstance.signalEvent(TIMER_TRIGGERED_EVENT, timer("timer1"));
+        assertThat(other).containsExactly("timer2", "timer1");
+    }
+
+    private static TimerInstance timer(String id) {
+        TimerInstance timer = new TimerInstance();
+        timer.setId(id);
+        return timer;
+    }
+
+    private static class RecordingListener implements KogitoEventListener {
+
+        private final List<String> timers;
+
+        RecordingListener(List<String> timers) {
+            this.timers = timers;
+        }
+
+        @Override
+        public void signalEvent(String type, Object event) {
+            timers.add(((TimerInstance) event).getId());
+        }
+
+        @Override
+        public String[] getEventTypes() {
+            return new String[] { TIMER_TRIGGERED_EVENT };
+        }
+    }
 }
@@ -44,6 +44,8 @@ import org.jbpm.workflow.instance.WorkflowProcessInstance;
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 import org.kie.kogito.process.workitems.KogitoWorkItemHandlerNotFoundException;
 import org.slf4j.LoggerFactory;
 
@@ -193,6 +195,34 @@ public class WorkItemTest extends AbstractBaseTest {
         assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
     }
 
+    @Test
+    public void testWorkItemCompletionDeliveredToOwner() {
+        String workName = "Pending Task";
+        RuleFlowProcess process = getWorkItemProcess("org.drools.actions", workName);
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(process);
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler(workName, new DoNothingWorkItemHandler());
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("UserName", "John Doe");
+        parameters.put("Person", new Person("John Doe"));
+        KogitoProcessInstance first = kruntime.startProcess("org.drools.actions", parameters);
+        KogitoProcessInstance second = kruntime.startProcess("org.drools.actions", parameters);
+        assertThat(first.getState()).isEqualTo(KogitoProcessInstance.STATE_ACTIVE);
+        assertThat(second.getState()).isEqualTo(KogitoProcessInstance.STATE_ACTIVE);
+
+        InternalKogitoWorkItemManager workItemManager = (InternalKogitoWorkItemManager) kruntime.getKogitoWorkItemManager();
+        List<InternalKogitoWorkItem> workItems = new ArrayList<>(workItemManager.getWorkItems(second.getStringId()));
+        assertThat(workItems).hasSize(1);
+
+        Map<String, Object> results = new HashMap<>();
+        results.put("Result", "done");
+        workItemManager.completeWorkItem(workItems.get(0).getStringId(), results);
+
+        assertThat(second.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(((WorkflowProcessInstance) second).getVariable("MyObject")).isEqualTo("done");
+        assertThat(first.getState()).isEqualTo(KogitoProcessInstance.STATE_ACTIVE);
+    }
+
     private RuleFlowProcess getWorkItemProcess(String processId,
             String workName) {
         RuleFlowProcess process = new RuleFlowProcess();
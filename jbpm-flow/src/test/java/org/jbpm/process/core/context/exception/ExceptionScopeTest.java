@@ -15,11 +15,16 @@
  */
 package org.jbpm.process.core.context.exception;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.workitem.WorkItemExecutionException;
 import org.mockito.Mockito;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ExceptionScopeTest {
@@ -36,4 +41,32 @@ public class ExceptionScopeTest {
         assertEquals(handler2, exceptionScope.getHandlerFromPolicies(new RuntimeException(new IOException())));
         assertEquals(handler3, exceptionScope.getHandlerFromPolicies(new Exception(new RuntimeException())));
     }
+
+    @Test
+    void testMatchingPlanKeepsPolicyPrecedence() {
+        ExceptionScope exceptionScope = new ExceptionScope();
+        for (String name : List.of(IOException.class.getName(), RuntimeException.class.getName(), Exception.class.getName(),
+                "HTTP:500", "404", "Unknown error", "(?i)status code 4[0-9]{2}", "[", "timeout")) {
+            exceptionScope.setExceptionHandler(name, Mockito.mock(ExceptionHandler.class));
+        }
+        List<Throwable> exceptions = List.of(new IOException(), new FileNotFoundException("timeout"), new IllegalStateException("Unknown error"),
+                new IllegalArgumentException("Status code 404"), new RuntimeException(new FileNotFoundException()),
+                new WorkItemExecutionException("500", "timeout"), new IllegalStateException(new WorkItemExecutionException("404", "Not found")),
+                new Error("nothing"), new Throwable());
+        for (Throwable exception : exceptions) {
+            assertThat(exceptionScope.getHandlerFromPolicies(exception)).as(exception.toString())
+                    .isSameAs(testAllPolicies(exceptionScope.getExceptionHandlers(), exception));
+        }
+    }
+
+    private static ExceptionHandler testAllPolicies(Map<String, ExceptionHandler> handlers, Throwable exception) {
+        for (ExceptionHandlerPolicy policy : ExceptionHandlerPolicyFactory.getHandlerPolicies()) {
+            for (Map.Entry<String, ExceptionHandler> handler : handlers.entrySet()) {
+                if (handler.getKey() != null && policy.test(handler.getKey(), exception)) {
+                    return handler.getValue();
+                }
+            }
+        }
+        return null;
+    }
 }
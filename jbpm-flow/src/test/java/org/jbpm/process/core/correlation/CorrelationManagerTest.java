@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.correlation;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CorrelationManagerTest {
+
+    private CorrelationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new CorrelationManager();
+        manager.setClassLoader(getClass().getClassLoader());
+        manager.newMessage("order", "Order", String.class.getName());
+        manager.newCorrelation("orderKey", "Order Key");
+        manager.addMessagePropertyExpression("orderKey", "order", "id", new KeyEvaluator());
+        manager.subscribeTo("orderKey");
+        manager.addProcessSubscriptionPropertyExpression("orderKey", "id", new KeyEvaluator());
+    }
+
+    @Test
+    void testCorrelationLookupByMessageRef() {
+        assertThat(manager.isSubscribe("order")).isTrue();
+        assertThat(manager.isSubscribe("unknown")).isFalse();
+        assertThat(manager.computeCorrelationInstance("order", "A-1"))
+                .isEqualTo(manager.computeSubscription("order", variables("A-1")));
+        assertThatThrownBy(() -> manager.computeCorrelationInstance("order", 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Function<String, Object> variables(String key) {
+        return Map.<String, Object> of("key", key)::get;
+    }
+
+    private static class KeyEvaluator implements CorrelationExpressionEvaluator {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object eval(Object event) {
+            return ((String) event).substring(0, 1);
+        }
+
+        @Override
+        public Object eval(Function<String, Object> resolver) {
+            return ((String) resolver.apply("key")).substring(0, 1);
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.jbpm.process.core.datatype.impl.coverter;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
 
 import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
 import org.junit.jupiter.api.Test;
@@ -45,4 +46,35 @@ public class TypeConverterTest {
         Date readValue = (Date) data.readValue(sdf.format(now));
         assertThat(readValue).hasToString(now.toString());
     }
+
+    @Test
+    public void testReverseConverterFollowsRegistrations() {
+        TypeConverterRegistry registry = TypeConverterRegistry.get();
+        Special special = new Special();
+        assertThat(registry.forTypeReverse(special).apply(special)).isEqualTo("plain");
+
+        registry.registerUnconverter(Plain.class.getName(), o -> "registered");
+        assertThat(registry.forTypeReverse(special).apply(special)).isEqualTo("registered");
+        assertThat(registry.forTypeReverse(special)).isSameAs(registry.forTypeReverse(new Special()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testJacksonConverterRoundTrip() {
+        TypeConverterRegistry registry = TypeConverterRegistry.get();
+        Map<String, Object> value = Map.of("name", "john");
+        String json = new JacksonUnconverter<Map<String, Object>>().apply(value);
+        assertThat((Map<String, Object>) registry.forType(Map.class.getName()).apply(json)).isEqualTo(value);
+        assertThat((Map<String, Object>) registry.forType(Map.class.getName()).apply(json)).isEqualTo(value);
+    }
+
+    private static class Plain {
+        @Override
+        public String toString() {
+            return "plain";
+        }
+    }
+
+    private static class Special extends Plain {
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.Process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class XmlProcessDefinitionCacheTest {
+
+    @Test
+    void testIdenticalXmlSharesDefinition() {
+        AtomicInteger reads = new AtomicInteger();
+        Function<String, Process> reader = xml -> {
+            reads.incrementAndGet();
+            RuleFlowProcess process = new RuleFlowProcess();
+            process.setId(xml);
+            return process;
+        };
+
+        Process first = XmlProcessDefinitionCache.get("<definitions id=\"shared\"/>", reader);
+        Process second = XmlProcessDefinitionCache.get("<definitions id=\"shared\"/>", reader);
+        Process other = XmlProcessDefinitionCache.get("<definitions id=\"other\"/>", reader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testPutKeepsExistingDefinition() {
+        RuleFlowProcess registered = new RuleFlowProcess();
+        assertThat(XmlProcessDefinitionCache.put("<definitions id=\"put\"/>", registered)).isSameAs(registered);
+        assertThat(XmlProcessDefinitionCache.put("<definitions id=\"put\"/>", new RuleFlowProcess())).isSameAs(registered);
+        assertThat(XmlProcessDefinitionCache.get("<definitions id=\"put\"/>", xml -> null)).isSameAs(registered);
+    }
+}
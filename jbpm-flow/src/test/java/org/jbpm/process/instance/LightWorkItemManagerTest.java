@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.event.KogitoProcessEventSupport;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
+import org.kie.kogito.signal.SignalManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LightWorkItemManagerTest {
+
+    private final LightWorkItemManager workItemManager = new LightWorkItemManager(mock(ProcessInstanceManager.class), mock(SignalManager.class),
+            mock(KogitoProcessEventSupport.class));
+
+    @Test
+    void testWorkItemsAreIndexedByProcessInstance() {
+        InternalKogitoWorkItem first = workItem("1", "pi1");
+        InternalKogitoWorkItem second = workItem("2", "pi1");
+        InternalKogitoWorkItem third = workItem("3", "pi2");
+        workItemManager.internalAddWorkItem(first);
+        workItemManager.internalAddWorkItem(second);
+        workItemManager.internalAddWorkItem(third);
+
+        assertThat(workItemManager.getWorkItems("pi1")).containsExactlyInAnyOrder(first, second);
+        assertThat(workItemManager.getWorkItems("pi2")).containsExactly(third);
+
+        workItemManager.internalRemoveWorkItem("1");
+        assertThat(workItemManager.getWorkItems("pi1")).containsExactly(second);
+        assertThat(workItemManager.getWorkItem("1")).isNull();
+    }
+
+    @Test
+    void testRemoveWorkItemsOfProcessInstance() {
+        workItemManager.internalAddWorkItem(workItem("1", "pi1"));
+        workItemManager.internalAddWorkItem(workItem("2", "pi1"));
+        workItemManager.internalAddWorkItem(workItem("3", "pi2"));
+
+        workItemManager.internalRemoveWorkItems("pi1");
+
+        assertThat(workItemManager.getWorkItems("pi1")).isEmpty();
+        assertThat(workItemManager.getWorkItem("1")).isNull();
+        assertThat(workItemManager.getWorkItem("2")).isNull();
+        assertThat(workItemManager.getWorkItem("3")).isNotNull();
+    }
+
+    private static InternalKogitoWorkItem workItem(String id, String processInstanceId) {
+        KogitoWorkItemImpl workItem = new KogitoWorkItemImpl();
+        workItem.setId(id);
+        workItem.setName("Test");
+        workItem.setProcessInstanceId(processInstanceId);
+        return workItem;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.event;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jbpm.process.core.correlation.CorrelationExpressionEvaluator;
+import org.jbpm.process.core.correlation.CorrelationManager;
+import org.jbpm.process.core.correlation.CorrelationSubscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.process.EventListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class DefaultSignalManagerTest {
+
+    private static final String TYPE = "Message-Order";
+
+    private CorrelationManager manager;
+    private DefaultSignalManager signalManager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new CorrelationManager();
+        manager.setClassLoader(getClass().getClassLoader());
+        manager.newMessage("order", "Order", String.class.getName());
+        manager.newCorrelation("orderKey", "Order Key");
+        manager.addMessagePropertyExpression("orderKey", "order", "id", new KeyEvaluator());
+        manager.subscribeTo("orderKey");
+        manager.addProcessSubscriptionPropertyExpression("orderKey", "id", new KeyEvaluator());
+        signalManager = new DefaultSignalManager(null);
+    }
+
+    @Test
+    void testCorrelatedEventIsRoutedToMatchingSubscribers() {
+        EventListener first = mock(EventListener.class);
+        EventListener second = mock(EventListener.class);
+        EventListener uncorrelated = mock(EventListener.class);
+        signalManager.addEventListener(TYPE, subscription("A"), first);
+        signalManager.addEventListener(TYPE, subscription("B"), second);
+        signalManager.addEventListener(TYPE, uncorrelated);
+
+        signalManager.internalSignalEvent(TYPE, "A-1");
+
+        verify(first).signalEvent(TYPE, "A-1");
+        verify(second, never()).signalEvent(TYPE, "A-1");
+        verify(uncorrelated).signalEvent(TYPE, "A-1");
+    }
+
+    @Test
+    void testListenerRegisteredBothWaysIsSignalledOnce() {
+        EventListener listener = mock(EventListener.class);
+        signalManager.addEventListener(TYPE, subscription("A"), listener);
+        signalManager.addEventListener(TYPE, listener);
+
+        signalManager.internalSignalEvent(TYPE, "A-1");
+
+        verify(listener).signalEvent(TYPE, "A-1");
+    }
+
+    @Test
+    void testEventNotMatchingTheMessageTypeIsNotRouted() {
+        EventListener listener = mock(EventListener.class);
+        signalManager.addEventListener(TYPE, subscription("A"), listener);
+
+        signalManager.internalSignalEvent(TYPE, 1);
+
+        verify(listener, never()).signalEvent(TYPE, 1);
+    }
+
+    @Test
+    void testRemovedSubscriptionIsCleanedUp() {
+        EventListener listener = mock(EventListener.class);
+        signalManager.addEventListener(TYPE, subscription("A"), listener);
+        assertThat(signalManager.accept(TYPE, "A-1")).isTrue();
+
+        signalManager.removeEventListener(TYPE, subscription("A"), listener);
+        signalManager.internalSignalEvent(TYPE, "A-1");
+
+        verify(listener, never()).signalEvent(TYPE, "A-1");
+        assertThat(signalManager.accept(TYPE, "A-1")).isFalse();
+    }
+
+    private CorrelationSubscription subscription(String key) {
+        return new CorrelationSubscription(manager, "order", manager.computeSubscription("order", Map.<String, Object> of("key", key)::get));
+    }
+
+    private static class KeyEvaluator implements CorrelationExpressionEvaluator {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object eval(Object event) {
+            return ((String) event).substring(0, 1);
+        }
+
+        @Override
+        public Object eval(Function<String, Object> resolver) {
+            return ((String) resolver.apply("key")).substring(0, 1);
+        }
+    }
+}
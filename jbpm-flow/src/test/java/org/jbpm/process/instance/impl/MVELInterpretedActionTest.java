@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.impl;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MVELInterpretedActionTest {
+
+    private RuleFlowProcess process;
+    private KogitoProcessContext context;
+
+    @BeforeEach
+    public void setUp() {
+        process = new RuleFlowProcess();
+        process.setId("interpreted");
+        KogitoProcessInstance processInstance = mock(KogitoProcessInstance.class);
+        when(processInstance.getProcess()).thenReturn(process);
+        context = mock(KogitoProcessContext.class);
+        when(context.getProcessInstance()).thenReturn(processInstance);
+        when(context.getVariable("count")).thenReturn(2);
+    }
+
+    @Test
+    public void testScriptCanAssignLocalVariables() throws Exception {
+        new MVELInterpretedAction("total = count + 1; kcontext.setVariable(\"total\", total);").execute(context);
+
+        verify(context).setVariable("total", 3);
+    }
+
+    @Test
+    public void testScriptIsCompiledWithProcessImports() throws Exception {
+        process.setImports(Collections.singleton(TimeUnit.class.getName()));
+
+        new MVELInterpretedAction("kcontext.setVariable(\"unit\", TimeUnit.SECONDS);").execute(context);
+
+        verify(context).setVariable("unit", TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testConstraintIsCompiledWithProcessImports() throws Exception {
+        process.setImports(Collections.singleton("java.util.concurrent.*"));
+
+        assertThat(new MVELInterpretedReturnValueEvaluator("TimeUnit.SECONDS != null && count == 2").evaluate(context)).isEqualTo(true);
+    }
+}
@@ -242,6 +242,23 @@ public class DeadlineHelperTest {
         assertThat(reassignment.getScheduleInfo().iterator().next().getDuration()).isEqualTo(Duration.ofMinutes(1));
     }
 
+    @Test
+    public void testScheduleCompiledOnce() {
+        ScheduleInfo scheduleInfo = DeadlineHelper.parseDeadlines("[subject:1 hour]@[PT1H]").iterator().next().getScheduleInfo().iterator().next();
+        CompiledSchedule compiled = scheduleInfo.compile();
+        assertThat(scheduleInfo.compile()).isSameAs(compiled);
+
+        ZonedDateTime before = ZonedDateTime.now().plus(Duration.ofHours(1));
+        ExpirationTime first = DeadlineHelper.getExpirationTime(scheduleInfo);
+        ExpirationTime second = DeadlineHelper.getExpirationTime(scheduleInfo);
+        assertThat(first.get()).isAfterOrEqualTo(before);
+        assertThat(second.get()).isAfterOrEqualTo(first.get());
+
+        scheduleInfo.setDuration(Duration.ofHours(2));
+        assertThat(scheduleInfo.compile()).isNotSameAs(compiled);
+        assertThat(DeadlineHelper.getExpirationTime(scheduleInfo).get()).isAfter(before.plus(Duration.ofMinutes(59)));
+    }
+
     private void assertEqualsDate(ZonedDateTime expectedDate, ZonedDateTime calculatedDate) {
         assertThat(calculatedDate.toInstant().getEpochSecond()).isEqualTo(expectedDate.toInstant().getEpochSecond());
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.impl.humantask;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.auth.IdentityProvider;
+import org.kie.kogito.auth.SecurityPolicy;
+import org.kie.kogito.process.workitems.impl.KogitoWorkItemImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HumanTaskAssignmentIndexTest {
+
+    private final HumanTaskAssignmentIndex index = new HumanTaskAssignmentIndex();
+
+    @Test
+    void testVisibilityMatchesEnforce() {
+        List<HumanTaskWorkItemImpl> tasks = List.of(
+                task("open", null, Set.of(), Set.of(), Set.of(), Set.of()),
+                task("users", null, Set.of("john", "mary"), Set.of(), Set.of(), Set.of()),
+                task("groups", null, Set.of(), Set.of("managers"), Set.of("mary"), Set.of()),
+                task("owned", "john", Set.of("john", "mary"), Set.of("managers"), Set.of(), Set.of("admin")),
+                task("excludedOwner", "mary", Set.of(), Set.of("managers"), Set.of("mary"), Set.of()),
+                task("adminOnly", "john", Set.of(), Set.of(), Set.of(), Set.of("admin")));
+        tasks.forEach(index::index);
+
+        List<IdentityProvider> identities = List.of(
+                identity("john", List.of()),
+                identity("mary", List.of("managers")),
+                identity("paul", List.of("managers", "employees")),
+                identity("admin", List.of()),
+                identity("admin", List.of("managers")),
+                identity("nobody", List.of("employees")));
+        for (IdentityProvider identity : identities) {
+            HumanTaskAssignmentIndex.Visibility visibility = index.visibility(identity.getName(), identity.getRoles());
+            for (HumanTaskWorkItemImpl task : tasks) {
+                assertThat(visibility.isVisible(task.getStringId()))
+                        .as("task %s for %s %s", task.getStringId(), identity.getName(), identity.getRoles())
+                        .isEqualTo(task.enforce(SecurityPolicy.of(identity)));
+            }
+        }
+    }
+
+    @Test
+    void testReindexedTaskFollowsItsAssignment() {
+        HumanTaskWorkItemImpl task = task("1", null, Set.of("john"), Set.of(), Set.of(), Set.of());
+        index.index(task);
+        assertThat(index.visibility("mary", List.of()).isVisible("1")).isFalse();
+
+        task.setPotentialUsers(Set.of("mary"));
+        index.index(task);
+        assertThat(index.visibility("mary", List.of()).isVisible("1")).isTrue();
+        assertThat(index.visibility("john", List.of()).isVisible("1")).isFalse();
+
+        task.setActualOwner("mary");
+        index.index(task);
+        assertThat(index.visibility("mary", List.of()).isVisible("1")).isTrue();
+        assertThat(index.size()).isOne();
+    }
+
+    @Test
+    void testRemovedTaskIsNotIndexedAndItsSlotIsReused() {
+        index.index(task("1", null, Set.of("john"), Set.of(), Set.of(), Set.of()));
+        index.remove("1");
+        index.index(task("2", null, Set.of("mary"), Set.of(), Set.of(), Set.of()));
+
+        HumanTaskAssignmentIndex.Visibility visibility = index.visibility("john", List.of());
+        assertThat(visibility.isVisible("1")).isNull();
+        assertThat(visibility.isVisible("2")).isFalse();
+        assertThat(index.size()).isOne();
+    }
+
+    @Test
+    void testOtherWorkItemsAreNotIndexed() {
+        KogitoWorkItemImpl workItem = new KogitoWorkItemImpl();
+        workItem.setId("1");
+        index.index(workItem);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.visibility("john", List.of()).isVisible("1")).isNull();
+    }
+
+    private static HumanTaskWorkItemImpl task(String id, String owner, Set<String> users, Set<String> groups, Set<String> excluded, Set<String> admins) {
+        HumanTaskWorkItemImpl task = new HumanTaskWorkItemImpl();
+        task.setId(id);
+        task.setActualOwner(owner);
+        task.setPotentialUsers(users);
+        task.setPotentialGroups(groups);
+        task.setExcludedUsers(excluded);
+        task.setAdminUsers(admins);
+        return task;
+    }
+
+    private static IdentityProvider identity(String name, List<String> roles) {
+        IdentityProvider identity = mock(IdentityProvider.class);
+        when(identity.getName()).thenReturn(name);
+        when(identity.getRoles()).thenReturn(roles);
+        return identity;
+    }
+}
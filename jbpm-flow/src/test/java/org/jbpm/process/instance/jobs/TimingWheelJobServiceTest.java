@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.jobs;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.DurationExpirationTime;
+import org.kie.kogito.jobs.ExpirationTime;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstances;
+import org.kie.kogito.process.Processes;
+import org.kie.kogito.process.Signal;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.timer.TimerInstance;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jbpm.workflow.instance.node.TimerNodeInstance.TIMER_TRIGGERED_EVENT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TimingWheelJobServiceTest {
+
+    private static final String PROCESS_ID = "test";
+    private static final String INSTANCE_ID = "instance";
+
+    private Processes processes;
+    private ProcessInstances<?> instances;
+    private ProcessInstance<?> processInstance;
+    private TimingWheelJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        processes = mock(Processes.class);
+        Process<?> process = mock(Process.class);
+        instances = mock(ProcessInstances.class);
+        processInstance = mock(ProcessInstance.class);
+        doReturn(process).when(processes).processById(PROCESS_ID);
+        doReturn(instances).when(process).instances();
+        doReturn(Optional.of(processInstance)).when(instances).findById(INSTANCE_ID);
+        jobService = new TimingWheelJobService(processes, new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), 10, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.close();
+    }
+
+    @Test
+    void testOneShotJobSignalsInstanceOnce() throws InterruptedException {
+        String jobId = jobService.scheduleProcessInstanceJob(job(INSTANCE_ID, DurationExpirationTime.after(50)));
+
+        List<TimerInstance> timers = deliveredTimers(1);
+        assertThat(timers).extracting(TimerInstance::getId).containsExactly(jobId);
+        assertThat(timers).extracting(TimerInstance::getRepeatLimit).containsExactly(0);
+        awaitNoPendingJobs();
+        verify(processInstance, after(200).times(1)).send(any());
+    }
+
+    @Test
+    void testRepeatingJobFiresUntilItsLimit() throws InterruptedException {
+        String jobId = jobService.scheduleProcessInstanceJob(job(INSTANCE_ID, DurationExpirationTime.repeat(20, 20L, 3)));
+
+        List<TimerInstance> timers = deliveredTimers(3);
+        assertThat(timers).extracting(TimerInstance::getId).containsOnly(jobId);
+        assertThat(timers).extracting(TimerInstance::getRepeatLimit).containsExactly(2, 1, 0);
+        awaitNoPendingJobs();
+        verify(processInstance, after(200).times(3)).send(any());
+    }
+
+    @Test
+    void testJobCancelledBeforeExpirationNeverFires() {
+        String jobId = jobService.scheduleProcessInstanceJob(job(INSTANCE_ID, DurationExpirationTime.after(100)));
+
+        assertThat(jobService.cancelJob(jobId)).isTrue();
+        assertThat(jobService.getScheduledTime(jobId)).isNull();
+        verify(processInstance, after(300).never()).send(any());
+        assertThat(jobService.cancelJob(jobId)).isFalse();
+    }
+
+    @Test
+    void testJobCancelledWhileWaitingForItsWorkerIsNotDelivered() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            blocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(processInstance).send(any());
+
+        String blocking = jobService.scheduleProcessInstanceJob(job(INSTANCE_ID, DurationExpirationTime.after(10)));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        // expires and is dispatched to the busy worker of the same process instance
+        String waiting = jobService.scheduleProcessInstanceJob(job(INSTANCE_ID, DurationExpirationTime.after(10)));
+        Thread.sleep(200);
+
+        assertThat(jobService.cancelJob(waiting)).isTrue();
+        release.countDown();
+
+        ArgumentCaptor<Signal<?>> signal = signalCaptor();
+        verify(processInstance, after(300).times(1)).send(signal.capture());
+        assertThat(((TimerInstance) signal.getValue().payload()).getId()).isEqualTo(blocking);
+        awaitNoPendingJobs();
+    }
+
+    @Test
+    void testJobOfMissingProcessInstanceIsDropped() throws InterruptedException {
+        jobService.scheduleProcessInstanceJob(job("gone", DurationExpirationTime.repeat(20, 20L)));
+
+        verify(instances, timeout(2000)).findById("gone");
+        awaitNoPendingJobs();
+        verify(instances, after(200).times(1)).findById("gone");
+        verify(processInstance, never()).send(any());
+    }
+
+    @Test
+    void testJobOfMissingProcessIsDropped() throws InterruptedException {
+        jobService.scheduleProcessInstanceJob(ProcessInstanceJobDescription.builder()
+                .expirationTime(DurationExpirationTime.repeat(20, 20L))
+                .processInstanceId(INSTANCE_ID)
+                .processId("undeployed")
+                .timerId("timer")
+                .build());
+
+        verify(processes, timeout(2000)).processById("undeployed");
+        awaitNoPendingJobs();
+        verify(processes, after(200).times(1)).processById("undeployed");
+    }
+
+    private static ProcessInstanceJobDescription job(String processInstanceId, ExpirationTime expirationTime) {
+        return ProcessInstanceJobDescription.builder()
+                .expirationTime(expirationTime)
+                .processInstanceId(processInstanceId)
+                .processId(PROCESS_ID)
+                .timerId("timer")
+                .build();
+    }
+
+    private List<TimerInstance> deliveredTimers(int count) {
+        ArgumentCaptor<Signal<?>> signal = signalCaptor();
+        verify(processInstance, timeout(2000).times(count)).send(signal.capture());
+        assertThat(signal.getAllValues()).extracting(Signal::channel).containsOnly(TIMER_TRIGGERED_EVENT);
+        return signal.getAllValues().stream().map(s -> (TimerInstance) s.payload()).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ArgumentCaptor<Signal<?>> signalCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(Signal.class);
+    }
+
+    private void awaitNoPendingJobs() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (jobService.pendingJobs() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(jobService.pendingJobs()).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.jobs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+
+    @Test
+    void testTimeoutsExpireAtTheirDeadlineAcrossLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(2, 0);
+        long[] deadlines = { 1, 3, 4, 5, 15, 16, 17, 63, 64, 100, 1000, 4096 };
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+        assertThat(wheel.size()).isEqualTo(deadlines.length);
+
+        List<Long> expired = new ArrayList<>();
+        for (long tick = 1; tick <= 5000; tick++) {
+            long current = tick;
+            wheel.advance(tick, timeout -> {
+                assertThat(timeout.deadline()).isEqualTo(current);
+                expired.add(timeout.payload());
+            });
+        }
+        assertThat(expired).containsExactly(1L, 3L, 4L, 5L, 15L, 16L, 17L, 63L, 64L, 100L, 1000L, 4096L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testScheduleRelativeToCurrentTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(3, 0);
+        wheel.advance(1234, timeout -> {
+        });
+        wheel.schedule(1300, "later");
+        wheel.schedule(1000, "overdue");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1234, timeout -> expired.add(timeout.payload()));
+        assertThat(expired).containsExactly("overdue");
+
+        wheel.advance(1299, timeout -> expired.add(timeout.payload()));
+        assertThat(expired).containsExactly("overdue");
+        wheel.advance(1300, timeout -> expired.add(timeout.payload()));
+        assertThat(expired).containsExactly("overdue", "later");
+    }
+
+    @Test
+    void testCancelledTimeoutsNeverExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(4, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(300, "cancelled");
+        wheel.schedule(300, "kept");
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1000, timeout -> expired.add(timeout.payload()));
+        assertThat(expired).containsExactly("kept");
+    }
+}
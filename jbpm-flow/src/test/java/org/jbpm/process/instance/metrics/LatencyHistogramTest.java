@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void testBuckets() {
+        assertThat(LatencyHistogram.bucketOf(0)).isZero();
+        assertThat(LatencyHistogram.bucketOf(1)).isEqualTo(1);
+        assertThat(LatencyHistogram.bucketOf(3)).isEqualTo(2);
+        assertThat(LatencyHistogram.bucketOf(1024)).isEqualTo(11);
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        assertThat(LatencyHistogram.bucketUpperBoundNanos(11)).isEqualTo(2048);
+    }
+
+    @Test
+    void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.record(1500);
+        histogram.record(-5);
+
+        long[] buckets = new long[LatencyHistogram.BUCKETS];
+        histogram.copyBuckets(buckets);
+        assertThat(histogram.getCount()).isEqualTo(3);
+        assertThat(histogram.getTotalNanos()).isEqualTo(2500);
+        assertThat(buckets[0]).isEqualTo(1);
+        assertThat(buckets[10]).isEqualTo(1);
+        assertThat(buckets[11]).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance.metrics;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.definition.process.Node;
+import org.kie.api.runtime.process.NodeInstance;
+import org.kie.api.runtime.process.ProcessInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jbpm.ruleflow.core.Metadata.UNIQUE_ID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NodeMetricsRegistryTest {
+
+    private static final long FIRST_NODE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SECOND_NODE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ProcessInstance processInstance = mock(ProcessInstance.class);
+
+    @AfterEach
+    void reset() {
+        NodeMetricsRegistry.reset();
+    }
+
+    @Test
+    void testTwoNodeChainTiming() throws InterruptedException {
+        when(processInstance.getProcessId()).thenReturn("chain");
+        NodeInstance first = nodeInstance("first");
+        NodeInstance second = nodeInstance("second");
+
+        // same sequence as the engine: the first node completes while triggered and triggers the second one
+        long started = NodeMetricsRegistry.nodeTriggering(first);
+        TimeUnit.NANOSECONDS.sleep(FIRST_NODE_NANOS);
+        NodeMetricsRegistry.nodeCompleted(first, System.nanoTime() - started);
+        assertThat(NodeMetricsRegistry.getProcessMetrics("chain")).isNull();
+
+        NodeMetricsRegistry.nodeTriggering(second);
+        TimeUnit.NANOSECONDS.sleep(SECOND_NODE_NANOS);
+        NodeMetricsRegistry.nodeTriggered(second);
+        assertThat(NodeMetricsRegistry.getProcessMetrics("chain").getNode("first")).isNull();
+
+        NodeMetricsRegistry.nodeTriggered(first);
+        NodeMetrics firstMetrics = NodeMetricsRegistry.getProcessMetrics("chain").getNode("first");
+        assertThat(firstMetrics.getTriggered()).isEqualTo(1);
+        assertThat(firstMetrics.getCompleted()).isEqualTo(1);
+        assertThat(firstMetrics.getExecutionTime().getTotalNanos()).isBetween(FIRST_NODE_NANOS, SECOND_NODE_NANOS - 1);
+        assertThat(firstMetrics.getActiveTime().getTotalNanos()).isBetween(FIRST_NODE_NANOS, SECOND_NODE_NANOS - 1);
+
+        NodeMetrics secondMetrics = NodeMetricsRegistry.getProcessMetrics("chain").getNode("second");
+        assertThat(secondMetrics.getTriggered()).isEqualTo(1);
+        assertThat(secondMetrics.getCompleted()).isZero();
+        assertThat(secondMetrics.getExecutionTime().getTotalNanos()).isGreaterThanOrEqualTo(SECOND_NODE_NANOS);
+    }
+
+    @Test
+    void testCompletionOutsideTriggerIsRecordedImmediately() {
+        when(processInstance.getProcessId()).thenReturn("wait");
+        NodeInstance waiting = nodeInstance("waiting");
+
+        NodeMetricsRegistry.nodeTriggering(waiting);
+        NodeMetricsRegistry.nodeTriggered(waiting);
+        NodeMetricsRegistry.nodeCompleted(waiting, 42);
+
+        NodeMetrics metrics = NodeMetricsRegistry.getProcessMetrics("wait").getNode("waiting");
+        assertThat(metrics.getTriggered()).isEqualTo(1);
+        assertThat(metrics.getCompleted()).isEqualTo(1);
+        assertThat(metrics.getActiveTime().getTotalNanos()).isEqualTo(42);
+    }
+
+    @Test
+    void testFailedTriggerIsDiscarded() {
+        when(processInstance.getProcessId()).thenReturn("failing");
+        NodeInstance outer = nodeInstance("outer");
+        NodeInstance inner = nodeInstance("inner");
+
+        NodeMetricsRegistry.nodeTriggering(outer);
+        NodeMetricsRegistry.nodeTriggering(inner);
+        // the inner frame is left open, closing the outer one unwinds it
+        NodeMetricsRegistry.nodeFailed(outer);
+        NodeMetricsRegistry.nodeTriggered(inner);
+
+        ProcessMetrics metrics = NodeMetricsRegistry.getProcessMetrics("failing");
+        assertThat(metrics.getNode("outer").getFailed()).isEqualTo(1);
+        assertThat(metrics.getNode("outer").getTriggered()).isZero();
+        assertThat(metrics.getNode("inner")).isNull();
+    }
+
+    private NodeInstance nodeInstance(String uniqueId) {
+        Node node = mock(Node.class);
+        when(node.getMetaData()).thenReturn(Collections.<String, Object> singletonMap(UNIQUE_ID, uniqueId));
+        NodeInstance nodeInstance = mock(NodeInstance.class);
+        when(nodeInstance.getNode()).thenReturn(node);
+        when(nodeInstance.getProcessInstance()).thenReturn(processInstance);
+        return nodeInstance;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.core.impl;
+
+import org.jbpm.process.core.EngineConfiguration;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.EndNode;
+import org.jbpm.workflow.core.node.MilestoneNode;
+import org.jbpm.workflow.core.node.StartNode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WorkflowProcessImplTest {
+
+    @Test
+    public void testNodesByTypeIncludeNestedNodes() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        StartNode start = node(new StartNode(), 1);
+        EndNode end = node(new EndNode(), 2);
+        new ConnectionImpl(start, Node.CONNECTION_DEFAULT_TYPE, end, Node.CONNECTION_DEFAULT_TYPE);
+        CompositeNode composite = node(new CompositeNode(), 3);
+        MilestoneNode nested = node(new MilestoneNode(), 4);
+        composite.addNode(nested);
+        process.addNode(start);
+        process.addNode(end);
+        process.addNode(composite);
+
+        assertThat(process.getNodesByType(MilestoneNode.class)).containsExactly(nested);
+        assertThat(process.getNodesByType(StartNode.class)).containsExactly(start);
+        assertThat(process.getAdHocFragmentNodes()).containsExactly(composite);
+
+        MilestoneNode milestone = node(new MilestoneNode(), 5);
+        process.addNode(milestone);
+        assertThat(process.getNodesByType(MilestoneNode.class)).containsExactlyInAnyOrder(nested, milestone);
+        assertThat(process.getAdHocFragmentNodes()).containsExactlyInAnyOrder(composite, milestone);
+
+        process.removeNode(milestone);
+        assertThat(process.getNodesByType(MilestoneNode.class)).containsExactly(nested);
+    }
+
+    @Test
+    public void testEngineConfigurationSnapshot() {
+        RuleFlowProcess process;
+        System.setProperty(EngineConfiguration.MULTIPLE_CONNECTIONS_PROPERTY, "true");
+        try {
+            process = new RuleFlowProcess();
+        } finally {
+            System.clearProperty(EngineConfiguration.MULTIPLE_CONNECTIONS_PROPERTY);
+        }
+        CompositeNode composite = node(new CompositeNode(), 1);
+        MilestoneNode nested = node(new MilestoneNode(), 2);
+        composite.addNode(nested);
+        process.addNode(composite);
+
+        assertThat(process.getEngineConfiguration().isMultipleConnections()).isTrue();
+        assertThat(nested.getEngineConfiguration()).isSameAs(process.getEngineConfiguration());
+
+        process.setEngineConfiguration(process.getEngineConfiguration().withMultipleConnections(false).withLoopLevelDisabled(true));
+        assertThat(nested.getEngineConfiguration().isMultipleConnections()).isFalse();
+        assertThat(nested.getEngineConfiguration().isLoopLevelDisabled()).isTrue();
+        assertThat(nested.getEngineConfiguration().getUserSeparator()).isEqualTo(EngineConfiguration.DEFAULT_USER_SEPARATOR);
+    }
+
+    private static <N extends NodeImpl> N node(N node, long id) {
+        node.setId(id);
+        node.setName("node" + id);
+        return node;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.instance.impl;
+
+import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WorkflowProcessInstanceImplTest {
+
+    @Test
+    void testIsNodeCompletedTracksIdsAddedBeforeAndAfterFirstLookup() {
+        WorkflowProcessInstanceImpl processInstance = new RuleFlowProcessInstance();
+        processInstance.addCompletedNodeId("_1");
+
+        assertThat(processInstance.isNodeCompleted("_1")).isTrue();
+        assertThat(processInstance.isNodeCompleted("_2")).isFalse();
+        assertThat(processInstance.isNodeCompleted(null)).isFalse();
+
+        processInstance.addCompletedNodeId("_2");
+        assertThat(processInstance.isNodeCompleted("_2")).isTrue();
+        assertThat(processInstance.getCompletedNodeIds()).containsExactly("_1", "_2");
+    }
+}
@@ -18,6 +18,8 @@ package org.jbpm.workflow.instance.node;
 import org.jbpm.test.util.AbstractBaseTest;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.instance.impl.CodegenNodeInstanceFactoryRegistry;
+import org.jbpm.workflow.instance.impl.NodeInstanceFactory;
 import org.jbpm.workflow.instance.impl.NodeInstanceFactoryRegistry;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
@@ -41,4 +43,27 @@ public class ProcessNodeInstanceFactoryTest extends AbstractBaseTest {
         NodeInstanceFactoryRegistry.getInstance(null).register(MockNode.class, new MockNodeInstanceFactory(new MockNodeInstance(new MockNode())));
         assertThat(NodeInstanceFactoryRegistry.getInstance(null).getProcessNodeInstanceFactory(new MockNode()).getClass()).isEqualTo(MockNodeInstanceFactory.class);
     }
+
+    @Test
+    public void testResolvedFactoryIsReused() {
+        NodeInstanceFactoryRegistry registry = new CodegenNodeInstanceFactoryRegistry();
+        NodeInstanceFactory factory = registry.getProcessNodeInstanceFactory(new ActionNode());
+        assertThat(registry.getProcessNodeInstanceFactory(new ActionNode())).isSameAs(factory);
+    }
+
+    @Test
+    public void testRegistrationOverridesResolvedFactory() {
+        NodeInstanceFactoryRegistry registry = new CodegenNodeInstanceFactoryRegistry();
+        NodeInstanceFactory inherited = registry.getProcessNodeInstanceFactory(new CustomActionNode());
+        assertThat(inherited).isSameAs(registry.getProcessNodeInstanceFactory(new ActionNode()));
+
+        NodeInstanceFactory custom = new MockNodeInstanceFactory(new MockNodeInstance(new MockNode()));
+        registry.register(CustomActionNode.class, custom);
+        assertThat(registry.getProcessNodeInstanceFactory(new CustomActionNode())).isSameAs(custom);
+    }
+
+    private static class CustomActionNode extends ActionNode {
+
+        private static final long serialVersionUID = 1L;
+    }
 }
@@ -17,13 +17,19 @@ package org.kie.kogito.process.impl;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.process.ProcessConfig;
 import org.kie.kogito.process.WorkItemHandlerConfig;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
+import org.kie.kogito.process.workitems.impl.FixedDelayRetryPolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 public class AbstractProcessConfigTest {
@@ -63,4 +69,84 @@ public class AbstractProcessConfigTest {
         assertThat(config.workItemHandlers().forName(name3)).isSameAs(workItem3);
     }
 
+    @Test
+    void testMultipleWorkItemHandlerConfigResolvesFromMergedHandlers() {
+        AtomicInteger misses = new AtomicInteger();
+        CachedWorkItemHandlerConfig workItemConfig1 = new CachedWorkItemHandlerConfig() {
+            @Override
+            public KogitoWorkItemHandler forName(String name) {
+                if (!names().contains(name)) {
+                    misses.incrementAndGet();
+                }
+                return super.forName(name);
+            }
+        };
+        CachedWorkItemHandlerConfig workItemConfig2 = new CachedWorkItemHandlerConfig();
+        final KogitoWorkItemHandler workItem1 = mock(KogitoWorkItemHandler.class);
+        final KogitoWorkItemHandler workItem2 = mock(KogitoWorkItemHandler.class);
+        final KogitoWorkItemHandler workItem3 = mock(KogitoWorkItemHandler.class);
+        workItemConfig1.register("first", workItem1);
+        workItemConfig2.register("second", workItem2);
+        ProcessConfig config = new MockProcessConfig(List.of(workItemConfig1, workItemConfig2));
+        workItemConfig2.register("third", workItem3);
+
+        assertThat(config.workItemHandlers().forName("second")).isSameAs(workItem2);
+        assertThat(config.workItemHandlers().forName("third")).isSameAs(workItem3);
+        assertThat(config.workItemHandlers().forName("third")).isSameAs(workItem3);
+        assertThat(misses).hasValue(0);
+    }
+
+    @Test
+    void testMultipleWorkItemHandlerConfigResolvesReplacedHandlers() {
+        CachedWorkItemHandlerConfig workItemConfig1 = new CachedWorkItemHandlerConfig();
+        CachedWorkItemHandlerConfig workItemConfig2 = new CachedWorkItemHandlerConfig();
+        final KogitoWorkItemHandler workItem1 = mock(KogitoWorkItemHandler.class);
+        final KogitoWorkItemHandler workItem2 = mock(KogitoWorkItemHandler.class);
+        final KogitoWorkItemHandler replacement = mock(KogitoWorkItemHandler.class);
+        workItemConfig1.register("first", workItem1);
+        workItemConfig2.register("second", workItem2);
+        ProcessConfig config = new MockProcessConfig(List.of(workItemConfig1, workItemConfig2));
+        assertThat(config.workItemHandlers().forName("first")).isSameAs(workItem1);
+
+        workItemConfig1.register("first", replacement);
+        workItemConfig1.register("second", replacement);
+
+        assertThat(config.workItemHandlers().forName("first")).isSameAs(replacement);
+        assertThat(config.workItemHandlers().forName("second")).isSameAs(replacement);
+    }
+
+    @Test
+    void testMultipleWorkItemHandlerConfigRejectsUnknownNamesOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        CachedWorkItemHandlerConfig workItemConfig1 = new CachedWorkItemHandlerConfig() {
+            @Override
+            public KogitoWorkItemHandler forName(String name) {
+                lookups.incrementAndGet();
+                return super.forName(name);
+            }
+        };
+        CachedWorkItemHandlerConfig workItemConfig2 = new CachedWorkItemHandlerConfig();
+        final KogitoWorkItemHandler workItem = mock(KogitoWorkItemHandler.class);
+        ProcessConfig config = new MockProcessConfig(List.of(workItemConfig1, workItemConfig2));
+
+        assertThatThrownBy(() -> config.workItemHandlers().forName("unknown")).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> config.workItemHandlers().forName("unknown")).isInstanceOf(NoSuchElementException.class);
+        assertThat(lookups).hasValue(1);
+
+        workItemConfig2.register("unknown", workItem);
+        assertThat(config.workItemHandlers().forName("unknown")).isSameAs(workItem);
+    }
+
+    @Test
+    void testRetryPoliciesAreHandedToWorkItemManager() {
+        WorkItemRetryPolicy defaultPolicy = new FixedDelayRetryPolicy(100, 3);
+        WorkItemRetryPolicy restPolicy = new FixedDelayRetryPolicy(1000, 5);
+        MockProcessConfig config = new MockProcessConfig(Collections.emptyList());
+        config.registerRetryPolicy(null, defaultPolicy);
+        config.registerRetryPolicy("Rest", restPolicy);
+
+        InternalKogitoWorkItemManager workItemManager = (InternalKogitoWorkItemManager) new ConfiguredProcessServices(config).getKogitoWorkItemManager();
+        assertThat(workItemManager.getRetryPolicy("Rest")).isSameAs(restPolicy);
+        assertThat(workItemManager.getRetryPolicy("Email")).isSameAs(defaultPolicy);
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.Application;
+import org.kie.kogito.Config;
+import org.kie.kogito.Model;
+import org.kie.kogito.config.ConfigBean;
+import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProcessServiceImplTest {
+
+    private UnitOfWork unitOfWork;
+    private ProcessServiceImpl processService;
+    private Process<Model> process;
+    private List<Model> models;
+    private List<ProcessInstance<Model>> processInstances;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        unitOfWork = mock(UnitOfWork.class);
+        UnitOfWorkManager unitOfWorkManager = mock(UnitOfWorkManager.class);
+        when(unitOfWorkManager.newUnitOfWork()).thenReturn(unitOfWork);
+        ConfigBean configBean = mock(ConfigBean.class);
+        when(configBean.processInstanceLimit()).thenReturn((short) 100);
+        Config config = mock(Config.class);
+        when(config.get(ConfigBean.class)).thenReturn(configBean);
+        Application application = mock(Application.class);
+        when(application.config()).thenReturn(config);
+        when(application.unitOfWorkManager()).thenReturn(unitOfWorkManager);
+        processService = new ProcessServiceImpl(application);
+
+        process = mock(Process.class);
+        models = List.of(mock(Model.class), mock(Model.class), mock(Model.class));
+        processInstances = new ArrayList<>();
+        for (Model model : models) {
+            ProcessInstance<Model> processInstance = mock(ProcessInstance.class);
+            when(process.createInstance(model)).thenReturn(processInstance);
+            processInstances.add(processInstance);
+        }
+        doThrow(new IllegalStateException("failed to start")).when(processInstances.get(1)).start();
+    }
+
+    @Test
+    void testFailingItemDoesNotAffectOtherItemsByDefault() {
+        List<BatchResult<ProcessInstance<Model>>> results = processService.createProcessInstances(process, models, BatchOptions.defaults());
+
+        assertThat(results).extracting(BatchResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BatchResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(0).value()).isSameAs(processInstances.get(0));
+        assertThat(results.get(1).error()).hasMessage("failed to start");
+        // every item is started exactly once, in its own unit of work
+        for (ProcessInstance<Model> processInstance : processInstances) {
+            verify(processInstance, times(1)).start();
+        }
+        verify(unitOfWork, times(1)).abort();
+        verify(unitOfWork, times(2)).end();
+    }
+
+    @Test
+    void testFailingItemEndsItsChunk() {
+        List<BatchResult<ProcessInstance<Model>>> results = processService.createProcessInstances(process, models, BatchOptions.chunked(3));
+
+        assertThat(results).extracting(BatchResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BatchResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(0).value()).isSameAs(processInstances.get(0));
+        assertThat(results.get(1).error()).hasMessage("failed to start");
+        assertThat(results.get(2).value()).isSameAs(processInstances.get(2));
+        // the first item is committed with the failing one, the last item runs in the next chunk
+        for (ProcessInstance<Model> processInstance : processInstances) {
+            verify(processInstance, times(1)).start();
+        }
+        verify(unitOfWork, never()).abort();
+        verify(unitOfWork, times(2)).end();
+    }
+
+    @Test
+    void testFailedCommitFailsTheItemsOfItsChunk() {
+        doThrow(new IllegalStateException("commit failed")).doNothing().when(unitOfWork).end();
+
+        List<BatchResult<ProcessInstance<Model>>> results = processService.createProcessInstances(process, models, BatchOptions.chunked(3));
+
+        assertThat(results).extracting(BatchResult::isSuccess).containsExactly(false, false, true);
+        assertThat(results.get(0).error()).isNotNull();
+        assertThat(results.get(1).error()).hasMessage("failed to start");
+        assertThat(results.get(2).value()).isSameAs(processInstances.get(2));
+        for (ProcessInstance<Model> processInstance : processInstances) {
+            verify(processInstance, times(1)).start();
+        }
+    }
+}
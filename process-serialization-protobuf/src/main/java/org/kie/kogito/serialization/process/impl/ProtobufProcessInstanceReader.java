@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -85,6 +86,8 @@ import org.kie.kogito.serialization.process.protobuf.KogitoWorkItemsProtobuf.Hum
 
 import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
 import com.google.protobuf.util.JsonFormat;
 
 import static org.kie.kogito.serialization.process.protobuf.ProtobufTypeRegistryFactory.protobufTypeRegistryFactoryInstance;
@@ -421,42 +424,58 @@ public class ProtobufProcessInstanceReader {
 
     private NodeInstanceImpl buildWorkItemNodeInstance(WorkItemNodeInstanceContent content) {
         try {
-            WorkItemNodeInstance nodeInstance = instanceWorkItem(content);
-            if (nodeInstance instanceof HumanTaskNodeInstance) {
-                HumanTaskNodeInstance humanTaskNodeInstance = (HumanTaskNodeInstance) nodeInstance;
-                HumanTaskWorkItemImpl workItem = (HumanTaskWorkItemImpl) nodeInstance.getWorkItem();
+            Map<String, Value> retryData = Collections.emptyMap();
+            HumanTaskWorkItemData workItemData = null;
+            if (content.hasWorkItemData()) {
                 Any workItemDataMessage = content.getWorkItemData();
                 if (workItemDataMessage.is(HumanTaskWorkItemData.class)) {
-                    HumanTaskWorkItemData workItemData = workItemDataMessage.unpack(HumanTaskWorkItemData.class);
-                    humanTaskNodeInstance.getNotCompletedDeadlineTimers().putAll(buildDeadlines(workItemData.getCompletedDeadlinesMap()));
-                    humanTaskNodeInstance.getNotCompletedReassigments().putAll(buildReassignments(workItemData.getCompletedReassigmentsMap()));
-                    humanTaskNodeInstance.getNotStartedDeadlineTimers().putAll(buildDeadlines(workItemData.getStartDeadlinesMap()));
-                    humanTaskNodeInstance.getNotStartedReassignments().putAll(buildReassignments(workItemData.getStartReassigmentsMap()));
-
-                    if (workItemData.hasTaskName()) {
-                        workItem.setTaskName(workItemData.getTaskName());
-                    }
-                    if (workItemData.hasTaskDescription()) {
-                        workItem.setTaskDescription(workItemData.getTaskDescription());
-                    }
-                    if (workItemData.hasTaskPriority()) {
-                        workItem.setTaskPriority(workItemData.getTaskPriority());
-                    }
-                    if (workItemData.hasTaskReferenceName()) {
-                        workItem.setReferenceName(workItemData.getTaskReferenceName());
+                    workItemData = workItemDataMessage.unpack(HumanTaskWorkItemData.class);
+                } else if (workItemDataMessage.is(Struct.class)) {
+                    retryData = workItemDataMessage.unpack(Struct.class).getFieldsMap();
+                    if (retryData.containsKey(ProtobufProcessInstanceWriter.HUMAN_TASK_FIELD)) {
+                        workItemData = buildHumanTaskWorkItemData(retryData.get(ProtobufProcessInstanceWriter.HUMAN_TASK_FIELD).getStructValue());
                     }
-                    if (workItemData.hasActualOwner()) {
-                        workItem.setActualOwner(workItemData.getActualOwner());
-                    }
-                    workItem.getAdminUsers().addAll(workItemData.getAdminUsersList());
-                    workItem.getAdminGroups().addAll(workItemData.getAdminGroupsList());
-                    workItem.getPotentialUsers().addAll(workItemData.getPotUsersList());
-                    workItem.getPotentialGroups().addAll(workItemData.getPotGroupsList());
-                    workItem.getExcludedUsers().addAll(workItemData.getExcludedUsersList());
-                    workItem.getComments().putAll(workItemData.getCommentsList().stream().map(this::buildComment).collect(Collectors.toMap(Comment::getId, Function.identity())));
-                    workItem.getAttachments().putAll(workItemData.getAttachmentsList().stream().map(this::buildAttachment).collect(Collectors.toMap(Attachment::getId, Function.identity())));
+                } else {
+                    throw new ProcessInstanceMarshallerException("Don't know which type of work item is");
+                }
+            }
+            WorkItemNodeInstance nodeInstance = instanceWorkItem(workItemData != null);
+            if (retryData.containsKey(ProtobufProcessInstanceWriter.RETRY_ATTEMPT_FIELD)) {
+                nodeInstance.internalSetRetryAttempt((int) retryData.get(ProtobufProcessInstanceWriter.RETRY_ATTEMPT_FIELD).getNumberValue());
+            }
+            if (retryData.containsKey(ProtobufProcessInstanceWriter.RETRY_JOB_ID_FIELD)) {
+                nodeInstance.internalSetRetryJobId(retryData.get(ProtobufProcessInstanceWriter.RETRY_JOB_ID_FIELD).getStringValue());
+            }
+            if (nodeInstance instanceof HumanTaskNodeInstance) {
+                HumanTaskNodeInstance humanTaskNodeInstance = (HumanTaskNodeInstance) nodeInstance;
+                HumanTaskWorkItemImpl workItem = (HumanTaskWorkItemImpl) nodeInstance.getWorkItem();
+                humanTaskNodeInstance.getNotCompletedDeadlineTimers().putAll(buildDeadlines(workItemData.getCompletedDeadlinesMap()));
+                humanTaskNodeInstance.getNotCompletedReassigments().putAll(buildReassignments(workItemData.getCompletedReassigmentsMap()));
+                humanTaskNodeInstance.getNotStartedDeadlineTimers().putAll(buildDeadlines(workItemData.getStartDeadlinesMap()));
+                humanTaskNodeInstance.getNotStartedReassignments().putAll(buildReassignments(workItemData.getStartReassigmentsMap()));
 
+                if (workItemData.hasTaskName()) {
+                    workItem.setTaskName(workItemData.getTaskName());
+                }
+                if (workItemData.hasTaskDescription()) {
+                    workItem.setTaskDescription(workItemData.getTaskDescription());
+                }
+                if (workItemData.hasTaskPriority()) {
+                    workItem.setTaskPriority(workItemData.getTaskPriority());
+                }
+                if (workItemData.hasTaskReferenceName()) {
+                    workItem.setReferenceName(workItemData.getTaskReferenceName());
+                }
+                if (workItemData.hasActualOwner()) {
+                    workItem.setActualOwner(workItemData.getActualOwner());
                 }
+                workItem.getAdminUsers().addAll(workItemData.getAdminUsersList());
+                workItem.getAdminGroups().addAll(workItemData.getAdminGroupsList());
+                workItem.getPotentialUsers().addAll(workItemData.getPotUsersList());
+                workItem.getPotentialGroups().addAll(workItemData.getPotGroupsList());
+                workItem.getExcludedUsers().addAll(workItemData.getExcludedUsersList());
+                workItem.getComments().putAll(workItemData.getCommentsList().stream().map(this::buildComment).collect(Collectors.toMap(Comment::getId, Function.identity())));
+                workItem.getAttachments().putAll(workItemData.getAttachmentsList().stream().map(this::buildAttachment).collect(Collectors.toMap(Attachment::getId, Function.identity())));
 
             }
 
@@ -487,17 +506,12 @@ public class ProtobufProcessInstanceReader {
         }
     }
 
-    private WorkItemNodeInstance instanceWorkItem(WorkItemNodeInstanceContent content) {
-        if (content.hasWorkItemData()) {
-            Any workItemDataMessage = content.getWorkItemData();
-            if (workItemDataMessage.is(HumanTaskWorkItemData.class)) {
-                HumanTaskNodeInstance nodeInstance = new HumanTaskNodeInstance();
-                HumanTaskWorkItemImpl workItem = new HumanTaskWorkItemImpl();
-                nodeInstance.internalSetWorkItem(workItem);
-                return nodeInstance;
-            } else {
-                throw new ProcessInstanceMarshallerException("Don't know which type of work item is");
-            }
+    private WorkItemNodeInstance instanceWorkItem(boolean humanTask) {
+        if (humanTask) {
+            HumanTaskNodeInstance nodeInstance = new HumanTaskNodeInstance();
+            HumanTaskWorkItemImpl workItem = new HumanTaskWorkItemImpl();
+            nodeInstance.internalSetWorkItem(workItem);
+            return nodeInstance;
         } else {
             WorkItemNodeInstance nodeInstance = new WorkItemNodeInstance();
             KogitoWorkItemImpl workItem = new KogitoWorkItemImpl();
@@ -506,6 +520,12 @@ public class ProtobufProcessInstanceReader {
         }
     }
 
+    private static HumanTaskWorkItemData buildHumanTaskWorkItemData(Struct humanTaskData) throws InvalidProtocolBufferException {
+        HumanTaskWorkItemData.Builder builder = HumanTaskWorkItemData.newBuilder();
+        JsonFormat.parser().merge(JsonFormat.printer().print(humanTaskData), builder);
+        return builder.build();
+    }
+
     private void buildWorkflowContext(CompositeContextNodeInstance container, WorkflowContext workflowContext) {
         if (workflowContext.getNodeInstanceCount() > 0) {
             for (KogitoTypesProtobuf.NodeInstance nodeInstanceProtobuf : workflowContext.getNodeInstanceList()) {
@@ -81,6 +81,9 @@ import org.kie.kogito.serialization.process.protobuf.KogitoWorkItemsProtobuf;
 import org.kie.kogito.serialization.process.protobuf.KogitoWorkItemsProtobuf.HumanTaskWorkItemData;
 
 import com.google.protobuf.Any;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
 import com.google.protobuf.util.JsonFormat;
 
 import static org.kie.kogito.serialization.process.MarshallerContextName.MARSHALLER_FORMAT;
@@ -89,6 +92,10 @@ import static org.kie.kogito.serialization.process.protobuf.ProtobufTypeRegistry
 
 public class ProtobufProcessInstanceWriter {
 
+    static final String RETRY_ATTEMPT_FIELD = "retryAttempt";
+    static final String RETRY_JOB_ID_FIELD = "retryJobId";
+    static final String HUMAN_TASK_FIELD = "humanTask";
+
     private MarshallerWriterContext context;
     private ProtobufVariableWriter varWriter;
 
@@ -421,7 +428,25 @@ public class ProtobufProcessInstanceWriter {
     }
 
     private Any buildWorkItemNodeInstance(WorkItemNodeInstance nodeInstance) {
-        return Any.pack(buildWorkItemNodeInstanceBuilder(nodeInstance).build());
+        WorkItemNodeInstanceContent.Builder builder = buildWorkItemNodeInstanceBuilder(nodeInstance);
+        if (hasRetryState(nodeInstance)) {
+            builder.setWorkItemData(Any.pack(buildRetryWorkItemData(nodeInstance)));
+        }
+        return Any.pack(builder.build());
+    }
+
+    private static boolean hasRetryState(WorkItemNodeInstance nodeInstance) {
+        return nodeInstance.getRetryAttempt() > 0 || nodeInstance.getRetryJobId() != null;
+    }
+
+    // plain work items have no dedicated data message, their retry state travels as a struct
+    private Struct buildRetryWorkItemData(WorkItemNodeInstance nodeInstance) {
+        Struct.Builder builder = Struct.newBuilder()
+                .putFields(RETRY_ATTEMPT_FIELD, Value.newBuilder().setNumberValue(nodeInstance.getRetryAttempt()).build());
+        if (nodeInstance.getRetryJobId() != null) {
+            builder.putFields(RETRY_JOB_ID_FIELD, Value.newBuilder().setStringValue(nodeInstance.getRetryJobId()).build());
+        }
+        return builder.build();
     }
 
     private WorkItemNodeInstanceContent.Builder buildWorkItemNodeInstanceBuilder(WorkItemNodeInstance nodeInstance) {
@@ -453,10 +478,29 @@ public class ProtobufProcessInstanceWriter {
 
     private Any buildHumanTaskNodeInstance(HumanTaskNodeInstance nodeInstance) {
         WorkItemNodeInstanceContent.Builder builder = buildWorkItemNodeInstanceBuilder(nodeInstance);
-        builder.setWorkItemData(Any.pack(buildHumanTaskWorkItemData(nodeInstance, (HumanTaskWorkItem) nodeInstance.getWorkItem())));
+        HumanTaskWorkItemData workItemData = buildHumanTaskWorkItemData(nodeInstance, (HumanTaskWorkItem) nodeInstance.getWorkItem());
+        if (hasRetryState(nodeInstance)) {
+            // human task data has no room for the retry state, both travel in the retry struct
+            Struct retryData = buildRetryWorkItemData(nodeInstance).toBuilder()
+                    .putFields(HUMAN_TASK_FIELD, Value.newBuilder().setStructValue(toStruct(workItemData)).build())
+                    .build();
+            builder.setWorkItemData(Any.pack(retryData));
+        } else {
+            builder.setWorkItemData(Any.pack(workItemData));
+        }
         return Any.pack(builder.build());
     }
 
+    private static Struct toStruct(HumanTaskWorkItemData workItemData) {
+        try {
+            Struct.Builder builder = Struct.newBuilder();
+            JsonFormat.parser().merge(JsonFormat.printer().print(workItemData), builder);
+            return builder.build();
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Cannot convert human task data of work item", e);
+        }
+    }
+
     private List<KogitoTypesProtobuf.NodeInstanceGroup> buildGroups(List<ContextInstance> exclusiveGroupInstances) {
         if (exclusiveGroupInstances == null) {
             return Collections.emptyList();
@@ -21,6 +21,7 @@ import java.util.ServiceLoader;
 
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Empty;
+import com.google.protobuf.StructProto;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.TypeRegistry;
 import com.google.protobuf.WrappersProto;
@@ -51,6 +52,7 @@ public final class ProtobufTypeRegistryFactory {
                 .add(KogitoNodeInstanceContentsProtobuf.getDescriptor().getMessageTypes())
                 .add(KogitoWorkItemsProtobuf.getDescriptor().getMessageTypes())
                 .add(WrappersProto.getDescriptor().getMessageTypes())
+                .add(StructProto.getDescriptor().getMessageTypes())
                 .add(Timestamp.getDescriptor())
                 .add(Empty.getDescriptor());
 
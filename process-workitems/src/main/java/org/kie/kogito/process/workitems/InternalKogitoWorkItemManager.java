@@ -15,8 +15,10 @@
  */
 package org.kie.kogito.process.workitems;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
@@ -41,6 +43,41 @@ public interface InternalKogitoWorkItemManager extends org.drools.core.process.W
 
     Set<org.drools.core.process.WorkItem> getWorkItems();
 
+    default Collection<InternalKogitoWorkItem> getWorkItems(String processInstanceId) {
+        return getWorkItems().stream()
+                .map(InternalKogitoWorkItem.class::cast)
+                .filter(workItem -> processInstanceId.equals(workItem.getProcessInstanceStringId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the retry policy of the work items with the given name, falling back to the default policy, or
+     * <code>null</code> when failed work items are retried right away.
+     */
+    default WorkItemRetryPolicy getRetryPolicy(String workItemName) {
+        return null;
+    }
+
+    /**
+     * Registers the retry policy of the work items with the given name, or the default policy when the name is
+     * <code>null</code>. Managers that cannot schedule retries ignore it, so their work items keep being retried
+     * right away.
+     */
+    default void registerRetryPolicy(String workItemName, WorkItemRetryPolicy retryPolicy) {
+        // retries are immediate unless the manager keeps policies
+    }
+
+    /**
+     * Notifies the manager that the phase or the assignment of an active work item changed.
+     */
+    default void internalUpdateWorkItem(InternalKogitoWorkItem workItem) {
+        // nothing is derived from work item assignments by default
+    }
+
+    default void internalRemoveWorkItems(String processInstanceId) {
+        getWorkItems(processInstanceId).forEach(workItem -> internalRemoveWorkItem(workItem.getStringId()));
+    }
+
     @Override
     default void registerWorkItemHandler(String workItemName, WorkItemHandler handler) {
         registerWorkItemHandler(workItemName, (KogitoWorkItemHandler) handler);
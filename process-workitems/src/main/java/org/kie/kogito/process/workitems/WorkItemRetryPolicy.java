@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems;
+
+import org.kie.kogito.process.workitems.impl.ExponentialBackoffRetryPolicy;
+import org.kie.kogito.process.workitems.impl.FixedDelayRetryPolicy;
+
+/**
+ * Decides whether and when a failed work item is executed again.
+ * <p>
+ * Retries with a delay are scheduled through the jobs service of the process runtime instead of running on the
+ * thread that reported the failure, see {@link InternalKogitoWorkItemManager#registerRetryPolicy(String, WorkItemRetryPolicy)}.
+ */
+public interface WorkItemRetryPolicy {
+
+    /**
+     * Returns the delay in milliseconds before the given retry attempt, starting at 1, or a negative value when no
+     * further attempt should be made.
+     */
+    long delay(int attempt);
+
+    static WorkItemRetryPolicy fixed(long delayMillis, int maxAttempts) {
+        return new FixedDelayRetryPolicy(delayMillis, maxAttempts);
+    }
+
+    static WorkItemRetryPolicy exponential(long initialDelayMillis, double multiplier, long maxDelayMillis, double jitter, int maxAttempts) {
+        return new ExponentialBackoffRetryPolicy(initialDelayMillis, multiplier, maxDelayMillis, jitter, maxAttempts);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
+
+/**
+ * Retries a work item up to a maximum number of attempts, multiplying the delay after every attempt up to a
+ * maximum. The jitter, between 0 and 1, randomly shortens or lengthens every delay by up to that fraction so
+ * instances failing together do not retry together.
+ */
+public class ExponentialBackoffRetryPolicy implements WorkItemRetryPolicy {
+
+    private final long initialDelayMillis;
+    private final double multiplier;
+    private final long maxDelayMillis;
+    private final double jitter;
+    private final int maxAttempts;
+
+    public ExponentialBackoffRetryPolicy(long initialDelayMillis, double multiplier, long maxDelayMillis, double jitter, int maxAttempts) {
+        if (initialDelayMillis < 0 || maxDelayMillis < initialDelayMillis || maxAttempts < 0) {
+            throw new IllegalArgumentException("Invalid retry delays or max attempts");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Retry multiplier must be at least 1");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Retry jitter must be between 0 and 1");
+        }
+        this.initialDelayMillis = initialDelayMillis;
+        this.multiplier = multiplier;
+        this.maxDelayMillis = maxDelayMillis;
+        this.jitter = jitter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public long delay(int attempt) {
+        if (attempt > maxAttempts) {
+            return -1;
+        }
+        double delay = Math.min(maxDelayMillis, initialDelayMillis * Math.pow(multiplier, attempt - 1d));
+        if (jitter > 0) {
+            delay *= 1 + jitter * ThreadLocalRandom.current().nextDouble(-1, 1);
+        }
+        return Math.round(Math.min(maxDelayMillis, delay));
+    }
+
+    @Override
+    public String toString() {
+        return "ExponentialBackoffRetryPolicy [initialDelayMillis=" + initialDelayMillis + ", multiplier=" + multiplier + ", maxDelayMillis=" + maxDelayMillis + ", jitter="
+                + jitter + ", maxAttempts=" + maxAttempts + "]";
+    }
+}
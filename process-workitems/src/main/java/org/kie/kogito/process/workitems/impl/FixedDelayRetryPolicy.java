@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl;
+
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
+
+/**
+ * Retries a work item up to a maximum number of attempts, waiting the same delay before each one.
+ */
+public class FixedDelayRetryPolicy implements WorkItemRetryPolicy {
+
+    private final long delayMillis;
+    private final int maxAttempts;
+
+    public FixedDelayRetryPolicy(long delayMillis, int maxAttempts) {
+        if (delayMillis < 0 || maxAttempts < 0) {
+            throw new IllegalArgumentException("Retry delay and max attempts cannot be negative");
+        }
+        this.delayMillis = delayMillis;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public long delay(int attempt) {
+        return attempt > maxAttempts ? -1 : delayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedDelayRetryPolicy [delayMillis=" + delayMillis + ", maxAttempts=" + maxAttempts + "]";
+    }
+}
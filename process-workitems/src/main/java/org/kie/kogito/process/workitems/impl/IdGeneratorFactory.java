@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl;
+
+import java.util.ServiceLoader;
+
+import org.kie.kogito.process.workitems.IdGenerator;
+
+/**
+ * Provides the {@link IdGenerator} used for new process instances and work items.
+ * <p>
+ * The built-in generators are selected with the <code>kogito.id.generator</code> system property, either
+ * <code>random</code> (the default) or <code>time-ordered</code>. When the property is not set, the first
+ * {@link IdGenerator} registered through {@link ServiceLoader} is used, falling back to random UUIDs.
+ */
+public class IdGeneratorFactory {
+
+    public static final String ID_GENERATOR_PROPERTY = "kogito.id.generator";
+    public static final String RANDOM = "random";
+    public static final String TIME_ORDERED = "time-ordered";
+
+    public static IdGenerator get() {
+        return LazyHolder.generator;
+    }
+
+    static IdGenerator load(String name) {
+        if (RANDOM.equals(name)) {
+            return new RandomIdGenerator();
+        } else if (TIME_ORDERED.equals(name)) {
+            return new TimeOrderedIdGenerator();
+        } else if (name != null) {
+            throw new IllegalArgumentException("Unknown id generator " + name + ", expected " + RANDOM + " or " + TIME_ORDERED);
+        }
+        return ServiceLoader.load(IdGenerator.class).findFirst().orElseGet(RandomIdGenerator::new);
+    }
+
+    private static class LazyHolder {
+        private static final IdGenerator generator = load(System.getProperty(ID_GENERATOR_PROPERTY));
+    }
+
+    private IdGeneratorFactory() {
+        // It is not allowed to create instances of util classes.
+    }
+}
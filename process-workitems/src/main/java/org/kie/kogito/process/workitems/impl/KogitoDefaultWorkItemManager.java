@@ -21,7 +21,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -36,6 +35,7 @@ import org.kie.kogito.process.workitem.Policy;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 import org.kie.kogito.process.workitems.KogitoWorkItemHandlerNotFoundException;
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
 
 import static org.kie.kogito.internal.process.runtime.KogitoWorkItem.ABORTED;
 import static org.kie.kogito.internal.process.runtime.KogitoWorkItem.COMPLETED;
@@ -45,6 +45,8 @@ public class KogitoDefaultWorkItemManager implements InternalKogitoWorkItemManag
     private Map<String, InternalKogitoWorkItem> workItems = new ConcurrentHashMap<>();
     private KogitoProcessRuntime kruntime;
     private Map<String, KogitoWorkItemHandler> workItemHandlers = new HashMap<>();
+    private final Map<String, WorkItemRetryPolicy> retryPolicies = new ConcurrentHashMap<>();
+    private volatile WorkItemRetryPolicy defaultRetryPolicy;
 
     public KogitoDefaultWorkItemManager(KogitoProcessRuntime kruntime) {
         this.kruntime = kruntime;
@@ -58,7 +60,7 @@ public class KogitoDefaultWorkItemManager implements InternalKogitoWorkItemManag
 
     @Override
     public void internalExecuteWorkItem(InternalKogitoWorkItem workItem) {
-        ((KogitoWorkItemImpl) workItem).setId(UUID.randomUUID().toString());
+        ((KogitoWorkItemImpl) workItem).setId(IdGeneratorFactory.get().generate());
         internalAddWorkItem(workItem);
         KogitoWorkItemHandler handler = this.workItemHandlers.get(workItem.getName());
         if (handler != null) {
@@ -169,6 +171,23 @@ public class KogitoDefaultWorkItemManager implements InternalKogitoWorkItemManag
         return new HashSet<>(workItems.values());
     }
 
+    @Override
+    public WorkItemRetryPolicy getRetryPolicy(String workItemName) {
+        WorkItemRetryPolicy retryPolicy = workItemName == null ? null : retryPolicies.get(workItemName);
+        return retryPolicy == null ? defaultRetryPolicy : retryPolicy;
+    }
+
+    @Override
+    public void registerRetryPolicy(String workItemName, WorkItemRetryPolicy retryPolicy) {
+        if (workItemName == null) {
+            this.defaultRetryPolicy = retryPolicy;
+        } else if (retryPolicy == null) {
+            this.retryPolicies.remove(workItemName);
+        } else {
+            this.retryPolicies.put(workItemName, retryPolicy);
+        }
+    }
+
     @Override
     public void registerWorkItemHandler(String workItemName, KogitoWorkItemHandler handler) {
         this.workItemHandlers.put(workItemName, handler);
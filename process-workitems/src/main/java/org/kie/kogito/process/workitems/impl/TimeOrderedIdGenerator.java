@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.kie.kogito.process.workitems.IdGenerator;
+
+/**
+ * Generates time ordered (version 7) UUIDs: a 48 bit Unix timestamp in milliseconds followed by random bits taken
+ * from {@link ThreadLocalRandom}, so generating ids neither contends on a shared random source nor drains entropy.
+ * Ids created in different milliseconds sort by creation time, which keeps them close together in store indexes.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    @Override
+    public String generate() {
+        return generate(System.currentTimeMillis()).toString();
+    }
+
+    static UUID generate(long timestamp) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (timestamp << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdGeneratorFactoryTest {
+
+    @Test
+    void testTimeOrderedIdsAreVersion7() {
+        UUID id = UUID.fromString(new TimeOrderedIdGenerator().generate());
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void testTimeOrderedIdsSortByTimestamp() {
+        long now = System.currentTimeMillis();
+        UUID first = TimeOrderedIdGenerator.generate(now);
+        UUID second = TimeOrderedIdGenerator.generate(now + 1);
+        assertThat(first.getMostSignificantBits() >>> 16).isEqualTo(now);
+        assertThat(first.toString()).isLessThan(second.toString());
+    }
+
+    @Test
+    void testBuiltInGenerators() {
+        assertThat(IdGeneratorFactory.load(IdGeneratorFactory.RANDOM)).isInstanceOf(RandomIdGenerator.class);
+        assertThat(IdGeneratorFactory.load(IdGeneratorFactory.TIME_ORDERED)).isInstanceOf(TimeOrderedIdGenerator.class);
+        assertThat(IdGeneratorFactory.load(null)).isInstanceOf(RandomIdGenerator.class);
+        assertThatThrownBy(() -> IdGeneratorFactory.load("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.workitems.WorkItemRetryPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WorkItemRetryPolicyTest {
+
+    @Test
+    void testFixedDelay() {
+        WorkItemRetryPolicy retryPolicy = WorkItemRetryPolicy.fixed(100, 2);
+        assertThat(retryPolicy.delay(1)).isEqualTo(100);
+        assertThat(retryPolicy.delay(2)).isEqualTo(100);
+        assertThat(retryPolicy.delay(3)).isNegative();
+    }
+
+    @Test
+    void testExponentialBackoff() {
+        WorkItemRetryPolicy retryPolicy = WorkItemRetryPolicy.exponential(100, 2, 500, 0, 5);
+        assertThat(retryPolicy.delay(1)).isEqualTo(100);
+        assertThat(retryPolicy.delay(2)).isEqualTo(200);
+        assertThat(retryPolicy.delay(3)).isEqualTo(400);
+        assertThat(retryPolicy.delay(4)).isEqualTo(500);
+        assertThat(retryPolicy.delay(6)).isNegative();
+    }
+
+    @Test
+    void testExponentialBackoffJitter() {
+        WorkItemRetryPolicy retryPolicy = WorkItemRetryPolicy.exponential(1000, 2, 10000, 0.5, 3);
+        for (int i = 0; i < 100; i++) {
+            assertThat(retryPolicy.delay(2)).isBetween(1000L, 3000L);
+        }
+        assertThatThrownBy(() -> WorkItemRetryPolicy.exponential(100, 2, 500, 2, 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRetryPolicyOverrides() {
+        KogitoDefaultWorkItemManager workItemManager = new KogitoDefaultWorkItemManager(null);
+        WorkItemRetryPolicy defaultPolicy = WorkItemRetryPolicy.fixed(10, 1);
+        WorkItemRetryPolicy restPolicy = WorkItemRetryPolicy.exponential(10, 2, 100, 0, 3);
+        assertThat(workItemManager.getRetryPolicy("Rest")).isNull();
+        workItemManager.registerRetryPolicy(null, defaultPolicy);
+        workItemManager.registerRetryPolicy("Rest", restPolicy);
+        assertThat(workItemManager.getRetryPolicy("Rest")).isSameAs(restPolicy);
+        assertThat(workItemManager.getRetryPolicy("Email")).isSameAs(defaultPolicy);
+    }
+}